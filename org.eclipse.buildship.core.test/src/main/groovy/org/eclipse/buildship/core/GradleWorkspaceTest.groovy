@@ -33,6 +33,53 @@ class GradleWorkspaceTest extends ProjectSynchronizationSpecification {
         GradleCore.workspace.getBuild(project).present
     }
 
+    def "Gradle builds follow the workspace changes"() {
+        setup:
+        importAndWait(dir("GradleWorkspaceTest"))
+        IProject project = findProject("GradleWorkspaceTest")
+
+        expect:
+        CorePlugin.internalGradleWorkspace().gradleBuilds.size() == 1
+        CorePlugin.internalGradleWorkspace().gradleBuilds == [GradleCore.workspace.getBuild(project).get()] as Set
+
+        when:
+        CorePlugin.workspaceOperations().removeNature(project, GradleProjectNature.ID, new NullProgressMonitor())
+
+        then:
+        !GradleCore.workspace.getBuild(project).present
+        CorePlugin.internalGradleWorkspace().gradleBuilds.empty
+
+        when:
+        CorePlugin.workspaceOperations().addNature(project, GradleProjectNature.ID, new NullProgressMonitor())
+
+        then:
+        GradleCore.workspace.getBuild(project).present
+        CorePlugin.internalGradleWorkspace().gradleBuilds.size() == 1
+
+        when:
+        project.delete(false, true, new NullProgressMonitor())
+
+        then:
+        CorePlugin.internalGradleWorkspace().gradleBuilds.empty
+    }
+
+    def "Gradle builds follow the build configuration changes"() {
+        setup:
+        File projectDir = dir("GradleWorkspaceTest")
+        importAndWait(projectDir)
+        IProject project = findProject("GradleWorkspaceTest")
+
+        expect:
+        !CorePlugin.internalGradleWorkspace().gradleBuilds[0].buildConfig.offlineMode
+
+        when:
+        configurationManager.saveBuildConfiguration(configurationManager.createBuildConfiguration(projectDir.canonicalFile, true, GradleDistribution.fromBuild(), null, null, false, true, false, [], [], false, false))
+
+        then:
+        CorePlugin.internalGradleWorkspace().gradleBuilds[0].buildConfig.offlineMode
+        GradleCore.workspace.getBuild(project).get().buildConfig.offlineMode
+    }
+
     def "Cannot create a null build"() {
         when:
         GradleCore.workspace.createBuild(null)
@@ -1,5 +1,8 @@
 package org.eclipse.buildship.core
 
+import org.gradle.tooling.model.GradleProject
+import org.gradle.tooling.model.eclipse.EclipseProject
+
 class ProjectConfiguratorTest extends BaseProjectConfiguratorTest {
 
     ProjectConfigurator configurator
@@ -19,6 +22,26 @@ class ProjectConfiguratorTest extends BaseProjectConfiguratorTest {
         1 * configurator.init(_, _)
     }
 
+    def "Models are available during initialization"() {
+        setup:
+        File location = dir('ProjectConfiguratorTest') {
+            file "settings.gradle", "rootProject.name = 'root'"
+        }
+        Collection<EclipseProject> eclipseProjects = null
+        Collection<GradleProject> gradleProjects = null
+
+        when:
+        importAndWait(location)
+
+        then:
+        1 * configurator.init(_, _) >> { InitializationContext context, monitor ->
+            eclipseProjects = context.getModels(EclipseProject)
+            gradleProjects = context.getModels(GradleProject)
+        }
+        eclipseProjects.collect { it.name } == ['root']
+        gradleProjects.collect { it.name } == ['root']
+    }
+
     def "configure() called for each project"() {
         setup:
         File location = dir('ProjectConfiguratorTest') {
@@ -8,6 +8,7 @@ import org.eclipse.core.runtime.NullProgressMonitor
 
 import org.eclipse.buildship.core.GradleDistribution
 import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.util.cache.CacheStatistics
 import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
 
 class ProjectConfigurationTest extends ProjectSynchronizationSpecification {
@@ -304,6 +305,62 @@ class ProjectConfigurationTest extends ProjectSynchronizationSpecification {
         configurationManager.buildConfigurationPersistence.readPathToRoot(projectDir) == "../$rootProjectDir.name"
     }
 
+    def "loaded project configurations are cached until the preferences change"() {
+        setup:
+        BuildConfiguration buildConfig = createOverridingBuildConfiguration(rootProjectDir, GradleDistribution.forVersion('2.0'))
+        configurationManager.saveProjectConfiguration(configurationManager.createProjectConfiguration(buildConfig, projectDir))
+        CacheStatistics initialStatistics = configurationManager.cacheStatistics
+
+        when:
+        configurationManager.loadProjectConfiguration(project)
+        configurationManager.loadProjectConfiguration(project)
+        CacheStatistics statistics = configurationManager.cacheStatistics.minus(initialStatistics)
+
+        then:
+        statistics.stats.missCount() == 2
+        statistics.stats.hitCount() == 2
+
+        when:
+        setInvalidPreferenceOn(project)
+        configurationManager.loadProjectConfiguration(project)
+
+        then:
+        thrown RuntimeException
+
+        when:
+        BuildConfiguration updatedBuildConfig = createOverridingBuildConfiguration(rootProjectDir, GradleDistribution.forVersion('3.0'))
+        configurationManager.saveProjectConfiguration(configurationManager.createProjectConfiguration(updatedBuildConfig, projectDir))
+
+        then:
+        configurationManager.loadProjectConfiguration(project).buildConfiguration == updatedBuildConfig
+    }
+
+    def "changes of other projects don't invalidate the cached project configurations"() {
+        setup:
+        BuildConfiguration buildConfig = createOverridingBuildConfiguration(rootProjectDir, GradleDistribution.forVersion('2.0'))
+        configurationManager.saveProjectConfiguration(configurationManager.createProjectConfiguration(buildConfig, projectDir))
+        configurationManager.loadProjectConfiguration(project)
+        CacheStatistics initialStatistics = configurationManager.cacheStatistics
+
+        when:
+        workspaceOperations.createProject("other-project", dir('other-project-dir'), [], new NullProgressMonitor())
+        configurationManager.loadProjectConfiguration(project)
+        CacheStatistics statistics = configurationManager.cacheStatistics.minus(initialStatistics)
+
+        then:
+        statistics.stats.missCount() == 0
+        statistics.stats.hitCount() == 2
+
+        when:
+        project.close(new NullProgressMonitor())
+        project.open(new NullProgressMonitor())
+        configurationManager.loadProjectConfiguration(project)
+        statistics = configurationManager.cacheStatistics.minus(initialStatistics)
+
+        then:
+        statistics.stats.missCount() == 1
+    }
+
     private void setInvalidPreferenceOn(IProject project) {
         PreferenceStore preferences = PreferenceStore.forProjectScope(project, CorePlugin.PLUGIN_ID)
         preferences.write(BuildConfigurationPersistence.PREF_KEY_CONNECTION_PROJECT_DIR, '../nonexistent-project')
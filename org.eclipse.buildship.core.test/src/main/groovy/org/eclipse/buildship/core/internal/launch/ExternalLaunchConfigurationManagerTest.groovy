@@ -119,6 +119,56 @@ class ExternalLaunchConfigurationManagerTest extends WorkspaceSpecification {
         !hasGradleClasspathProvider(configurationB)
     }
 
+    def "Can update all launch configurations of multiple projects at once"() {
+        setup:
+        IJavaProject projectA = newJavaProject('ext-run-config-manager-test-a')
+        IJavaProject projectB = newJavaProject('ext-run-config-manager-test-b')
+        IJavaProject projectC = newJavaProject('ext-run-config-manager-test-c')
+        ILaunchConfiguration configurationA = createJdtLaunchConfigFor(projectA)
+        ILaunchConfiguration configurationB = createJdtLaunchConfigFor(projectB)
+        ILaunchConfiguration configurationC = createJdtLaunchConfigFor(projectC)
+        addGradleNature(projectA)
+        addGradleNature(projectB)
+        addGradleNature(projectC)
+
+        when:
+        manager.updateClasspathProviders([projectA.project, projectB.project])
+
+        then:
+        hasGradleClasspathProvider(configurationA)
+        hasGradleClasspathProvider(configurationB)
+        !hasGradleClasspathProvider(configurationC)
+    }
+
+    def "Launch configuration index follows the configuration changes"() {
+        setup:
+        LaunchConfigurationIndex index = new LaunchConfigurationIndex()
+        IJavaProject projectA = newJavaProject('ext-run-config-manager-test-a')
+        IJavaProject projectB = newJavaProject('ext-run-config-manager-test-b')
+        ILaunchConfiguration configuration = createJdtLaunchConfigFor(projectA)
+
+        expect:
+        index.getConfigurations([projectA.project.name]) == [configuration]
+        index.getConfigurations([projectB.project.name]) == []
+
+        when:
+        ILaunchConfigurationWorkingCopy workingCopy = configuration.workingCopy
+        workingCopy.setAttribute(ATTR_PROJECT_NAME, projectB.project.name)
+        configuration = workingCopy.doSave()
+        index.configurationChanged(configuration)
+
+        then:
+        index.getConfigurations([projectA.project.name]) == []
+        index.getConfigurations([projectA.project.name, projectB.project.name]) == [configuration]
+
+        when:
+        configuration.delete()
+        index.configurationRemoved(configuration)
+
+        then:
+        index.getConfigurations([projectA.project.name, projectB.project.name]) == []
+    }
+
     private ILaunchConfiguration createJdtLaunchConfigFor(IJavaProject javaProject, Map<String, String> attributes = [:]) {
         IProject project = javaProject.project
         ILaunchConfigurationWorkingCopy launchConfig = createLaunchConfig(SupportedLaunchConfigType.JDT_JAVA_APPLICATION.id)
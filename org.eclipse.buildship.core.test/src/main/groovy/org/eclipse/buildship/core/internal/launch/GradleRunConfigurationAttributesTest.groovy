@@ -17,6 +17,7 @@ import org.eclipse.debug.core.ILaunchConfiguration
 
 import org.eclipse.buildship.core.GradleDistribution
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException
+import org.eclipse.buildship.core.internal.gradle.ProgressDetail
 import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
 
 class GradleRunConfigurationAttributesTest extends WorkspaceSpecification {
@@ -34,6 +35,7 @@ class GradleRunConfigurationAttributesTest extends WorkspaceSpecification {
         overrideBuildSettings : false,
         isOffline: false,
         buildScansEnabled: false,
+        progressDetail: ProgressDetail.TASKS,
     )
 
     def "Can create an instance from empty run configuration"() {
@@ -56,6 +58,7 @@ class GradleRunConfigurationAttributesTest extends WorkspaceSpecification {
         attributes.overrideBuildSettings == false
         attributes.isOffline == false
         attributes.buildScansEnabled ==false
+        attributes.progressDetail == ProgressDetail.FULL
     }
 
     def "Can create a new valid instance"() {
@@ -76,6 +79,7 @@ class GradleRunConfigurationAttributesTest extends WorkspaceSpecification {
         configuration.isOverrideBuildSettings() == validAttributes.overrideBuildSettings
         configuration.isOffline() == validAttributes.isOffline
         configuration.isBuildScansEnabled() == validAttributes.buildScansEnabled
+        configuration.getProgressDetail() == validAttributes.progressDetail
         // check calculated value
         configuration.getArgumentExpressions() == validAttributes.arguments
         configuration.getJvmArgumentExpressions() == validAttributes.jvmArguments
@@ -111,7 +115,8 @@ class GradleRunConfigurationAttributesTest extends WorkspaceSpecification {
             validAttributes.copy { tasks = null },
             validAttributes.copy { workingDir = null },
             validAttributes.copy { jvmArguments = null},
-            validAttributes.copy { arguments = null}
+            validAttributes.copy { arguments = null},
+            validAttributes.copy { progressDetail = null },
         ]
     }
 
@@ -221,11 +226,13 @@ class GradleRunConfigurationAttributesTest extends WorkspaceSpecification {
         gradleConfig1.isOverrideBuildSettings() == gradleConfig2.isOverrideBuildSettings()
         gradleConfig1.isOffline() == gradleConfig2.isOffline()
         gradleConfig1.isBuildScansEnabled() == gradleConfig2.isBuildScansEnabled()
+        gradleConfig1.getProgressDetail() == gradleConfig2.getProgressDetail()
 
         where:
         attributes << [
             validAttributes,
             validAttributes.copy { javaHome = null },
+            validAttributes.copy { progressDetail = ProgressDetail.NONE },
         ]
     }
 
@@ -254,9 +261,10 @@ class GradleRunConfigurationAttributesTest extends WorkspaceSpecification {
         def overrideBuildSettings
         def isOffline
         def buildScansEnabled
+        def progressDetail
 
         def GradleRunConfigurationAttributes toConfiguration() {
-            new GradleRunConfigurationAttributes(tasks, workingDir, gradleDistr, gradleUserHome, javaHome, jvmArguments, arguments, showExecutionView, showConsoleView, overrideBuildSettings, isOffline, buildScansEnabled)
+            new GradleRunConfigurationAttributes(tasks, workingDir, gradleDistr, gradleUserHome, javaHome, jvmArguments, arguments, showExecutionView, showConsoleView, overrideBuildSettings, isOffline, buildScansEnabled, progressDetail)
         }
 
         def Attributes copy(@DelegatesTo(value = Attributes, strategy=Closure.DELEGATE_FIRST) Closure closure) {
@@ -53,8 +53,9 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         command.setBuilderName('custom-command')
         def managedBuilders = [command]
         def hasAutoBuildTasks = true
+        def modelDigest = 'digest'
 
-        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks)
+        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, modelDigest)
 
         when:
         CorePlugin.modelPersistence().saveModel(model)
@@ -68,6 +69,7 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         model.classpath == classpath
         model.derivedResources == derivedResources
         model.linkedResources == linkedResources
+        model.modelDigest == modelDigest
     }
 
     def "Can delete a model"() {
@@ -83,8 +85,9 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         command.setBuilderName('custom-command')
         def managedBuilders = [command]
         def hasAutoBuildTasks = false
+        def modelDigest = 'digest'
 
-        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks)
+        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, modelDigest)
         CorePlugin.modelPersistence().saveModel(model)
 
         when:
@@ -108,8 +111,9 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         command.setBuilderName('custom-command')
         def managedBuilders = [command]
         def hasAutoBuildTasks = true
+        def modelDigest = 'digest'
 
-        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks)
+        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, modelDigest)
         CorePlugin.modelPersistence().saveModel(model)
 
         when:
@@ -137,4 +141,110 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         then:
         notThrown RuntimeException
     }
+
+    def "Models stored in the legacy format are migrated"() {
+        setup:
+        DefaultModelPersistence persistence = CorePlugin.modelPersistence()
+        PersistentModel model = new DefaultPersistentModel(project, new Path('buildDir'), new Path('build.gradle'), [new Path('subproject')],
+            [JavaCore.newProjectEntry(new Path('/project-path'))], [new Path('derived')], [], [], [], true, 'digest')
+        File legacyFile = CorePlugin.instance.stateLocation.append('project-preferences').append(project.name).toFile()
+        legacyFile.parentFile.mkdirs()
+        legacyFile.withWriter('UTF-8') { PersistentModelConverter.toProperties(model).store(it, '') }
+
+        when:
+        persistence.persistAllProjectPrefs()
+        persistence.modelCache.invalidateAll()
+
+        then:
+        !legacyFile.exists()
+        persistence.loadModel(project) == model
+    }
+
+    def "Saved models are written to the disk in the background"() {
+        setup:
+        DefaultModelPersistence persistence = CorePlugin.modelPersistence()
+        PersistentModel model = new DefaultPersistentModel(project, new Path('buildDir'), new Path('build.gradle'), [], [], [], [], [], [], false, 'digest')
+
+        when:
+        persistence.saveModel(model)
+        persistence.writeJob.join()
+
+        then:
+        persistence.dirtyProjects.empty
+        PersistentModelIndex.open(CorePlugin.instance.stateLocation.append('project-models').toFile()).read(project) == model
+    }
+
+    def "Deleted models are removed from the disk"() {
+        setup:
+        DefaultModelPersistence persistence = CorePlugin.modelPersistence()
+        persistence.saveModel(new DefaultPersistentModel(project, new Path('buildDir'), new Path('build.gradle'), [], [], [], [], [], [], false, null))
+        persistence.persistAllProjectPrefs()
+
+        when:
+        persistence.deleteModel(project)
+        persistence.persistAllProjectPrefs()
+
+        then:
+        PersistentModelIndex.open(CorePlugin.instance.stateLocation.append('project-models').toFile()).read(project) == null
+    }
+
+    def "Deleted models are not restored by a new index generation"() {
+        setup:
+        DefaultModelPersistence persistence = CorePlugin.modelPersistence()
+        persistence.saveModel(new DefaultPersistentModel(project, new Path('buildDir'), new Path('build.gradle'), [], [], [], [], [], [], false, null))
+        persistence.persistAllProjectPrefs()
+
+        when:
+        persistence.deleteModel(project)
+        persistence.index = persistence.index.write(CorePlugin.instance.stateLocation.append('project-models').toFile(), ['sample-project' : persistence.index.read(project)])
+        persistence.modelCache.invalidateAll()
+
+        then:
+        !persistence.loadModel(project).present
+
+        when:
+        persistence.persistAllProjectPrefs()
+
+        then:
+        persistence.pendingIndexNames.isEmpty()
+        PersistentModelIndex.open(CorePlugin.instance.stateLocation.append('project-models').toFile()).read(project) == null
+    }
+
+    def "Saved models evicted from the cache are written to the disk"() {
+        setup:
+        DefaultModelPersistence persistence = CorePlugin.modelPersistence()
+        PersistentModel model = new DefaultPersistentModel(project, new Path('buildDir'), new Path('build.gradle'), [], [], [], [], [], [], false, 'digest')
+        persistence.saveModel(model)
+
+        when:
+        persistence.modelCache.invalidateAll()
+
+        then:
+        persistence.loadModel(project) == model
+
+        when:
+        persistence.modelCache.invalidateAll()
+        persistence.persistAllProjectPrefs()
+
+        then:
+        persistence.pendingModels.isEmpty()
+        PersistentModelIndex.open(CorePlugin.instance.stateLocation.append('project-models').toFile()).read(project) == model
+    }
+
+    def "Models of renamed projects are written under the new name"() {
+        setup:
+        DefaultModelPersistence persistence = CorePlugin.modelPersistence()
+        persistence.saveModel(new DefaultPersistentModel(project, new Path('buildDir'), new Path('build.gradle'), [], [], [], [], [], [], false, 'digest'))
+        persistence.persistAllProjectPrefs()
+        persistence.modelCache.invalidateAll()
+
+        when:
+        project = CorePlugin.workspaceOperations().renameProject(project, 'new-project-name', new NullProgressMonitor())
+        persistence.persistAllProjectPrefs()
+
+        then:
+        PersistentModelIndex index = PersistentModelIndex.open(CorePlugin.instance.stateLocation.append('project-models').toFile())
+        index.read(project).buildDir == new Path('buildDir')
+        index.read(workspace.root.getProject('sample-project')) == null
+    }
 }
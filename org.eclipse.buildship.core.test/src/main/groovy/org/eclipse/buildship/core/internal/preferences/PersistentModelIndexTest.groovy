@@ -0,0 +1,127 @@
+package org.eclipse.buildship.core.internal.preferences
+
+import org.eclipse.core.resources.IProject
+import org.eclipse.core.runtime.Path
+import org.eclipse.jdt.core.IAccessRule
+import org.eclipse.jdt.core.IClasspathAttribute
+import org.eclipse.jdt.core.IClasspathEntry
+import org.eclipse.jdt.core.JavaCore
+
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class PersistentModelIndexTest extends WorkspaceSpecification {
+
+    IProject project
+    File indexDir
+
+    def setup() {
+        project = newProject('sample-project')
+        indexDir = dir('index')
+    }
+
+    def "Empty index is returned if the directory contains no index file"() {
+        expect:
+        PersistentModelIndex.open(indexDir).projectNames.empty
+    }
+
+    def "Can write and read models"() {
+        setup:
+        IAccessRule[] rules = [JavaCore.newAccessRule(new Path('com/**'), IAccessRule.K_DISCOURAGED)]
+        IClasspathAttribute[] attributes = [JavaCore.newClasspathAttribute('gradle_scope', 'main')]
+        List<IClasspathEntry> classpath = [
+            JavaCore.newLibraryEntry(new Path('/home/.gradle/lib.jar'), new Path('/home/.gradle/lib-sources.jar'), null, rules, attributes, true),
+            JavaCore.newProjectEntry(new Path('/other-project'), rules, false, attributes, false),
+            JavaCore.newLibraryEntry(project.fullPath.append('libs/local.jar'), null, null),
+            JavaCore.newContainerEntry(new Path('org.eclipse.jdt.launching.JRE_CONTAINER'))
+        ]
+        def command = project.description.newCommand()
+        command.builderName = 'custom-command'
+        command.arguments = ['key' : 'value']
+        PersistentModel model = new DefaultPersistentModel(project, new Path('build'), new Path('build.gradle'), [new Path('sub')], classpath,
+            [new Path('build')], [new Path('linked')], ['custom.nature'], [command], true, 'digest')
+
+        when:
+        PersistentModelIndex index = PersistentModelIndex.open(indexDir).write(indexDir, ['sample-project' : model])
+
+        then:
+        index.projectNames == ['sample-project'] as Set
+        index.read(project) == model
+        PersistentModelIndex.open(indexDir).read(project) == model
+    }
+
+    def "Paths inside the project are relative to the project"() {
+        setup:
+        List<IClasspathEntry> classpath = [JavaCore.newLibraryEntry(project.fullPath.append('libs/local.jar'), null, null)]
+        PersistentModel model = new DefaultPersistentModel(project, new Path('build'), new Path('build.gradle'), [], classpath, [], [], [], [], false, null)
+        PersistentModelIndex index = PersistentModelIndex.open(indexDir).write(indexDir, ['sample-project' : model])
+        IProject renamed = workspace.root.getProject('renamed-project')
+
+        expect:
+        index.read('sample-project', renamed).classpath[0].path.toPortableString() == '/renamed-project/libs/local.jar'
+    }
+
+    def "Previous index generations are deleted"() {
+        setup:
+        PersistentModel model = new DefaultPersistentModel(project, new Path('build'), new Path('build.gradle'), [], [], [], [], [], [], false, null)
+
+        when:
+        PersistentModelIndex index = PersistentModelIndex.open(indexDir)
+        index = index.write(indexDir, ['sample-project' : model])
+        index = index.write(indexDir, [:])
+
+        then:
+        indexDir.list() as List == ['index.2']
+        index.projectNames.empty
+    }
+
+    def "Changed models are appended to the journal"() {
+        setup:
+        IProject other = newProject('other-project')
+        PersistentModel model = new DefaultPersistentModel(project, new Path('build'), new Path('build.gradle'), [], [], [], [], [], [], false, null)
+        PersistentModel otherModel = new DefaultPersistentModel(other, new Path('out'), new Path('build.gradle'), [], [], [], [], [], [], true, 'digest')
+        PersistentModelIndex index = PersistentModelIndex.open(indexDir).write(indexDir, ['sample-project' : model])
+
+        when:
+        index.append(indexDir, ['other-project' : otherModel], ['sample-project'])
+
+        then:
+        indexDir.list() as Set == ['index.1', 'index.1.journal'] as Set
+        index.projectNames == ['other-project'] as Set
+        index.read(other) == otherModel
+
+        when:
+        PersistentModelIndex reopened = PersistentModelIndex.open(indexDir)
+
+        then:
+        reopened.projectNames == ['other-project'] as Set
+        reopened.read(other) == otherModel
+        !reopened.compactionRequired
+    }
+
+    def "Changes are not appended without an index file"() {
+        expect:
+        PersistentModelIndex.open(indexDir).compactionRequired
+    }
+
+    def "Corrupt journal entries are ignored"() {
+        setup:
+        PersistentModel model = new DefaultPersistentModel(project, new Path('build'), new Path('build.gradle'), [], [], [], [], [], [], false, null)
+        PersistentModelIndex.open(indexDir).write(indexDir, [:]).append(indexDir, ['sample-project' : model], [])
+        new File(indexDir, 'index.1.journal') << ([0, 0, 0, 100, 1, 2, 3] as byte[])
+
+        when:
+        PersistentModelIndex index = PersistentModelIndex.open(indexDir)
+
+        then:
+        index.read(project) == model
+        index.compactionRequired
+    }
+
+    def "Corrupt index is ignored"() {
+        setup:
+        new File(indexDir, 'index.1').bytes = [1, 2, 3] as byte[]
+
+        expect:
+        PersistentModelIndex.open(indexDir).projectNames.empty
+    }
+}
@@ -0,0 +1,87 @@
+package org.eclipse.buildship.core.internal.util.cache
+
+import com.google.common.cache.Cache
+import spock.lang.Specification
+
+import org.eclipse.core.resources.ResourcesPlugin
+import org.eclipse.core.runtime.Path
+import org.eclipse.core.runtime.preferences.InstanceScope
+import org.eclipse.jdt.core.JavaCore
+
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.preferences.DefaultPersistentModel
+import org.eclipse.buildship.core.internal.preferences.PersistentModel
+
+class CachePolicyTest extends Specification {
+
+    def "Statistics are reported for the registered caches"() {
+        setup:
+        Cache<Object, Object> cache = CachePolicy.SYNCHRONIZATION.newCache()
+        CacheStatistics before = CachePolicy.SYNCHRONIZATION.statistics
+
+        when:
+        cache.put('key', ['a', 'b'])
+        cache.getIfPresent('key')
+        cache.getIfPresent('missing')
+        CacheStatistics after = CachePolicy.SYNCHRONIZATION.statistics
+
+        then:
+        after.cacheCount >= 1
+        after.stats.hitCount() - before.stats.hitCount() == 1
+        after.stats.missCount() - before.stats.missCount() == 1
+        after.weight - before.weight == 3
+    }
+
+    def "Persistent models are weighed by their classpath"() {
+        setup:
+        def project = ResourcesPlugin.workspace.root.getProject('sample-project')
+        PersistentModel model = new DefaultPersistentModel(project, new Path('buildDir'), new Path('build.gradle'), [],
+            [JavaCore.newProjectEntry(new Path('/a')), JavaCore.newProjectEntry(new Path('/b'))], [], [], [], [], false, 'digest')
+
+        expect:
+        ModelWeigher.INSTANCE.weigh(project, model) == 3
+    }
+
+    def "Entries exceeding the configured budget are evicted"() {
+        setup:
+        def preferences = InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID)
+        preferences.putLong('cache.synchronization.maximumWeight', 10)
+        Cache<Object, Object> cache = CachePolicy.SYNCHRONIZATION.newCache()
+
+        when:
+        cache.put('first', (1..8).toList())
+        cache.put('second', (1..8).toList())
+
+        then:
+        cache.size() == 1
+        cache.getIfPresent('second') != null
+
+        cleanup:
+        preferences.remove('cache.synchronization.maximumWeight')
+    }
+
+    def "Loads and bypassed lookups are included in the statistics"() {
+        setup:
+        Cache<Object, Object> cache = CachePolicy.SYNCHRONIZATION.newCache()
+        CacheMetrics metrics = CachePolicy.SYNCHRONIZATION.getMetrics(cache)
+        CacheStatistics before = CachePolicy.SYNCHRONIZATION.getStatistics(cache)
+
+        when:
+        cache.put('key', metrics.recordLoad { 'value' })
+        metrics.recordBypass()
+        CacheStatistics usage = CachePolicy.SYNCHRONIZATION.getStatistics(cache).minus(before)
+
+        then:
+        usage.stats.loadSuccessCount() == 1
+        usage.bypassCount == 1
+        usage.size == 1
+    }
+
+    def "Metrics are only available for registered caches"() {
+        when:
+        CachePolicy.SYNCHRONIZATION.getMetrics(CachePolicy.MODEL_PROVIDER.newCache())
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
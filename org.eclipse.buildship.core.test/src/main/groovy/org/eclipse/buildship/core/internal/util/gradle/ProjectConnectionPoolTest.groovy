@@ -0,0 +1,129 @@
+package org.eclipse.buildship.core.internal.util.gradle
+
+import org.gradle.tooling.ProjectConnection
+import org.gradle.tooling.model.build.BuildEnvironment
+
+import org.eclipse.buildship.core.GradleDistribution
+import org.eclipse.buildship.core.internal.configuration.GradleArguments
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class ProjectConnectionPoolTest extends WorkspaceSpecification {
+
+    ProjectConnectionPool pool
+    File rootDir
+
+    def setup() {
+        pool = new ProjectConnectionPool()
+        rootDir = dir('pooled-build') {
+            file 'settings.gradle', ''
+            dir('gradle/wrapper') {
+                file 'gradle-wrapper.properties', 'distributionUrl=https://services.gradle.org/distributions/gradle-5.5-bin.zip'
+            }
+        }
+    }
+
+    def cleanup() {
+        pool.close()
+    }
+
+    def "Connection is reused by operations with different arguments"() {
+        when:
+        pool.acquire(arguments(GradleDistribution.fromBuild(), ['--info'])).close()
+        pool.acquire(arguments(GradleDistribution.fromBuild(), ['--debug'])).close()
+
+        then:
+        pool.pooledConnectionCount == 1
+    }
+
+    def "Separate connections are used for different distributions"() {
+        when:
+        pool.acquire(arguments(GradleDistribution.fromBuild())).close()
+        pool.acquire(arguments(GradleDistribution.forVersion('5.5'))).close()
+
+        then:
+        pool.pooledConnectionCount == 2
+    }
+
+    def "Connections with stale configuration are closed"() {
+        setup:
+        pool.acquire(arguments(GradleDistribution.fromBuild())).close()
+        pool.acquire(arguments(GradleDistribution.forVersion('5.5'))).close()
+
+        when:
+        pool.invalidateStale(arguments(GradleDistribution.forVersion('5.5')))
+
+        then:
+        pool.pooledConnectionCount == 1
+    }
+
+    def "Connection is replaced when the wrapper properties change"() {
+        setup:
+        ProjectConnection first = pool.acquire(arguments(GradleDistribution.fromBuild()))
+        first.close()
+
+        when:
+        File properties = new File(rootDir, 'gradle/wrapper/gradle-wrapper.properties')
+        properties.text = 'distributionUrl=https://services.gradle.org/distributions/gradle-5.6-bin.zip'
+        properties.lastModified = properties.lastModified() + 1000
+        ProjectConnection second = pool.acquire(arguments(GradleDistribution.fromBuild()))
+
+        then:
+        second.connection != first.connection
+        pool.pooledConnectionCount == 1
+
+        cleanup:
+        second.close()
+    }
+
+    def "Build environment is loaded once per connection"() {
+        setup:
+        rootDir = dir('build-without-wrapper') { file 'settings.gradle', '' }
+        ProjectConnection first = pool.acquire(arguments(GradleDistribution.fromBuild()))
+        BuildEnvironment buildEnvironment = first.getModel(BuildEnvironment)
+        first.close()
+
+        when:
+        ProjectConnection second = pool.acquire(arguments(GradleDistribution.fromBuild()))
+
+        then:
+        second.getModel(BuildEnvironment).is(buildEnvironment)
+
+        cleanup:
+        second.close()
+    }
+
+    def "Build environment is reloaded when the gradle.properties file changes"() {
+        setup:
+        rootDir = dir('build-with-properties') { file 'settings.gradle', '' }
+        ProjectConnection first = pool.acquire(arguments(GradleDistribution.fromBuild()))
+        BuildEnvironment buildEnvironment = first.getModel(BuildEnvironment)
+        first.close()
+
+        when:
+        File properties = new File(rootDir, 'gradle.properties')
+        properties.text = 'org.gradle.jvmargs=-Xmx512m'
+        ProjectConnection second = pool.acquire(arguments(GradleDistribution.fromBuild()))
+
+        then:
+        second.connection == first.connection
+        !second.getModel(BuildEnvironment).is(buildEnvironment)
+        second.getModel(BuildEnvironment).java.jvmArguments.contains('-Xmx512m')
+
+        cleanup:
+        second.close()
+    }
+
+    def "Connections are not pooled after the pool is closed"() {
+        when:
+        pool.acquire(arguments(GradleDistribution.fromBuild())).close()
+        pool.close()
+        pool.acquire(arguments(GradleDistribution.fromBuild())).close()
+
+        then:
+        pool.pooledConnectionCount == 0
+    }
+
+    private GradleArguments arguments(GradleDistribution distribution, List<String> arguments = []) {
+        GradleArguments.from(rootDir, distribution, null, null, false, false, arguments, [])
+    }
+}
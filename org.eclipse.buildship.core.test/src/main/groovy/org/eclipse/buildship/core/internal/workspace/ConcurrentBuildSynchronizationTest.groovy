@@ -0,0 +1,66 @@
+package org.eclipse.buildship.core.internal.workspace
+
+import org.gradle.tooling.GradleConnector
+
+import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.core.runtime.preferences.InstanceScope
+
+import org.eclipse.buildship.core.SynchronizationResult
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.DefaultGradleBuild
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNature
+import org.eclipse.buildship.core.internal.operation.ToolingApiStatus.ToolingApiStatusType
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class ConcurrentBuildSynchronizationTest extends ProjectSynchronizationSpecification {
+
+    def setup() {
+        InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID).putInt('synchronization.concurrent.builds', 3)
+    }
+
+    def cleanup() {
+        InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID).remove('synchronization.concurrent.builds')
+    }
+
+    def "Multiple builds are synchronized in a single job"() {
+        setup:
+        List<File> locations = (1..3).collect { index ->
+            dir("build$index") {
+                file 'settings.gradle', "rootProject.name = 'build$index'\ninclude 'sub$index'"
+                dir("sub$index")
+            }
+        }
+
+        when:
+        new SynchronizationJob(NewProjectHandler.IMPORT_AND_MERGE, locations.collect { gradleBuildFor(it) }).schedule()
+        waitForGradleJobsToFinish()
+
+        then:
+        (1..3).each {
+            assert GradleProjectNature.isPresentOn(findProject("build$it"))
+            assert GradleProjectNature.isPresentOn(findProject("sub$it"))
+        }
+    }
+
+    def "A failing build doesn't prevent the synchronization of the other builds"() {
+        setup:
+        File broken = dir('broken') {
+            file 'settings.gradle', "rootProject.name = 'broken'"
+            file 'build.gradle', 'invalid build script'
+        }
+        File valid = dir('valid') {
+            file 'settings.gradle', "rootProject.name = 'valid'\ninclude 'sub'"
+            dir('sub')
+        }
+
+        when:
+        List<SynchronizationResult> results = DefaultGradleBuild.synchronize([gradleBuildFor(broken), gradleBuildFor(valid)], NewProjectHandler.IMPORT_AND_MERGE,
+            FetchStrategy.FORCE_RELOAD, GradleConnector.newCancellationTokenSource(), new NullProgressMonitor())
+
+        then:
+        results.size() == 2
+        ToolingApiStatusType.BUILD_FAILED.matches(results[0].status)
+        results[1].status.isOK()
+        GradleProjectNature.isPresentOn(findProject('sub'))
+    }
+}
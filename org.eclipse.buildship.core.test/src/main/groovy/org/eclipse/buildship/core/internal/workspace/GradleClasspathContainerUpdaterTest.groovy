@@ -7,7 +7,9 @@ import org.gradle.tooling.model.eclipse.EclipseProjectDependency
 import org.eclipse.core.resources.IResource
 import org.eclipse.core.runtime.NullProgressMonitor
 import org.eclipse.core.runtime.Path
+import org.eclipse.jdt.core.ElementChangedEvent
 import org.eclipse.jdt.core.IClasspathEntry
+import org.eclipse.jdt.core.IElementChangedListener
 import org.eclipse.jdt.core.IJavaProject
 import org.eclipse.jdt.core.JavaCore
 
@@ -132,6 +134,40 @@ class GradleClasspathContainerUpdaterTest extends WorkspaceSpecification {
         modifiedContainer.is(gradleClasspathContainer)
     }
 
+    def "Containers collected in a batch are set in a single Java model operation"() {
+        setup:
+        IJavaProject otherProject = newJavaProject("other")
+        otherProject.setRawClasspath([JavaCore.newContainerEntry(GradleClasspathContainer.CONTAINER_PATH)] as IClasspathEntry[], null)
+        def gradleProject = gradleProjectWithClasspath(externalDependency(dir("foo")))
+        Set allProjects = HierarchicalElementUtils.getAll(gradleProject).toSet()
+        ClasspathContainerBatch batch = new ClasspathContainerBatch()
+        int deltas = 0
+        IElementChangedListener listener = { deltas++ } as IElementChangedListener
+
+        when:
+        GradleClasspathContainerUpdater.collectFromModel(project, gradleProject, allProjects, persistentModelBuilder(project.project), batch)
+        GradleClasspathContainerUpdater.collectFromModel(otherProject, gradleProject, allProjects, persistentModelBuilder(otherProject.project), batch)
+        JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE)
+        batch.apply(new NullProgressMonitor())
+
+        then:
+        deltas == 1
+        resolvedClasspath[0].path.toFile() == dir("foo")
+        otherProject.getResolvedClasspath(false)[0].path.toFile() == dir("foo")
+
+        when:
+        deltas = 0
+        GradleClasspathContainerUpdater.collectFromModel(project, gradleProject, allProjects, persistentModelBuilder(project.project), batch)
+        GradleClasspathContainerUpdater.collectFromModel(otherProject, gradleProject, allProjects, persistentModelBuilder(otherProject.project), batch)
+        batch.apply(new NullProgressMonitor())
+
+        then:
+        deltas == 0
+
+        cleanup:
+        JavaCore.removeElementChangedListener(listener)
+    }
+
     EclipseProject gradleProjectWithClasspath(Object... dependencies) {
         Stub(EclipseProject) {
             getClasspath() >> ModelUtils.asDomainObjectSet(dependencies.findAll { it instanceof EclipseExternalDependency })
@@ -0,0 +1,78 @@
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.jdt.core.IClasspathEntry
+import org.eclipse.jdt.core.IJavaProject
+import org.eclipse.jdt.core.JavaCore
+
+import org.eclipse.buildship.core.SynchronizationResult
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class IncrementalSynchronizationTest extends ProjectSynchronizationSpecification {
+
+    File location
+
+    def setup() {
+        location = dir('incremental-sync') {
+            file 'settings.gradle', "include 'sub1', 'sub2'"
+            file 'build.gradle', "allprojects { apply plugin: 'java' }"
+            dir('sub1') {
+                file 'build.gradle', ''
+                dir('src/main/java')
+            }
+            dir('sub2') {
+                file 'build.gradle', ''
+                dir('src/main/java')
+            }
+        }
+    }
+
+    def "Model digest is stored after the synchronization"() {
+        when:
+        importAndWait(location)
+
+        then:
+        CorePlugin.modelPersistence().loadModel(findProject('sub1')).modelDigest != null
+    }
+
+    def "Unchanged projects are skipped"() {
+        setup:
+        importAndWait(location)
+
+        when:
+        SynchronizationResult result = trySynchronizeAndWait(location)
+
+        then:
+        result.status.isOK()
+        result.status.message == '3 unchanged project(s) skipped'
+    }
+
+    def "Only changed projects are reconfigured"() {
+        setup:
+        importAndWait(location)
+
+        when:
+        new File(location, 'sub1/build.gradle') << 'sourceSets { main { java { srcDir "src/other/java" } } }'
+        new File(location, 'sub1/src/other/java').mkdirs()
+        SynchronizationResult result = trySynchronizeAndWait(location)
+
+        then:
+        result.status.message == '2 unchanged project(s) skipped'
+        IJavaProject javaProject = JavaCore.create(findProject('sub1'))
+        javaProject.rawClasspath.find { it.path.toPortableString() == '/sub1/src/other/java' }
+    }
+
+    def "Project is reconfigured if the Gradle classpath container was removed"() {
+        setup:
+        importAndWait(location)
+        IJavaProject javaProject = JavaCore.create(findProject('sub2'))
+        javaProject.setRawClasspath(javaProject.rawClasspath.findAll { it.path != GradleClasspathContainer.CONTAINER_PATH } as IClasspathEntry[], null)
+
+        when:
+        SynchronizationResult result = trySynchronizeAndWait(location)
+
+        then:
+        result.status.message == '2 unchanged project(s) skipped'
+        javaProject.rawClasspath.find { it.path == GradleClasspathContainer.CONTAINER_PATH }
+    }
+}
@@ -0,0 +1,67 @@
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.core.resources.IProject
+import org.eclipse.core.runtime.preferences.InstanceScope
+import org.eclipse.jdt.core.IJavaProject
+import org.eclipse.jdt.core.JavaCore
+
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNature
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class ParallelSynchronizationTest extends ProjectSynchronizationSpecification {
+
+    def setup() {
+        InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID).putBoolean('synchronization.parallel', true)
+        InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID).putInt('synchronization.parallel.threads', 4)
+    }
+
+    def cleanup() {
+        InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID).remove('synchronization.parallel')
+        InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID).remove('synchronization.parallel.threads')
+    }
+
+    def "All projects are configured"() {
+        setup:
+        File location = dir('parallel-sync') {
+            file 'settings.gradle', (1..10).collect { "include 'sub$it'" }.join('\n')
+            file 'build.gradle', """
+                allprojects { apply plugin: 'java' }
+                subprojects { dependencies { if (project.name != 'sub1') compile project(':sub1') } }
+            """
+            (1..10).each { dir("sub$it/src/main/java") }
+        }
+
+        when:
+        importAndWait(location)
+
+        then:
+        (1..10).each {
+            IProject project = findProject("sub$it")
+            assert GradleProjectNature.isPresentOn(project)
+            assert project.hasNature(JavaCore.NATURE_ID)
+            assert CorePlugin.modelPersistence().loadModel(project).present
+        }
+        IJavaProject javaProject = JavaCore.create(findProject('sub2'))
+        javaProject.getResolvedClasspath(false).find { it.path.toPortableString() == '/sub1' }
+    }
+
+    def "Removed projects are uncoupled"() {
+        setup:
+        File location = dir('parallel-sync') {
+            file 'settings.gradle', "include 'sub1', 'sub2'"
+            file 'build.gradle', "allprojects { apply plugin: 'java' }"
+            dir('sub1')
+            dir('sub2')
+        }
+        importAndWait(location)
+
+        when:
+        new File(location, 'settings.gradle').text = "include 'sub1'"
+        synchronizeAndWait(location)
+
+        then:
+        GradleProjectNature.isPresentOn(findProject('sub1'))
+        !GradleProjectNature.isPresentOn(findProject('sub2'))
+    }
+}
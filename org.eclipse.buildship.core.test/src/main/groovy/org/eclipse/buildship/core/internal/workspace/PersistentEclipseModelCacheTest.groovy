@@ -0,0 +1,79 @@
+package org.eclipse.buildship.core.internal.workspace
+
+import org.gradle.tooling.model.eclipse.EclipseProject
+
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class PersistentEclipseModelCacheTest extends ProjectSynchronizationSpecification {
+
+    File location
+
+    def setup() {
+        location = dir('persistent-model-cache') {
+            file 'settings.gradle', "include 'sub'"
+            file 'build.gradle', "allprojects { apply plugin: 'java' }"
+            dir('sub') {
+                file 'build.gradle', ''
+            }
+        }
+    }
+
+    def "Models are restored if the build inputs did not change"() {
+        setup:
+        importAndWait(location)
+        PersistentEclipseModelCache cache = new PersistentEclipseModelCache(buildConfiguration())
+
+        when:
+        Collection<EclipseProject> models = cache.load()
+
+        then:
+        models.size() == 1
+        EclipseProject root = models[0]
+        root.name == 'persistent-model-cache'
+        root.projectDirectory == location
+        root.children*.name == ['sub']
+        root.children[0].parent.is(root)
+        root.gradleProject.path == ':'
+    }
+
+    def "Models are discarded if a build script changes"() {
+        setup:
+        importAndWait(location)
+        PersistentEclipseModelCache cache = new PersistentEclipseModelCache(buildConfiguration())
+
+        when:
+        new File(location, 'sub/build.gradle') << "apply plugin: 'eclipse'"
+
+        then:
+        cache.load() == null
+    }
+
+    def "Models are discarded if the settings file changes"() {
+        setup:
+        importAndWait(location)
+        PersistentEclipseModelCache cache = new PersistentEclipseModelCache(buildConfiguration())
+
+        when:
+        new File(location, 'settings.gradle') << "\nrootProject.name = 'renamed'"
+
+        then:
+        cache.load() == null
+    }
+
+    def "Models are discarded when invalidated"() {
+        setup:
+        importAndWait(location)
+        PersistentEclipseModelCache cache = new PersistentEclipseModelCache(buildConfiguration())
+
+        when:
+        cache.invalidate()
+
+        then:
+        cache.load() == null
+    }
+
+    private BuildConfiguration buildConfiguration() {
+        configurationManager.loadProjectConfiguration(findProject('persistent-model-cache')).buildConfiguration
+    }
+}
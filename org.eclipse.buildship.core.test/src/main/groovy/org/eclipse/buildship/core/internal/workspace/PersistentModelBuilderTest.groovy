@@ -29,8 +29,9 @@ class PersistentModelBuilderTest extends WorkspaceSpecification {
         command.setBuilderName('custom-command')
         def managedBuilders = [command]
         def hasAutoBuildTasks = true
+        def modelDigest = 'digest'
 
-        def previous = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks)
+        def previous = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, modelDigest)
         def model = new PersistentModelBuilder(previous).build()
 
         expect:
@@ -43,6 +44,7 @@ class PersistentModelBuilderTest extends WorkspaceSpecification {
         model.linkedResources == linkedResources
         model.managedNatures == managedNatures
         model.managedBuilders == managedBuilders
+        model.modelDigest == modelDigest
     }
 
 
@@ -59,8 +61,9 @@ class PersistentModelBuilderTest extends WorkspaceSpecification {
         command.setBuilderName('custom-command')
         def managedBuilders = [command]
         def hasAutoBuildTasks = false
+        def modelDigest = 'digest'
 
-        def previous = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks)
+        def previous = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, modelDigest)
         def builder = new PersistentModelBuilder(previous)
         builder."${method}"(null)
 
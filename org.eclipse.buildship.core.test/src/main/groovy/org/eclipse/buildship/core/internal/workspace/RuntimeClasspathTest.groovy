@@ -5,13 +5,17 @@ import spock.lang.IgnoreIf
 import spock.lang.Issue
 
 import org.eclipse.core.runtime.Path
+import org.eclipse.core.runtime.preferences.InstanceScope
+import org.eclipse.jdt.core.IClasspathContainer
 import org.eclipse.jdt.core.IClasspathEntry
 import org.eclipse.jdt.core.IJavaProject
 import org.eclipse.jdt.core.JavaCore
 import org.eclipse.jdt.launching.IRuntimeClasspathEntry
 import org.eclipse.jdt.launching.JavaRuntime
 
+import org.eclipse.buildship.core.internal.CorePlugin
 import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+import org.eclipse.buildship.core.internal.util.cache.CachePolicy
 import org.eclipse.buildship.core.GradleDistribution
 
 class RuntimeClasspathTest extends ProjectSynchronizationSpecification {
@@ -185,6 +189,73 @@ class RuntimeClasspathTest extends ProjectSynchronizationSpecification {
         resolvedClasspath.find { it.path.lastSegment().contains 'guava' }
     }
 
+    def "Project dependencies shared or forming a cycle are resolved once"() {
+        setup:
+        IJavaProject a = newJavaProjectWithGradleContainer('a', projectEntry('b'), projectEntry('c'))
+        IJavaProject b = newJavaProjectWithGradleContainer('b', projectEntry('c'), libraryEntry('x.jar'))
+        IJavaProject c = newJavaProjectWithGradleContainer('c', projectEntry('a'), libraryEntry('y.jar'))
+
+        when:
+        IRuntimeClasspathEntry[] classpath = gradleContainerRuntimeClasspath(a)
+
+        then:
+        classpath.findAll { it.type == IRuntimeClasspathEntry.PROJECT }.collect { it.path.lastSegment() } == ['b', 'c']
+        classpath.findAll { it.type == IRuntimeClasspathEntry.ARCHIVE && it.path.lastSegment().endsWith('.jar') }.collect { it.path.lastSegment() } == ['y.jar', 'x.jar']
+    }
+
+    def "Runtime classpath cached across launches is invalidated when a container changes"() {
+        setup:
+        def preferences = InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID)
+        preferences.putBoolean('launch.classpath.cache', true)
+        IJavaProject a = newJavaProjectWithGradleContainer('a', projectEntry('b'))
+        IJavaProject b = newJavaProjectWithGradleContainer('b', libraryEntry('x.jar'))
+        gradleContainerRuntimeClasspath(a)
+        long hitCount = CachePolicy.LAUNCH_CLASSPATH.statistics.stats.hitCount()
+
+        when:
+        IRuntimeClasspathEntry[] classpath = gradleContainerRuntimeClasspath(a)
+
+        then:
+        CachePolicy.LAUNCH_CLASSPATH.statistics.stats.hitCount() > hitCount
+        classpath.find { it.path.lastSegment() == 'x.jar' }
+
+        when:
+        setGradleContainer(b, libraryEntry('y.jar'))
+        classpath = gradleContainerRuntimeClasspath(a)
+
+        then:
+        !classpath.find { it.path.lastSegment() == 'x.jar' }
+        classpath.find { it.path.lastSegment() == 'y.jar' }
+
+        cleanup:
+        preferences.remove('launch.classpath.cache')
+    }
+
+    private IJavaProject newJavaProjectWithGradleContainer(String name, IClasspathEntry... containerEntries) {
+        IJavaProject project = newJavaProject(name)
+        project.setRawClasspath(project.rawClasspath + [JavaCore.newContainerEntry(GradleClasspathContainer.CONTAINER_PATH)] as IClasspathEntry[], null)
+        setGradleContainer(project, containerEntries)
+        project
+    }
+
+    private void setGradleContainer(IJavaProject project, IClasspathEntry... containerEntries) {
+        JavaCore.setClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, [project] as IJavaProject[],
+            [GradleClasspathContainer.newInstance(containerEntries as List)] as IClasspathContainer[], null)
+    }
+
+    private IClasspathEntry projectEntry(String name) {
+        JavaCore.newProjectEntry(new Path("/$name"), true)
+    }
+
+    private IClasspathEntry libraryEntry(String name) {
+        JavaCore.newLibraryEntry(new Path(dir('libs').absolutePath).append(name), null, null, true)
+    }
+
+    private IRuntimeClasspathEntry[] gradleContainerRuntimeClasspath(IJavaProject project) {
+        IRuntimeClasspathEntry containerEntry = JavaRuntime.newRuntimeContainerClasspathEntry(GradleClasspathContainer.CONTAINER_PATH, IRuntimeClasspathEntry.USER_CLASSES, project)
+        new GradleClasspathContainerRuntimeClasspathEntryResolver().resolveRuntimeClasspathEntry(containerEntry, project)
+    }
+
     private IRuntimeClasspathEntry[] projectRuntimeClasspath(IJavaProject project) {
         IRuntimeClasspathEntry projectEntry = JavaRuntime.computeUnresolvedRuntimeClasspath(project).find { it.path == project.project.fullPath }
         JavaRuntime.resolveRuntimeClasspathEntry(projectEntry, project)
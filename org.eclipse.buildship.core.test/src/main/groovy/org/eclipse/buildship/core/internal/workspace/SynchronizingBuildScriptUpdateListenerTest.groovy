@@ -1,9 +1,16 @@
 package org.eclipse.buildship.core.internal.workspace
 
+import org.eclipse.core.resources.IMarker
 import org.eclipse.core.resources.IProject
 import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.core.runtime.jobs.IJobChangeEvent
+import org.eclipse.core.runtime.jobs.IJobChangeListener
+import org.eclipse.core.runtime.jobs.Job
+import org.eclipse.core.runtime.jobs.JobChangeAdapter
+import org.eclipse.core.runtime.preferences.InstanceScope
 import org.eclipse.jdt.core.JavaCore
 
+import org.eclipse.buildship.core.internal.CorePlugin
 import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
 import org.eclipse.buildship.core.internal.configuration.WorkspaceConfiguration
 import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
@@ -128,6 +135,95 @@ class SynchronizingBuildScriptUpdateListenerTest extends ProjectSynchronizationS
         waitFor { JavaCore.create(project).getResolvedClasspath(false).find { it.path.toPortableString().endsWith('spring-beans-1.2.8.jar') } }
     }
 
+    def "Burst of build script changes is synchronized once"() {
+        setup:
+        File projectDir = dir('auto-sync-test-project') {
+            dir('src/main/java')
+            file 'build.gradle', """
+                allprojects {
+                    ${jcenterRepositoryBlock}
+                    apply plugin: 'java'
+                }
+            """
+        }
+
+        importAndWait(projectDir)
+        IProject project = findProject('auto-sync-test-project')
+        enableProjectAutoSync(project)
+        InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID).putInt('synchronization.auto.quietPeriod', 2000)
+        List<Job> synchronizationJobs = [].asSynchronized()
+        IJobChangeListener listener = new JobChangeAdapter() {
+            void scheduled(IJobChangeEvent event) {
+                if (event.job instanceof SynchronizationJob) {
+                    synchronizationJobs << event.job
+                }
+            }
+        }
+        Job.jobManager.addJobChangeListener(listener)
+
+        when:
+        (1..5).each { version ->
+            String buildScript = """
+                apply plugin: "java"
+                ${jcenterRepositoryBlock}
+                dependencies { compile "org.springframework:spring-beans:1.2.$version" }
+            """
+            project.getFile('build.gradle').setContents(new ByteArrayInputStream(buildScript.bytes), 0, new NullProgressMonitor())
+        }
+        waitForResourceChangeEvents()
+        waitForGradleJobsToFinish()
+
+        then:
+        synchronizationJobs.size() == 1
+        waitFor { JavaCore.create(project).getResolvedClasspath(false).find { it.path.toPortableString().endsWith('spring-beans-1.2.5.jar') } }
+
+        cleanup:
+        Job.jobManager.removeJobChangeListener(listener)
+        InstanceScope.INSTANCE.getNode(CorePlugin.PLUGIN_ID).remove('synchronization.auto.quietPeriod')
+    }
+
+    def "Only the changes of the build inputs trigger the synchronization"() {
+        setup:
+        File projectDir = dir('auto-sync-test-project') {
+            dir('src/main/java')
+            file 'build.gradle', 'apply plugin: "java"'
+            file 'settings.gradle', ''
+        }
+
+        importAndWait(projectDir)
+        IProject project = findProject('auto-sync-test-project')
+        enableProjectAutoSync(project)
+        List<Job> synchronizationJobs = [].asSynchronized()
+        IJobChangeListener listener = new JobChangeAdapter() {
+            void scheduled(IJobChangeEvent event) {
+                if (event.job instanceof SynchronizationJob) {
+                    synchronizationJobs << event.job
+                }
+            }
+        }
+        Job.jobManager.addJobChangeListener(listener)
+
+        when:
+        project.getFile('src/main/java/Foo.java').create(new ByteArrayInputStream('class Foo {}'.bytes), false, new NullProgressMonitor())
+        project.getFile('build.gradle').createMarker(IMarker.PROBLEM)
+        waitForResourceChangeEvents()
+        waitForGradleJobsToFinish()
+
+        then:
+        synchronizationJobs.empty
+
+        when:
+        project.getFile('settings.gradle').setContents(new ByteArrayInputStream("rootProject.name = 'auto-sync-test-project'".bytes), 0, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        waitForGradleJobsToFinish()
+
+        then:
+        synchronizationJobs.size() == 1
+
+        cleanup:
+        Job.jobManager.removeJobChangeListener(listener)
+    }
+
     def "Synchronization can be disabled for the entire workspace"() {
         setup:
         File projectDir = dir('auto-sync-test-project') {
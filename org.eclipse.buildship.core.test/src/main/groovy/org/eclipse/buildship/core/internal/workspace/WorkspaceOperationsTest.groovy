@@ -11,8 +11,13 @@
 
 package org.eclipse.buildship.core.internal.workspace
 
+import com.google.common.base.Optional
+
 import org.eclipse.core.resources.IProject
+import org.eclipse.core.resources.IProjectDescription
+import org.eclipse.core.resources.IWorkspaceRunnable
 import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.core.runtime.Path
 import org.eclipse.jdt.core.JavaCore
 
 import org.eclipse.buildship.core.internal.CorePlugin
@@ -421,6 +426,103 @@ class WorkspaceOperationsTest extends WorkspaceSpecification {
         thrown(GradlePluginsRuntimeException)
     }
 
+    def "Projects can be found by location"() {
+        setup:
+        File location = dir('project-a')
+        IProject project = workspaceOperations.createProject('project-a', location, [], new NullProgressMonitor())
+
+        expect:
+        workspaceOperations.findProjectByLocation(location).get() == project
+        !workspaceOperations.findProjectByLocation(dir('other')).isPresent()
+    }
+
+    def "Project lookup by location reflects external workspace changes"() {
+        setup:
+        File location = dir('project-a')
+        workspaceOperations.findProjectByLocation(location)
+
+        when:
+        IProject project = newProject('project-a')
+
+        then:
+        workspaceOperations.findProjectByLocation(location).get() == project
+
+        when:
+        project.delete(false, new NullProgressMonitor())
+
+        then:
+        !workspaceOperations.findProjectByLocation(location).isPresent()
+    }
+
+    def "Project lookup by location reflects renamed projects"() {
+        setup:
+        File location = dir('project-a')
+        IProject project = newProject('project-a')
+        workspaceOperations.findProjectByLocation(location)
+
+        when:
+        IProject renamed = workspaceOperations.renameProject(project, 'project-b', new NullProgressMonitor())
+
+        then:
+        workspaceOperations.findProjectByLocation(location).get() == renamed
+        renamed.name == 'project-b'
+    }
+
+    def "Project lookup by location reflects changes within a workspace operation"() {
+        setup:
+        File location = dir('project-a')
+        IProject project = newProject('project-a')
+        workspaceOperations.findProjectByLocation(location)
+        Optional<IProject> created = null
+        Optional<IProject> renamed = null
+
+        when:
+        workspace.run({
+            project.delete(false, new NullProgressMonitor())
+            workspaceOperations.createProject('project-b', location, [], new NullProgressMonitor())
+            created = workspaceOperations.findProjectByLocation(location)
+            workspaceOperations.renameProject(created.get(), 'project-c', new NullProgressMonitor())
+            renamed = workspaceOperations.findProjectByLocation(location)
+        } as IWorkspaceRunnable, new NullProgressMonitor())
+
+        then:
+        created.get().name == 'project-b'
+        renamed.get().name == 'project-c'
+        workspaceOperations.findProjectByLocation(location).get().name == 'project-c'
+    }
+
+    def "Projects created by other plugins are found by location once the workspace operation finishes"() {
+        setup:
+        File location = dir('project-a')
+        workspaceOperations.findProjectByLocation(location)
+        Optional<IProject> found = null
+
+        when:
+        workspace.run({
+            IProject project = workspace.root.getProject('project-a')
+            IProjectDescription description = workspace.newProjectDescription('project-a')
+            description.location = new Path(location.absolutePath)
+            project.create(description, new NullProgressMonitor())
+            project.open(new NullProgressMonitor())
+            found = workspaceOperations.findProjectByLocation(location)
+        } as IWorkspaceRunnable, new NullProgressMonitor())
+
+        then:
+        !found.isPresent()
+        workspaceOperations.findProjectByLocation(location).get().name == 'project-a'
+    }
+
+    def "Projects can be found by name"() {
+        setup:
+        IProject project = newProject('project-a')
+
+        expect:
+        workspaceOperations.findProjectByName('project-a').get() == project
+        !workspaceOperations.findProjectByName('project-b').isPresent()
+        !workspaceOperations.findProjectByName('').isPresent()
+        !workspaceOperations.findProjectByName('project-a/sub').isPresent()
+    }
+
     private IProject createSampleProject() {
         newProject("sample-project")
     }
@@ -8,12 +8,15 @@
 
 package org.eclipse.buildship.core;
 
+import java.util.Collection;
+
 /**
  * Describes a Gradle build being synchronized.
  *
  * @author Donat Csikos
  * @since 3.0
  * @see ProjectConfigurator
+ * @noimplement this interface is not intended to be implemented by clients
  */
 public interface InitializationContext extends SynchronizationContext {
 
@@ -21,4 +24,19 @@ public interface InitializationContext extends SynchronizationContext {
      * @return the current Gradle build being synchronized
      */
     GradleBuild getGradleBuild();
+
+    /**
+     * Returns the models of the root projects of the synchronized Gradle build and its included
+     * builds.
+     * <p>
+     * The models declared in the {@code requiredModels} attribute of the configurator's extension
+     * are loaded with a single Tooling API request before the configurators are initialized. The
+     * {@code EclipseProject} models are the ones loaded by the synchronization. Other models are
+     * loaded when first requested.
+     *
+     * @param modelType the requested model type
+     * @return the models
+     * @since 3.2
+     */
+    <T> Collection<T> getModels(Class<T> modelType);
 }
\ No newline at end of file
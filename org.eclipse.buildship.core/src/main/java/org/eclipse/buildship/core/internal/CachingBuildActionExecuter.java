@@ -26,17 +26,20 @@ import org.gradle.tooling.events.OperationType;
 import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 
+import org.eclipse.buildship.core.internal.util.cache.CacheMetrics;
 import org.eclipse.buildship.core.internal.util.gradle.InspectableResultHandler;
 
 public class CachingBuildActionExecuter<T> implements BuildActionExecuter<T> {
 
     private final BuildActionExecuter<T> delegate;
     private final Cache<Object, Object> cache;
+    private final CacheMetrics metrics;
     private final CacheKey.Builder cacheKeyBuilder;
 
-    CachingBuildActionExecuter(BuildActionExecuter<T> delegate, BuildAction<T> buildAction, Cache<Object, Object> cache) {
+    CachingBuildActionExecuter(BuildActionExecuter<T> delegate, BuildAction<T> buildAction, Cache<Object, Object> cache, CacheMetrics metrics) {
         this.delegate = delegate;
         this.cache = cache;
+        this.metrics = metrics;
         this.cacheKeyBuilder = CacheKey.builder().setBuildAction(buildAction);
     }
 
@@ -190,11 +193,16 @@ public class CachingBuildActionExecuter<T> implements BuildActionExecuter<T> {
     @SuppressWarnings("unchecked")
     public T run() throws GradleConnectionException, IllegalStateException {
         CacheKey key = this.cacheKeyBuilder.build();
-        Object cachedValue = key.isInvalid() ? null : this.cache.getIfPresent(key);
+        if (key.isInvalid()) {
+            this.metrics.recordBypass();
+            return this.delegate.run();
+        }
+
+        Object cachedValue = this.cache.getIfPresent(key);
         if (cachedValue != null) {
             return (T) cachedValue;
         } else {
-            T result = this.delegate.run();
+            T result = this.metrics.recordLoad(() -> this.delegate.run());
             this.cache.put(key, result);
             return result;
         }
@@ -204,12 +212,21 @@ public class CachingBuildActionExecuter<T> implements BuildActionExecuter<T> {
     @SuppressWarnings("unchecked")
     public void run(ResultHandler<? super T> handler) throws IllegalStateException {
         CacheKey key = this.cacheKeyBuilder.build();
-        Object cachedValue = key.isInvalid() ? null : this.cache.getIfPresent(key);
+        if (key.isInvalid()) {
+            this.metrics.recordBypass();
+            this.delegate.run(handler);
+            return;
+        }
+
+        Object cachedValue = this.cache.getIfPresent(key);
         if (cachedValue != null) {
             handler.onComplete((T) cachedValue);
         } else {
-            InspectableResultHandler<T> inspectableResultHandler = new InspectableResultHandler<>();
-            this.delegate.run(inspectableResultHandler);
+            InspectableResultHandler<T> inspectableResultHandler = this.metrics.recordLoad(() -> {
+                InspectableResultHandler<T> resultHandler = new InspectableResultHandler<>();
+                this.delegate.run(resultHandler);
+                return resultHandler;
+            });
             inspectableResultHandler.getResult().ifPresent(r -> this.cache.put(key, r));
             inspectableResultHandler.forwardResults(handler);
         }
@@ -26,17 +26,20 @@ import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 
 import org.eclipse.buildship.core.internal.CacheKey.Builder;
+import org.eclipse.buildship.core.internal.util.cache.CacheMetrics;
 import org.eclipse.buildship.core.internal.util.gradle.InspectableResultHandler;
 
 final class CachingModelBuilder<T> implements ModelBuilder<T> {
 
     private final ModelBuilder<T> delegate;
     private final Cache<Object, Object> cache;
+    private final CacheMetrics metrics;
     private final Builder cacheKeyBuilder;
 
-    CachingModelBuilder(ModelBuilder<T> delegate, Cache<Object, Object> cache, Class<T> modelType) {
+    CachingModelBuilder(ModelBuilder<T> delegate, Cache<Object, Object> cache, CacheMetrics metrics, Class<T> modelType) {
         this.delegate = delegate;
         this.cache = cache;
+        this.metrics = metrics;
         this.cacheKeyBuilder = CacheKey.builder().setModelType(modelType);
     }
 
@@ -191,11 +194,16 @@ final class CachingModelBuilder<T> implements ModelBuilder<T> {
     @SuppressWarnings("unchecked")
     public T get() throws GradleConnectionException, IllegalStateException {
         CacheKey key = this.cacheKeyBuilder.build();
-        Object cachedValue = key.isInvalid() ? null : this.cache.getIfPresent(key);
+        if (key.isInvalid()) {
+            this.metrics.recordBypass();
+            return this.delegate.get();
+        }
+
+        Object cachedValue = this.cache.getIfPresent(key);
         if (cachedValue != null) {
             return (T) cachedValue;
         } else {
-            T result = this.delegate.get();
+            T result = this.metrics.recordLoad(() -> this.delegate.get());
             this.cache.put(key, result);
             return result;
         }
@@ -205,12 +213,21 @@ final class CachingModelBuilder<T> implements ModelBuilder<T> {
     @SuppressWarnings("unchecked")
     public void get(ResultHandler<? super T> handler) throws IllegalStateException {
         CacheKey key = this.cacheKeyBuilder.build();
-        Object cachedValue = key.isInvalid() ? null : this.cache.getIfPresent(key);
+        if (key.isInvalid()) {
+            this.metrics.recordBypass();
+            this.delegate.get(handler);
+            return;
+        }
+
+        Object cachedValue = this.cache.getIfPresent(key);
         if (cachedValue != null) {
             handler.onComplete((T) cachedValue);
         } else {
-            InspectableResultHandler<T> inspectableResultHandler = new InspectableResultHandler<>();
-            this.delegate.get(inspectableResultHandler);
+            InspectableResultHandler<T> inspectableResultHandler = this.metrics.recordLoad(() -> {
+                InspectableResultHandler<T> resultHandler = new InspectableResultHandler<>();
+                this.delegate.get(resultHandler);
+                return resultHandler;
+            });
             inspectableResultHandler.getResult().ifPresent(r -> this.cache.put(key, r));
             inspectableResultHandler.forwardResults(handler);
         }
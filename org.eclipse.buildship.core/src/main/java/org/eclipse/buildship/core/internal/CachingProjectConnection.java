@@ -17,21 +17,30 @@ import org.gradle.tooling.ModelBuilder;
 import org.gradle.tooling.ProjectConnection;
 import org.gradle.tooling.ResultHandler;
 import org.gradle.tooling.TestLauncher;
+import org.gradle.tooling.model.build.BuildEnvironment;
 
 import com.google.common.cache.Cache;
 
+import org.eclipse.buildship.core.internal.util.cache.CacheMetrics;
+
 final class CachingProjectConnection implements ProjectConnection {
 
     private final ProjectConnection delegate;
     private final Cache<Object, Object> cache;
+    private final CacheMetrics metrics;
 
-    public CachingProjectConnection(ProjectConnection delegate, Cache<Object, Object> cache) {
+    public CachingProjectConnection(ProjectConnection delegate, Cache<Object, Object> cache, CacheMetrics metrics) {
         this.delegate = delegate;
         this.cache = cache;
+        this.metrics = metrics;
     }
 
     @Override
     public <T> T getModel(Class<T> modelType) throws GradleConnectionException, IllegalStateException {
+        if (modelType == BuildEnvironment.class) {
+            // already cached by the underlying connection
+            return this.delegate.getModel(modelType);
+        }
         return model(modelType).get();
     }
 
@@ -52,12 +61,12 @@ final class CachingProjectConnection implements ProjectConnection {
 
     @Override
     public <T> ModelBuilder<T> model(Class<T> modelType) {
-        return new CachingModelBuilder<>(this.delegate.model(modelType), this.cache, modelType);
+        return new CachingModelBuilder<>(this.delegate.model(modelType), this.cache, this.metrics, modelType);
     }
 
     @Override
     public <T> BuildActionExecuter<T> action(BuildAction<T> buildAction) {
-        return new CachingBuildActionExecuter<>(this.delegate.action(buildAction), buildAction, this.cache);
+        return new CachingBuildActionExecuter<>(this.delegate.action(buildAction), buildAction, this.cache, this.metrics);
     }
 
     @Override
@@ -40,11 +40,13 @@ import org.eclipse.buildship.core.internal.launch.DefaultExternalLaunchConfigura
 import org.eclipse.buildship.core.internal.launch.DefaultGradleLaunchConfigurationManager;
 import org.eclipse.buildship.core.internal.launch.ExternalLaunchConfigurationManager;
 import org.eclipse.buildship.core.internal.launch.GradleLaunchConfigurationManager;
+import org.eclipse.buildship.core.internal.launch.RuntimeClasspathCache;
 import org.eclipse.buildship.core.internal.operation.DefaultToolingApiOperationManager;
 import org.eclipse.buildship.core.internal.operation.ToolingApiOperationManager;
 import org.eclipse.buildship.core.internal.preferences.DefaultModelPersistence;
 import org.eclipse.buildship.core.internal.preferences.ModelPersistence;
 import org.eclipse.buildship.core.internal.util.gradle.IdeFriendlyClassLoading;
+import org.eclipse.buildship.core.internal.util.gradle.ProjectConnectionPool;
 import org.eclipse.buildship.core.internal.util.gradle.PublishedGradleVersionsWrapper;
 import org.eclipse.buildship.core.internal.util.logging.EclipseLogger;
 import org.eclipse.buildship.core.internal.workspace.DefaultGradleWorkspace;
@@ -97,14 +99,18 @@ public final class CorePlugin extends Plugin {
     private ServiceTracker gradleLaunchConfigurationServiceTracker;
     private ServiceTracker listenerRegistryServiceTracker;
 
+    private DefaultWorkspaceOperations workspaceOperations;
+    private DefaultGradleWorkspace gradleWorkspace;
     private DefaultModelPersistence modelPersistence;
     private ProjectChangeListener projectChangeListener;
     private SynchronizingBuildScriptUpdateListener buildScriptUpdateListener;
     private InvocationCustomizer invocationCustomizer;
-    private ConfigurationManager configurationManager;
+    private DefaultConfigurationManager configurationManager;
     private DefaultExternalLaunchConfigurationManager externalLaunchConfigurationManager;
+    private RuntimeClasspathCache runtimeClasspathCache;
     private ToolingApiOperationManager operationManager;
     private ExtensionManager extensionManager;
+    private ProjectConnectionPool connectionPool;
 
     @Override
     public void start(BundleContext bundleContext) throws Exception {
@@ -145,20 +151,26 @@ public final class CorePlugin extends Plugin {
         // register all services
         this.loggerService = registerService(context, Logger.class, createLogger(), preferences);
         this.publishedGradleVersionsService = registerService(context, PublishedGradleVersionsWrapper.class, createPublishedGradleVersions(), preferences);
-        this.workspaceOperationsService = registerService(context, WorkspaceOperations.class, createWorkspaceOperations(), preferences);
-        this.internalGradleWorkspaceService = registerService(context, InternalGradleWorkspace.class, createGradleWorkspace(), preferences);
+        this.workspaceOperations = createWorkspaceOperations();
+        this.workspaceOperationsService = registerService(context, WorkspaceOperations.class, this.workspaceOperations, preferences);
+        this.gradleWorkspace = createGradleWorkspace();
+        this.internalGradleWorkspaceService = registerService(context, InternalGradleWorkspace.class, this.gradleWorkspace, preferences);
         this.processStreamsProviderService = registerService(context, ProcessStreamsProvider.class, createProcessStreamsProvider(), preferences);
         this.gradleLaunchConfigurationService = registerService(context, GradleLaunchConfigurationManager.class, createGradleLaunchConfigurationManager(), preferences);
         this.listenerRegistryService = registerService(context, ListenerRegistry.class, createListenerRegistry(), preferences);
 
+        this.workspaceOperations.registerProjectIndex();
+        this.gradleWorkspace.registerBuildRegistry();
         this.modelPersistence = DefaultModelPersistence.createAndRegister();
         this.projectChangeListener = ProjectChangeListener.createAndRegister();
         this.buildScriptUpdateListener = SynchronizingBuildScriptUpdateListener.createAndRegister();
         this.invocationCustomizer = new InvocationCustomizerCollector();
-        this.configurationManager = new DefaultConfigurationManager();
+        this.configurationManager = DefaultConfigurationManager.createAndRegister();
         this.externalLaunchConfigurationManager = DefaultExternalLaunchConfigurationManager.createAndRegister();
+        this.runtimeClasspathCache = RuntimeClasspathCache.createAndRegister();
         this.operationManager = new DefaultToolingApiOperationManager();
         this.extensionManager = new DefaultExtensionManager();
+        this.connectionPool = new ProjectConnectionPool();
     }
 
     private ServiceTracker createServiceTracker(BundleContext context, Class<?> clazz) {
@@ -184,11 +196,11 @@ public final class CorePlugin extends Plugin {
         return new PublishedGradleVersionsWrapper();
     }
 
-    private WorkspaceOperations createWorkspaceOperations() {
+    private DefaultWorkspaceOperations createWorkspaceOperations() {
         return new DefaultWorkspaceOperations();
     }
 
-    private InternalGradleWorkspace createGradleWorkspace() {
+    private DefaultGradleWorkspace createGradleWorkspace() {
         return new DefaultGradleWorkspace();
     }
 
@@ -205,10 +217,15 @@ public final class CorePlugin extends Plugin {
     }
 
     private void unregisterServices() {
+        this.connectionPool.close();
+        this.runtimeClasspathCache.close();
+        this.configurationManager.close();
         this.externalLaunchConfigurationManager.unregister();
         this.buildScriptUpdateListener.close();
         this.projectChangeListener.close();
         this.modelPersistence.close();
+        this.gradleWorkspace.unregisterBuildRegistry();
+        this.workspaceOperations.unregisterProjectIndex();
         this.listenerRegistryService.unregister();
         this.gradleLaunchConfigurationService.unregister();
         this.processStreamsProviderService.unregister();
@@ -274,6 +291,10 @@ public final class CorePlugin extends Plugin {
         return getInstance().externalLaunchConfigurationManager;
     }
 
+    public static RuntimeClasspathCache runtimeClasspathCache() {
+        return getInstance().runtimeClasspathCache;
+    }
+
     public static ToolingApiOperationManager operationManager() {
         return getInstance().operationManager;
     }
@@ -281,4 +302,8 @@ public final class CorePlugin extends Plugin {
     public static ExtensionManager extensionManager() {
         return getInstance().extensionManager;
     }
+
+    public static ProjectConnectionPool connectionPool() {
+        return getInstance().connectionPool;
+    }
 }
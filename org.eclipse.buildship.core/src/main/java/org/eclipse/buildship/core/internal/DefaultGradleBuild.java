@@ -8,12 +8,20 @@
 
 package org.eclipse.buildship.core.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.gradle.tooling.BuildLauncher;
@@ -25,8 +33,9 @@ import org.gradle.tooling.model.eclipse.EclipseProject;
 
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -34,11 +43,14 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.buildship.core.SynchronizationResult;
+import org.eclipse.buildship.core.internal.configuration.AdvancedPreferences;
 import org.eclipse.buildship.core.internal.configuration.GradleArguments;
 import org.eclipse.buildship.core.internal.configuration.RunConfiguration;
 import org.eclipse.buildship.core.internal.gradle.GradleProgressAttributes;
@@ -46,16 +58,22 @@ import org.eclipse.buildship.core.internal.marker.GradleErrorMarker;
 import org.eclipse.buildship.core.internal.marker.GradleMarkerManager;
 import org.eclipse.buildship.core.internal.operation.BaseToolingApiOperation;
 import org.eclipse.buildship.core.internal.operation.ToolingApiStatus;
+import org.eclipse.buildship.core.internal.util.cache.CacheMetrics;
+import org.eclipse.buildship.core.internal.util.cache.CachePolicy;
+import org.eclipse.buildship.core.internal.util.cache.CacheStatistics;
 import org.eclipse.buildship.core.internal.util.gradle.HierarchicalElementUtils;
 import org.eclipse.buildship.core.internal.util.gradle.IdeAttachedProjectConnection;
 import org.eclipse.buildship.core.internal.workspace.ConnectionAwareLauncherProxy;
 import org.eclipse.buildship.core.internal.workspace.DefaultModelProvider;
+import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
+import org.eclipse.buildship.core.internal.workspace.GradleBuildSynchronizedEvent;
 import org.eclipse.buildship.core.internal.workspace.ImportRootProjectOperation;
 import org.eclipse.buildship.core.internal.workspace.InternalGradleBuild;
 import org.eclipse.buildship.core.internal.workspace.ModelProvider;
 import org.eclipse.buildship.core.internal.workspace.NewProjectHandler;
 import org.eclipse.buildship.core.internal.workspace.ProjectConfigurators;
 import org.eclipse.buildship.core.internal.workspace.RunOnImportTasksOperation;
+import org.eclipse.buildship.core.internal.workspace.SynchronizationModels;
 import org.eclipse.buildship.core.internal.workspace.SynchronizationProblem;
 import org.eclipse.buildship.core.internal.workspace.SynchronizeGradleBuildOperation;
 import org.eclipse.buildship.core.internal.workspace.ValidateProjectLocationOperation;
@@ -69,13 +87,15 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
     // TODO (donat) Now, we have two caches: one for the project configurators and that lives within
     // a synchronization (projectConnectionCache field) and one that lives forever (modelProvider).
     // We should revisit this at some point and unify them.
-    private final ModelProvider modelProvider;
+    private final DefaultModelProvider modelProvider;
     private final Cache<Object, Object> projectConnectionCache;
+    private final CacheMetrics projectConnectionCacheMetrics;
 
     public DefaultGradleBuild(org.eclipse.buildship.core.internal.configuration.BuildConfiguration buildConfiguration) {
         this.buildConfig = buildConfiguration;
         this.modelProvider = new DefaultModelProvider(this);
-        this.projectConnectionCache = CacheBuilder.newBuilder().build();
+        this.projectConnectionCache = CachePolicy.SYNCHRONIZATION.newCache();
+        this.projectConnectionCacheMetrics = CachePolicy.SYNCHRONIZATION.getMetrics(this.projectConnectionCache);
     }
 
     @Override
@@ -84,19 +104,149 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
     }
 
     public SynchronizationResult synchronize(NewProjectHandler newProjectHandler, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
-        monitor = monitor != null ? monitor : new NullProgressMonitor();
+        return synchronize(newProjectHandler, FetchStrategy.FORCE_RELOAD, tokenSource, monitor);
+    }
 
-        SynchronizeOperation operation = new SynchronizeOperation(this, newProjectHandler);
-        SynchronizeOperation runningOperation = syncOperations.putIfAbsent(this, operation);
+    public SynchronizationResult synchronize(NewProjectHandler newProjectHandler, FetchStrategy fetchStrategy, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+        return synchronize(ImmutableList.of(this), newProjectHandler, fetchStrategy, tokenSource, monitor).get(0);
+    }
 
-        if (runningOperation != null && (newProjectHandler == NewProjectHandler.NO_OP || Objects.equals(newProjectHandler, runningOperation.newProjectHandler))) {
-            return DefaultSynchronizationResult.success();
+    /**
+     * Synchronizes multiple Gradle builds with the workspace.
+     * <p/>
+     * The models of the builds are loaded concurrently, each build using its own Gradle daemon (see
+     * {@link AdvancedPreferences#getConcurrentBuildSynchronizations()}). Afterwards the workspace is
+     * updated with the loaded models one build at a time. The builds already being synchronized
+     * with a compatible configuration are skipped.
+     *
+     * @param gradleBuilds the builds to synchronize
+     * @param newProjectHandler the handler for the projects not yet present in the workspace
+     * @param fetchStrategy the strategy used to load the models
+     * @param tokenSource the cancellation token source shared by all builds
+     * @param monitor the monitor to report the aggregated progress on
+     * @return the synchronization results in the order of the target builds
+     */
+    public static List<SynchronizationResult> synchronize(List<DefaultGradleBuild> gradleBuilds, NewProjectHandler newProjectHandler, FetchStrategy fetchStrategy,
+            CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+        List<SynchronizeOperation> operations = new ArrayList<>(gradleBuilds.size());
+        List<SynchronizeOperation> startedOperations = new ArrayList<>(gradleBuilds.size());
+        for (DefaultGradleBuild gradleBuild : gradleBuilds) {
+            SynchronizeOperation operation = new SynchronizeOperation(gradleBuild, newProjectHandler, fetchStrategy);
+            SynchronizeOperation runningOperation = syncOperations.putIfAbsent(gradleBuild, operation);
+            if (runningOperation != null && (newProjectHandler == NewProjectHandler.NO_OP || Objects.equals(newProjectHandler, runningOperation.newProjectHandler))) {
+                operations.add(null);
+            } else {
+                operations.add(operation);
+                startedOperations.add(operation);
+            }
         }
 
+        SubMonitor progress = SubMonitor.convert(monitor, startedOperations.size() * 5);
         try {
-            return operation.run(tokenSource, monitor);
+            loadModels(startedOperations, tokenSource, progress.newChild(startedOperations.size() * 4));
+            List<SynchronizationResult> results = new ArrayList<>(operations.size());
+            for (SynchronizeOperation operation : operations) {
+                results.add(operation == null ? DefaultSynchronizationResult.success() : operation.run(tokenSource, progress.newChild(1)));
+            }
+            return results;
         } finally {
-            syncOperations.remove(this);
+            for (SynchronizeOperation operation : startedOperations) {
+                operation.complete();
+                syncOperations.remove(operation.gradleBuild);
+            }
+        }
+    }
+
+    private static void loadModels(List<SynchronizeOperation> operations, CancellationTokenSource tokenSource, SubMonitor progress) {
+        progress.setWorkRemaining(operations.size());
+        int threads = Math.min(AdvancedPreferences.getConcurrentBuildSynchronizations(), operations.size());
+        // the workers import the root projects under the workspace root rule, which is only possible if the
+        // current thread doesn't hold a conflicting rule
+        if (threads <= 1 || Job.getJobManager().currentRule() != null) {
+            for (SynchronizeOperation operation : operations) {
+                operation.loadModels(tokenSource, progress.newChild(1));
+            }
+            return;
+        }
+
+        progress.subTask(String.format("Loading models of %d Gradle builds", operations.size()));
+        IProgressMonitor workerMonitor = new NullProgressMonitor() {
+
+            @Override
+            public boolean isCanceled() {
+                return super.isCanceled() || progress.isCanceled();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat("Buildship model loader %d").setDaemon(true).build());
+        boolean loaded = false;
+        try {
+            CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+            for (SynchronizeOperation operation : operations) {
+                completionService.submit(() -> {
+                    operation.loadModels(tokenSource, workerMonitor);
+                    return null;
+                });
+            }
+
+            for (int i = 0; i < operations.size(); i++) {
+                Future<Void> result = completionService.poll(100, TimeUnit.MILLISECONDS);
+                while (result == null) {
+                    if (progress.isCanceled()) {
+                        tokenSource.cancel();
+                        throw new OperationCanceledException();
+                    }
+                    result = completionService.poll(100, TimeUnit.MILLISECONDS);
+                }
+                getResult(result);
+                progress.worked(1);
+            }
+            loaded = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationCanceledException();
+        } finally {
+            if (!loaded) {
+                // the synchronization is aborted; cancel the remaining model loading instead of waiting for it
+                workerMonitor.setCanceled(true);
+                tokenSource.cancel();
+            }
+            executor.shutdownNow();
+            // the operations are completed and unregistered by the caller; no worker may use them afterwards
+            awaitTermination(executor);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    if (executor.awaitTermination(100, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void getResult(Future<Void> result) throws InterruptedException {
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new GradlePluginsRuntimeException(cause);
+            }
         }
     }
 
@@ -169,23 +319,51 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
 
     /**
      * Executes the synchronization on the target Gradle build.
+     * <p/>
+     * The synchronization has two phases. First, the models are loaded from Gradle without holding
+     * a scheduling rule (see {@link #loadModels(CancellationTokenSource, IProgressMonitor)}). Then
+     * the workspace is updated under the rule returned by {@link #getRule()} (see
+     * {@link #run(CancellationTokenSource, IProgressMonitor)}).
      */
     private static class SynchronizeOperation extends BaseToolingApiOperation {
 
         private final DefaultGradleBuild gradleBuild;
         private final NewProjectHandler newProjectHandler;
+        private final FetchStrategy fetchStrategy;
+        private final boolean parallel;
+        private Collection<EclipseProject> rootProjects;
+        private Set<EclipseProject> allProjects;
+        private CoreException loadFailure;
+        private CacheUsage cacheUsage;
         private List<SynchronizationProblem> failures;
+        private int skippedProjects;
 
-        public SynchronizeOperation(DefaultGradleBuild gradleBuild, NewProjectHandler newProjectHandler) {
+        public SynchronizeOperation(DefaultGradleBuild gradleBuild, NewProjectHandler newProjectHandler, FetchStrategy fetchStrategy) {
             super("Synchronize project " + gradleBuild.getBuildConfig().getRootProjectDirectory().getName());
             this.gradleBuild = gradleBuild;
             this.newProjectHandler = newProjectHandler;
+            this.fetchStrategy = fetchStrategy;
+            // the parallel configuration needs worker threads acquiring scheduling rules, which is only possible if
+            // the current thread doesn't hold a conflicting rule
+            this.parallel = AdvancedPreferences.isParallelSynchronization() && Job.getJobManager().currentRule() == null;
+        }
+
+        void loadModels(CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+            this.cacheUsage = CorePlugin.logger().isScopeEnabled(CoreTraceScopes.CACHES) ? new CacheUsage(this.gradleBuild) : null;
+            try {
+                CorePlugin.operationManager().run(new LoadModelsOperation(), tokenSource, monitor);
+            } catch (CoreException e) {
+                this.loadFailure = e;
+            }
         }
 
         SynchronizationResult run(CancellationTokenSource tokenSource, IProgressMonitor monitor) {
             GradleMarkerManager.clear(this.gradleBuild);
             DefaultSynchronizationResult result;
             try {
+                if (this.loadFailure != null) {
+                    throw this.loadFailure;
+                }
                 CorePlugin.operationManager().run(this, tokenSource, monitor);
                 for (SynchronizationProblem f : this.failures) {
                     if (f.getSeverity() == IStatus.ERROR) {
@@ -194,7 +372,7 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
                         GradleErrorMarker.createWarning(f.getResource(), this.gradleBuild, f.getMessage(), f.getException(), 0);
                     }
                 }
-                result = DefaultSynchronizationResult.from(getFailures());
+                result = DefaultSynchronizationResult.from(getFailures(), this.skippedProjects);
             } catch (CoreException e) {
                 ToolingApiStatus status = ToolingApiStatus.from("Project synchronization", e);
                 if (status.severityMatches(IStatus.WARNING | IStatus.ERROR)) {
@@ -214,25 +392,28 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
             return this.failures;
         }
 
+        void complete() {
+            if (this.cacheUsage != null) {
+                this.cacheUsage.trace();
+            }
+            this.gradleBuild.projectConnectionCache.invalidateAll();
+            CorePlugin.listenerRegistry().dispatch(new GradleBuildSynchronizedEvent(this.gradleBuild));
+        }
+
         @Override
         public void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
-            try {
-                SubMonitor progress = SubMonitor.convert(monitor, 5);
-                progress.setTaskName((String.format("Synchronizing Gradle build at %s with workspace", this.gradleBuild.getBuildConfig().getRootProjectDirectory())));
-                new ImportRootProjectOperation(this.gradleBuild.getBuildConfig(), this.newProjectHandler).run(progress.newChild(1));
-                Set<EclipseProject> allProjects = collectAll(this.gradleBuild.modelProvider.fetchEclipseProjectAndRunSyncTasks(tokenSource, progress.newChild(1)));
-                new ValidateProjectLocationOperation(allProjects).run(progress.newChild(1));
-                new RunOnImportTasksOperation(allProjects, this.gradleBuild.getBuildConfig()).run(progress.newChild(1), tokenSource);
-                this.failures = new SynchronizeGradleBuildOperation(allProjects, this.gradleBuild, this.newProjectHandler,
-                        ProjectConfigurators.create(this.gradleBuild, CorePlugin.extensionManager().loadConfigurators())).run(progress.newChild(1));
-            } finally {
-                this.gradleBuild.projectConnectionCache.invalidateAll();
-            }
+            SubMonitor progress = SubMonitor.convert(monitor, 1);
+            progress.setTaskName((String.format("Synchronizing Gradle build at %s with workspace", this.gradleBuild.getBuildConfig().getRootProjectDirectory())));
+            SynchronizationModels models = new SynchronizationModels(this.gradleBuild, this.rootProjects, tokenSource);
+            ProjectConfigurators configurators = ProjectConfigurators.create(this.gradleBuild, models, CorePlugin.extensionManager().loadConfigurators());
+            this.failures = new SynchronizeGradleBuildOperation(this.allProjects, this.gradleBuild, this.newProjectHandler, configurators, this.parallel).run(progress.newChild(1));
+            this.skippedProjects = configurators.getSkippedProjectCount();
         }
 
         @Override
         public ISchedulingRule getRule() {
-            return ResourcesPlugin.getWorkspace().getRoot();
+            // in parallel mode the synchronization acquires the workspace root rule only for the workspace structure changes
+            return this.parallel ? null : ResourcesPlugin.getWorkspace().getRoot();
         }
 
         @Override
@@ -254,6 +435,59 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
             SynchronizeOperation other = (SynchronizeOperation) obj;
             return Objects.equals(this.gradleBuild, other.gradleBuild) && Objects.equals(this.newProjectHandler, other.newProjectHandler);
         }
+
+        /**
+         * Loads the models of the synchronized build. Doesn't hold a scheduling rule, so the models
+         * of multiple builds can be loaded concurrently.
+         */
+        private class LoadModelsOperation extends BaseToolingApiOperation {
+
+            LoadModelsOperation() {
+                super("Load models of project " + SynchronizeOperation.this.gradleBuild.getBuildConfig().getRootProjectDirectory().getName());
+            }
+
+            @Override
+            public void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
+                DefaultGradleBuild gradleBuild = SynchronizeOperation.this.gradleBuild;
+                SubMonitor progress = SubMonitor.convert(monitor, 4);
+                progress.setTaskName((String.format("Loading models of Gradle build at %s", gradleBuild.getBuildConfig().getRootProjectDirectory())));
+                new ImportRootProjectOperation(gradleBuild.getBuildConfig(), SynchronizeOperation.this.newProjectHandler).run(progress.newChild(1));
+                Collection<EclipseProject> rootProjects = gradleBuild.modelProvider.fetchEclipseProjectAndRunSyncTasks(SynchronizeOperation.this.fetchStrategy, tokenSource, progress.newChild(1));
+                Set<EclipseProject> allProjects = collectAll(rootProjects);
+                new ValidateProjectLocationOperation(allProjects).run(progress.newChild(1));
+                new RunOnImportTasksOperation(allProjects, gradleBuild.getBuildConfig()).run(progress.newChild(1), tokenSource);
+                SynchronizeOperation.this.rootProjects = rootProjects;
+                SynchronizeOperation.this.allProjects = allProjects;
+            }
+
+            @Override
+            public ISchedulingRule getRule() {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Traces the use of the model caches during a synchronization.
+     */
+    private static class CacheUsage {
+
+        private final DefaultGradleBuild gradleBuild;
+        private final CacheStatistics modelProviderStatistics;
+        private final CacheStatistics projectConnectionStatistics;
+
+        CacheUsage(DefaultGradleBuild gradleBuild) {
+            this.gradleBuild = gradleBuild;
+            this.modelProviderStatistics = gradleBuild.modelProvider.getCacheStatistics();
+            this.projectConnectionStatistics = CachePolicy.SYNCHRONIZATION.getStatistics(gradleBuild.projectConnectionCache);
+        }
+
+        void trace() {
+            CacheStatistics modelProvider = this.gradleBuild.modelProvider.getCacheStatistics().minus(this.modelProviderStatistics);
+            CacheStatistics projectConnection = CachePolicy.SYNCHRONIZATION.getStatistics(this.gradleBuild.projectConnectionCache).minus(this.projectConnectionStatistics);
+            CorePlugin.logger().trace(CoreTraceScopes.CACHES, String.format("Cache usage during the synchronization of %s: %s; %s",
+                    this.gradleBuild.getBuildConfig().getRootProjectDirectory(), modelProvider, projectConnection));
+        }
     }
 
     private static Set<EclipseProject> collectAll(Collection<EclipseProject> models) {
@@ -281,9 +515,9 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
             return new DefaultSynchronizationResult(Status.OK_STATUS);
         }
 
-        public static DefaultSynchronizationResult from(List<SynchronizationProblem> failures) {
+        public static DefaultSynchronizationResult from(List<SynchronizationProblem> failures, int skippedProjects) {
             if (failures.isEmpty()) {
-                return success();
+                return skippedProjects == 0 ? success() : from(new Status(IStatus.OK, CorePlugin.PLUGIN_ID, String.format("%d unchanged project(s) skipped", skippedProjects)));
             } else if (failures.size() == 1) {
                 return from(statusFor(failures.get(0)));
             } else {
@@ -319,7 +553,7 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
             // TODO (donat) use AutoCloseable once we update to Tooling API 5.0
             ProjectConnection connection = IdeAttachedProjectConnection.newInstance(tokenSource, getGradleArguments(), monitor);
             if (isSynchronizing()) {
-                connection = new CachingProjectConnection(connection, DefaultGradleBuild.this.projectConnectionCache);
+                connection = new CachingProjectConnection(connection, DefaultGradleBuild.this.projectConnectionCache, DefaultGradleBuild.this.projectConnectionCacheMetrics);
             }
 
             try {
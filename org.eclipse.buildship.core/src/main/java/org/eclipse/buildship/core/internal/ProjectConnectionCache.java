@@ -11,11 +11,12 @@ package org.eclipse.buildship.core.internal;
 import java.util.Optional;
 
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.buildship.core.internal.util.cache.CachePolicy;
 
 public class ProjectConnectionCache {
 
-    private final Cache<Object, Object> cache = CacheBuilder.newBuilder().build();
+    private final Cache<Object, Object> cache = CachePolicy.PROJECT_CONNECTION.newCache();
 
     public void clear() {
         this.cache.invalidateAll();
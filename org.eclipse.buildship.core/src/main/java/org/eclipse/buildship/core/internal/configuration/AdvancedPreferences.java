@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.configuration;
+
+import org.eclipse.core.runtime.Platform;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+
+/**
+ * Workspace preferences tuning the internal behavior of Buildship.
+ * <p/>
+ * The preferences are not exposed on the preference pages. They can be specified in the
+ * {@code .metadata/.plugins/org.eclipse.core.runtime/.settings/org.eclipse.buildship.core.prefs}
+ * file of the workspace or in the {@code plugin_customization.ini} file of the Eclipse product.
+ */
+public final class AdvancedPreferences {
+
+    private static final String PARALLEL_SYNCHRONIZATION = "synchronization.parallel";
+    private static final String PARALLEL_SYNCHRONIZATION_THREADS = "synchronization.parallel.threads";
+    private static final String CONCURRENT_BUILD_SYNCHRONIZATIONS = "synchronization.concurrent.builds";
+    private static final String AUTO_SYNC_QUIET_PERIOD = "synchronization.auto.quietPeriod";
+    private static final String MODEL_PERSISTENCE_WRITE_DELAY = "persistence.write.delay";
+    private static final String CONNECTION_IDLE_TIMEOUT = "connection.idle.timeout";
+    private static final String LAUNCH_CLASSPATH_CACHE = "launch.classpath.cache";
+    private static final String CONSOLE_BUFFER_SIZE = "console.buffer.size";
+    private static final String CACHE_MAXIMUM_WEIGHT = "cache.%s.maximumWeight";
+    private static final String CACHE_EXPIRE_AFTER_ACCESS = "cache.%s.expireAfterAccess";
+    private static final String CACHE_SOFT_VALUES = "cache.%s.softValues";
+
+    private static final int MIN_CONSOLE_BUFFER_SIZE = 10_000;
+
+    private AdvancedPreferences() {
+    }
+
+    /**
+     * Returns whether the workspace projects should be configured in parallel during the
+     * synchronization. Defaults to {@code false}.
+     *
+     * @return {@code true} if the parallel synchronization is enabled
+     */
+    public static boolean isParallelSynchronization() {
+        return getBoolean(PARALLEL_SYNCHRONIZATION, false);
+    }
+
+    /**
+     * Returns the maximum number of threads configuring projects during a parallel
+     * synchronization. Defaults to the number of available processors.
+     *
+     * @return the number of worker threads, always positive
+     */
+    public static int getParallelSynchronizationThreads() {
+        return Math.max(1, getInt(PARALLEL_SYNCHRONIZATION_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Returns the maximum number of Gradle builds whose models are loaded concurrently when
+     * multiple builds are synchronized. Defaults to 4. If set to 1 then the builds are synchronized
+     * one after the other.
+     *
+     * @return the number of concurrently loaded builds, always positive
+     */
+    public static int getConcurrentBuildSynchronizations() {
+        return Math.max(1, getInt(CONCURRENT_BUILD_SYNCHRONIZATIONS, 4));
+    }
+
+    /**
+     * Returns the time in milliseconds without build script changes after which the automatic
+     * synchronization starts. Defaults to 1 second.
+     *
+     * @return the quiet period, never negative
+     */
+    public static long getAutoSyncQuietPeriod() {
+        return Math.max(0, getInt(AUTO_SYNC_QUIET_PERIOD, 1000));
+    }
+
+    /**
+     * Returns the maximum time in milliseconds the changed persistent models are kept in memory
+     * before they are written to the disk. Defaults to 2 seconds.
+     *
+     * @return the write delay, never negative
+     */
+    public static long getModelPersistenceWriteDelay() {
+        return Math.max(0, getInt(MODEL_PERSISTENCE_WRITE_DELAY, 2000));
+    }
+
+    /**
+     * Returns the time in milliseconds an unused Tooling API connection is kept open for reuse.
+     * Defaults to 5 minutes. If set to 0 then the connections are closed as soon as the operations
+     * using them are finished.
+     *
+     * @return the idle timeout, never negative
+     */
+    public static long getConnectionIdleTimeout() {
+        return Math.max(0, getInt(CONNECTION_IDLE_TIMEOUT, 5 * 60 * 1000));
+    }
+
+    /**
+     * Returns whether the resolved runtime classpath entries of the Gradle projects should be
+     * reused across launches until the classpath of a Java project changes. Defaults to
+     * {@code false}, in which case the entries are only reused within a single classpath
+     * resolution.
+     *
+     * @return {@code true} if the runtime classpath is cached across launches
+     */
+    public static boolean isLaunchClasspathCacheEnabled() {
+        return getBoolean(LAUNCH_CLASSPATH_CACHE, false);
+    }
+
+    /**
+     * Returns the maximum number of characters a Gradle console keeps in memory. The older output
+     * is removed from the console. The complete output of a build is kept in a log file until the
+     * console is removed; the older output of the shared background console is discarded. If set
+     * to 0 then the consoles keep all output in memory. Values between 1 and 10,000 are raised to
+     * 10,000. Defaults to 1,000,000.
+     *
+     * @return the maximum number of characters, either 0 or at least 10,000
+     */
+    public static int getConsoleBufferSize() {
+        int bufferSize = getInt(CONSOLE_BUFFER_SIZE, 1_000_000);
+        return bufferSize <= 0 ? 0 : Math.max(bufferSize, MIN_CONSOLE_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the maximum total weight of the entries in a model cache. The weight is the estimated
+     * number of model elements held by the entries.
+     *
+     * @param cacheName the name of the cache policy
+     * @param defaultValue the value to return if the preference is not set
+     * @return the maximum weight, never negative
+     * @see org.eclipse.buildship.core.internal.util.cache.CachePolicy
+     */
+    public static long getCacheMaximumWeight(String cacheName, long defaultValue) {
+        return Math.max(0, getLong(String.format(CACHE_MAXIMUM_WEIGHT, cacheName), defaultValue));
+    }
+
+    /**
+     * Returns the time in minutes after which an unused model cache entry is removed. If set to 0
+     * then the entries don't expire.
+     *
+     * @param cacheName the name of the cache policy
+     * @param defaultValue the value to return if the preference is not set
+     * @return the expiry time, never negative
+     * @see org.eclipse.buildship.core.internal.util.cache.CachePolicy
+     */
+    public static long getCacheExpireAfterAccess(String cacheName, long defaultValue) {
+        return Math.max(0, getLong(String.format(CACHE_EXPIRE_AFTER_ACCESS, cacheName), defaultValue));
+    }
+
+    /**
+     * Returns whether the values of a model cache can be reclaimed by the garbage collector when
+     * the memory gets low.
+     *
+     * @param cacheName the name of the cache policy
+     * @param defaultValue the value to return if the preference is not set
+     * @return {@code true} if the values are softly referenced
+     * @see org.eclipse.buildship.core.internal.util.cache.CachePolicy
+     */
+    public static boolean isCacheSoftValues(String cacheName, boolean defaultValue) {
+        return getBoolean(String.format(CACHE_SOFT_VALUES, cacheName), defaultValue);
+    }
+
+    private static boolean getBoolean(String key, boolean defaultValue) {
+        return Platform.getPreferencesService().getBoolean(CorePlugin.PLUGIN_ID, key, defaultValue, null);
+    }
+
+    private static int getInt(String key, int defaultValue) {
+        return Platform.getPreferencesService().getInt(CorePlugin.PLUGIN_ID, key, defaultValue, null);
+    }
+
+    private static long getLong(String key, long defaultValue) {
+        return Platform.getPreferencesService().getLong(CorePlugin.PLUGIN_ID, key, defaultValue, null);
+    }
+}
@@ -12,9 +12,10 @@ import java.io.File;
 import java.util.List;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.Path;
@@ -82,13 +83,17 @@ final class BuildConfigurationPersistence {
     }
 
     public String readPathToRoot(File projectDir) {
-        Preconditions.checkNotNull(projectDir);
-        PreferenceStore preferences = PreferenceStore.forPreferenceFile(getProjectPrefsFile(projectDir, PREF_NODE));
-        String result = preferences.readString(PREF_KEY_CONNECTION_PROJECT_DIR, null);
-        if (result == null) {
+        Optional<String> result = findPathToRoot(projectDir);
+        if (!result.isPresent()) {
             throw new GradlePluginsRuntimeException("Can't read root project location for project located at " + projectDir.getAbsolutePath());
         }
-        return result;
+        return result.get();
+    }
+
+    public Optional<String> findPathToRoot(File projectDir) {
+        Preconditions.checkNotNull(projectDir);
+        PreferenceStore preferences = PreferenceStore.forPreferenceFile(getProjectPrefsFile(projectDir, PREF_NODE));
+        return Optional.fromNullable(preferences.readString(PREF_KEY_CONNECTION_PROJECT_DIR, null));
     }
 
     public void savePathToRoot(IProject project, String pathToRoot) {
@@ -141,8 +146,8 @@ final class BuildConfigurationPersistence {
         boolean buildScansEnabled = preferences.readBoolean(PREF_KEY_BUILD_SCANS_ENABLED, false);
         boolean offlineMode = preferences.readBoolean(PREF_KEY_OFFLINE_MODE, false);
         boolean autoSync = preferences.readBoolean(PREF_KEY_AUTO_SYNC, false);
-        List<String> arguments = Lists.newArrayList(Splitter.on(' ').omitEmptyStrings().split(preferences.readString(PREF_KEY_ARGUMENTS, "")));
-        List<String> jvmArguments = Lists.newArrayList(Splitter.on(' ').omitEmptyStrings().split(preferences.readString(PREF_KEY_JVM_ARGUMENTS, "")));
+        List<String> arguments = ImmutableList.copyOf(Splitter.on(' ').omitEmptyStrings().split(preferences.readString(PREF_KEY_ARGUMENTS, "")));
+        List<String> jvmArguments = ImmutableList.copyOf(Splitter.on(' ').omitEmptyStrings().split(preferences.readString(PREF_KEY_JVM_ARGUMENTS, "")));
         boolean showConsoleView = preferences.readBoolean(PREF_KEY_SHOW_CONSOLE_VIEW, false);
         boolean showExecutionsView = preferences.readBoolean(PREF_KEY_SHOW_EXECUTIONS_VIEW, false);
 
@@ -188,6 +193,10 @@ final class BuildConfigurationPersistence {
 
 
 
+    static File getProjectPrefsFile(File projectDir) {
+        return getProjectPrefsFile(projectDir, PREF_NODE);
+    }
+
     private static File getProjectPrefsFile(File projectDir, String node) {
         return new File(projectDir, ".settings/" + node + ".prefs");
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.configuration;
+
+import java.io.File;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.buildship.core.internal.event.Event;
+
+/**
+ * Event raised when the persisted workspace, build or project configurations might have changed.
+ * <p/>
+ * The event names either the project or the root project directory of the build whose
+ * configuration changed. If it names neither, the workspace configuration changed, which affects
+ * every project.
+ */
+public final class ConfigurationChangedEvent implements Event {
+
+    private final Optional<IProject> project;
+    private final Optional<File> rootProjectDirectory;
+
+    private ConfigurationChangedEvent(Optional<IProject> project, Optional<File> rootProjectDirectory) {
+        this.project = project;
+        this.rootProjectDirectory = rootProjectDirectory;
+    }
+
+    /**
+     * @return the project whose configuration changed
+     */
+    public Optional<IProject> getProject() {
+        return this.project;
+    }
+
+    /**
+     * @return the root project directory of the build whose configuration changed
+     */
+    public Optional<File> getRootProjectDirectory() {
+        return this.rootProjectDirectory;
+    }
+
+    public static ConfigurationChangedEvent forWorkspace() {
+        return new ConfigurationChangedEvent(Optional.<IProject>absent(), Optional.<File>absent());
+    }
+
+    public static ConfigurationChangedEvent forProject(IProject project) {
+        return new ConfigurationChangedEvent(Optional.of(Preconditions.checkNotNull(project)), Optional.<File>absent());
+    }
+
+    public static ConfigurationChangedEvent forBuild(File rootProjectDirectory) {
+        return new ConfigurationChangedEvent(Optional.<IProject>absent(), Optional.of(Preconditions.checkNotNull(rootProjectDirectory)));
+    }
+}
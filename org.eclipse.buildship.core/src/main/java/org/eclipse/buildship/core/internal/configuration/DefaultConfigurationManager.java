@@ -10,13 +10,28 @@ package org.eclipse.buildship.core.internal.configuration;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -24,17 +39,38 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.buildship.core.GradleDistribution;
 import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.CoreTraceScopes;
+import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.gradle.ProgressDetail;
 import org.eclipse.buildship.core.internal.launch.GradleRunConfigurationAttributes;
+import org.eclipse.buildship.core.internal.util.cache.CachePolicy;
+import org.eclipse.buildship.core.internal.util.cache.CacheStatistics;
 import org.eclipse.buildship.core.internal.util.file.RelativePathUtils;
 
 /**
  * Default implementation for {@link ConfigurationManager}.
+ * <p/>
+ * While registered as a resource change listener, the manager caches the root project locations
+ * and the build configuration properties read from the project preference files. The entries are
+ * keyed by the directory and the timestamp and size of its preference file, so that the edits of
+ * the preference files are picked up without invalidating the cache. The entries of a project's
+ * directory are invalidated when the project is added, removed, opened, closed or moved and when
+ * its configuration is saved or deleted through the manager. The workspace configuration is always
+ * read from the preference store.
+ * <p/>
+ * A {@link ConfigurationChangedEvent} naming the affected project or build is dispatched for each
+ * of these changes.
  */
-public class DefaultConfigurationManager implements ConfigurationManager {
+public class DefaultConfigurationManager implements ConfigurationManager, IResourceChangeListener {
+
+    private static final IPath PREFERENCES_FILE = new Path(".settings/" + CorePlugin.PLUGIN_ID + ".prefs");
+    private static final int PROJECT_CHANGED = IResourceDelta.OPEN | IResourceDelta.MOVED_FROM | IResourceDelta.MOVED_TO | IResourceDelta.DESCRIPTION;
 
     WorkspaceConfigurationPersistence workspaceConfigurationPersistence = new WorkspaceConfigurationPersistence();
     BuildConfigurationPersistence buildConfigurationPersistence = new BuildConfigurationPersistence();
 
+    private final Cache<List<?>, Object> cache = CachePolicy.CONFIGURATION.newCache();
+    private volatile boolean registered;
+
     @Override
     public WorkspaceConfiguration loadWorkspaceConfiguration() {
         return this.workspaceConfigurationPersistence.readWorkspaceConfig();
@@ -43,6 +79,8 @@ public class DefaultConfigurationManager implements ConfigurationManager {
     @Override
     public void saveWorkspaceConfiguration(WorkspaceConfiguration config) {
         this.workspaceConfigurationPersistence.saveWorkspaceConfiguration(config);
+        // the workspace configuration is not cached, but it is part of every build configuration
+        CorePlugin.listenerRegistry().dispatch(ConfigurationChangedEvent.forWorkspace());
     }
 
     @Override
@@ -68,6 +106,11 @@ public class DefaultConfigurationManager implements ConfigurationManager {
     public BuildConfiguration loadBuildConfiguration(File rootDir) {
         Preconditions.checkNotNull(rootDir);
         Preconditions.checkArgument(rootDir.exists());
+        DefaultBuildConfigurationProperties buildConfigProperties = cached("buildConfiguration", rootDir, () -> readBuildConfigurationProperties(rootDir));
+        return new DefaultBuildConfiguration(buildConfigProperties, loadWorkspaceConfiguration());
+    }
+
+    private DefaultBuildConfigurationProperties readBuildConfigurationProperties(File rootDir) {
         Optional<IProject> projectCandidate = CorePlugin.workspaceOperations().findProjectByLocation(rootDir);
         DefaultBuildConfigurationProperties buildConfigProperties;
         if (projectCandidate.isPresent() && projectCandidate.get().isAccessible()) {
@@ -84,7 +127,7 @@ public class DefaultConfigurationManager implements ConfigurationManager {
         } else {
             buildConfigProperties = this.buildConfigurationPersistence.readBuildConfiguratonProperties(rootDir);
         }
-        return new DefaultBuildConfiguration(buildConfigProperties, loadWorkspaceConfiguration());
+        return buildConfigProperties;
     }
 
     @Override
@@ -98,6 +141,9 @@ public class DefaultConfigurationManager implements ConfigurationManager {
         } else {
             this.buildConfigurationPersistence.saveBuildConfiguration(rootDir, properties);
         }
+        invalidate(rootDir);
+        CorePlugin.listenerRegistry().dispatch(ConfigurationChangedEvent.forBuild(rootDir));
+        CorePlugin.connectionPool().invalidateStale(configuration.toGradleArguments());
     }
 
     @Override
@@ -107,7 +153,7 @@ public class DefaultConfigurationManager implements ConfigurationManager {
 
     @Override
     public ProjectConfiguration loadProjectConfiguration(IProject project) {
-        String pathToRoot = this.buildConfigurationPersistence.readPathToRoot(project.getLocation().toFile());
+        String pathToRoot = readPathToRoot(project.getLocation().toFile());
         File rootDir = relativePathToProjectRoot(project.getLocation(), pathToRoot);
         BuildConfiguration buildConfig = loadBuildConfiguration(rootDir);
         return new DefaultProjectConfiguration(project.getLocation().toFile(), buildConfig);
@@ -124,7 +170,7 @@ public class DefaultConfigurationManager implements ConfigurationManager {
     }
 
     private ProjectConfiguration loadProjectConfiguration(File projectDir) {
-        String pathToRoot = this.buildConfigurationPersistence.readPathToRoot(projectDir);
+        String pathToRoot = readPathToRoot(projectDir);
         File rootDir = relativePathToProjectRoot(new Path(projectDir.getAbsolutePath()), pathToRoot);
         BuildConfiguration buildConfig = loadBuildConfiguration(rootDir);
         return new DefaultProjectConfiguration(canonicalize(projectDir), buildConfig);
@@ -145,6 +191,10 @@ public class DefaultConfigurationManager implements ConfigurationManager {
         } else {
             this.buildConfigurationPersistence.savePathToRoot(projectDir, pathToRoot);
         }
+        invalidate(projectDir);
+        if (project.isPresent()) {
+            CorePlugin.listenerRegistry().dispatch(ConfigurationChangedEvent.forProject(project.get()));
+        }
     }
 
     @Override
@@ -154,6 +204,8 @@ public class DefaultConfigurationManager implements ConfigurationManager {
         } else {
             this.buildConfigurationPersistence.deletePathToRoot(project.getLocation().toFile());
         }
+        invalidate(project.getLocation().toFile());
+        CorePlugin.listenerRegistry().dispatch(ConfigurationChangedEvent.forProject(project));
     }
 
     @Override
@@ -190,7 +242,8 @@ public class DefaultConfigurationManager implements ConfigurationManager {
                   attributes.isShowExecutionView(),
                   attributes.isOverrideBuildSettings(),
                   attributes.isBuildScansEnabled(),
-                  attributes.isOffline());
+                  attributes.isOffline(),
+                  attributes.getProgressDetail());
         return new DefaultRunConfiguration(projectConfiguration, runConfigProperties);
     }
 
@@ -225,10 +278,115 @@ public class DefaultConfigurationManager implements ConfigurationManager {
                 showExecutionsView,
                 overrideBuildSettings,
                 buildScansEnabled,
-                offlineMode);
+                offlineMode,
+                ProgressDetail.FULL);
         return new DefaultRunConfiguration(projectConfiguration, runConfig);
     }
 
+    private String readPathToRoot(File projectDir) {
+        Optional<String> pathToRoot = cached("pathToRoot", projectDir, () -> this.buildConfigurationPersistence.findPathToRoot(projectDir));
+        if (!pathToRoot.isPresent()) {
+            throw new GradlePluginsRuntimeException("Can't read root project location for project located at " + projectDir.getAbsolutePath());
+        }
+        return pathToRoot.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String kind, File projectDir, Supplier<T> loader) {
+        if (!this.registered) {
+            CachePolicy.CONFIGURATION.getMetrics(this.cache).recordBypass();
+            return loader.get();
+        }
+
+        List<?> key = Arrays.asList(kind, projectDir, preferenceFileStamp(projectDir));
+        try {
+            return (T) this.cache.get(key, loader::get);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new GradlePluginsRuntimeException(cause);
+            }
+        }
+    }
+
+    private static List<Long> preferenceFileStamp(File projectDir) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(BuildConfigurationPersistence.getProjectPrefsFile(projectDir).toPath(), BasicFileAttributes.class);
+            return Arrays.asList(attributes.lastModifiedTime().toMillis(), attributes.size());
+        } catch (NoSuchFileException e) {
+            return Arrays.asList(-1L, -1L);
+        } catch (IOException e) {
+            throw new GradlePluginsRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invalidates the cached configurations.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Returns the statistics of the cached configurations.
+     *
+     * @return the statistics
+     */
+    public CacheStatistics getCacheStatistics() {
+        return CachePolicy.CONFIGURATION.getStatistics(this.cache);
+    }
+
+    private void invalidate(File directory) {
+        Set<File> directories = new HashSet<>();
+        directories.add(directory);
+        try {
+            directories.add(directory.getCanonicalFile());
+        } catch (IOException e) {
+            CorePlugin.logger().trace(CoreTraceScopes.PREFERENCES, "Cannot canonicalize " + directory, e);
+        }
+        this.cache.asMap().keySet().removeIf(key -> directories.contains(key.get(1)));
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        IResourceDelta delta = event.getDelta();
+        if (delta == null) {
+            return;
+        }
+
+        for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+            IProject project = (IProject) projectDelta.getResource();
+            if (projectDelta.getKind() != IResourceDelta.CHANGED || (projectDelta.getFlags() & PROJECT_CHANGED) != 0) {
+                // the location of a removed project is unknown; its entries are not reachable anymore and expire
+                IPath location = project.getLocation();
+                if (location != null) {
+                    invalidate(location.toFile());
+                }
+                CorePlugin.listenerRegistry().dispatch(ConfigurationChangedEvent.forProject(project));
+            } else if (projectDelta.findMember(PREFERENCES_FILE) != null) {
+                // the entries are keyed by the preference file stamp, so they don't have to be invalidated
+                CorePlugin.listenerRegistry().dispatch(ConfigurationChangedEvent.forProject(project));
+            }
+        }
+    }
+
+    public static DefaultConfigurationManager createAndRegister() {
+        DefaultConfigurationManager manager = new DefaultConfigurationManager();
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(manager, IResourceChangeEvent.POST_CHANGE);
+        manager.registered = true;
+        return manager;
+    }
+
+    public void close() {
+        this.registered = false;
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+        invalidateAll();
+    }
+
     private static File relativePathToProjectRoot(IPath projectPath, String path) {
         IPath pathToRoot = new Path(path);
         IPath absolutePathToRoot = pathToRoot.isAbsolute() ? pathToRoot : RelativePathUtils.getAbsolutePath(projectPath, pathToRoot);
@@ -14,6 +14,7 @@ import java.util.List;
 import com.google.common.base.Objects;
 
 import org.eclipse.buildship.core.GradleDistribution;
+import org.eclipse.buildship.core.internal.gradle.ProgressDetail;
 
 /**
  * Default implementation for {@link RunConfiguration}.
@@ -117,6 +118,11 @@ class DefaultRunConfiguration implements RunConfiguration {
         }
     }
 
+    @Override
+    public ProgressDetail getProgressDetail() {
+        return this.properties.getProgressDetail();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof DefaultRunConfiguration) {
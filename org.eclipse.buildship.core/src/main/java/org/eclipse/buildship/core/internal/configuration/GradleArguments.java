@@ -57,6 +57,18 @@ public final class GradleArguments {
         this.jvmArguments = ImmutableList.copyOf(jvmArguments);
     }
 
+    public File getRootDir() {
+        return this.rootDir;
+    }
+
+    public GradleDistribution getGradleDistribution() {
+        return this.gradleDistribution;
+    }
+
+    public File getGradleUserHome() {
+        return this.gradleUserHome;
+    }
+
     public void describe(GradleProgressAttributes progressAttributes, BuildEnvironment buildEnvironment) {
         GradleEnvironment gradleEnv = buildEnvironment.getGradle();
         JavaEnvironment javaEnv = buildEnvironment.getJava();
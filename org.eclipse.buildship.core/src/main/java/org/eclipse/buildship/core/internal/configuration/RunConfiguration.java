@@ -12,6 +12,7 @@ import java.io.File;
 import java.util.List;
 
 import org.eclipse.buildship.core.GradleDistribution;
+import org.eclipse.buildship.core.internal.gradle.ProgressDetail;
 
 /**
  * Configuration to launch tasks and tests.
@@ -38,5 +39,7 @@ public interface RunConfiguration {
 
     boolean isShowConsoleView();
 
+    ProgressDetail getProgressDetail();
+
     GradleArguments toGradleArguments();
 }
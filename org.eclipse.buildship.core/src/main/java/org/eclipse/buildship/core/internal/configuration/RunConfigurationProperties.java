@@ -14,6 +14,7 @@ import java.util.List;
 import com.google.common.base.Objects;
 
 import org.eclipse.buildship.core.GradleDistribution;
+import org.eclipse.buildship.core.internal.gradle.ProgressDetail;
 
 /**
  * Properties backing a {@code RunConfiguration} instance.
@@ -33,8 +34,9 @@ final class RunConfigurationProperties {
     private final boolean overrideBuildSettings;
     private final boolean buildScansEnabled;
     private final boolean offlineMode;
+    private final ProgressDetail progressDetail;
 
-    public RunConfigurationProperties(List<String> tasks, GradleDistribution gradleDistribution, File gradleUserHome, File javaHome, List<String> jvmArguments, List<String> arguments, boolean showConsoleView, boolean showExecutionsView, boolean overrideBuildSettings, boolean buildScansEnabled, boolean offlineMode) {
+    public RunConfigurationProperties(List<String> tasks, GradleDistribution gradleDistribution, File gradleUserHome, File javaHome, List<String> jvmArguments, List<String> arguments, boolean showConsoleView, boolean showExecutionsView, boolean overrideBuildSettings, boolean buildScansEnabled, boolean offlineMode, ProgressDetail progressDetail) {
         this.tasks = tasks;
         this.gradleDistribution = gradleDistribution;
         this.gradleUserHome = gradleUserHome;
@@ -46,6 +48,7 @@ final class RunConfigurationProperties {
         this.overrideBuildSettings = overrideBuildSettings;
         this.buildScansEnabled = buildScansEnabled;
         this.offlineMode = offlineMode;
+        this.progressDetail = progressDetail;
     }
 
     public List<String> getTasks() {
@@ -92,6 +95,10 @@ final class RunConfigurationProperties {
         return this.offlineMode;
     }
 
+    public ProgressDetail getProgressDetail() {
+        return this.progressDetail;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof RunConfigurationProperties) {
@@ -106,13 +113,14 @@ final class RunConfigurationProperties {
                     && Objects.equal(this.showExecutionsView, other.showExecutionsView)
                     && Objects.equal(this.overrideBuildSettings, other.overrideBuildSettings)
                     && Objects.equal(this.buildScansEnabled, other.buildScansEnabled)
-                    && Objects.equal(this.offlineMode, other.offlineMode);
+                    && Objects.equal(this.offlineMode, other.offlineMode)
+                    && Objects.equal(this.progressDetail, other.progressDetail);
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.tasks, this.gradleDistribution, this.gradleUserHome, this.javaHome, this.jvmArguments, this.arguments, this.showConsoleView, this.showExecutionsView, this.overrideBuildSettings, this.buildScansEnabled, this.offlineMode);
+        return Objects.hashCode(this.tasks, this.gradleDistribution, this.gradleUserHome, this.javaHome, this.jvmArguments, this.arguments, this.showConsoleView, this.showExecutionsView, this.overrideBuildSettings, this.buildScansEnabled, this.offlineMode, this.progressDetail);
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ package org.eclipse.buildship.core.internal.extension;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -33,6 +34,7 @@ import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.CoreTraceScopes;
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
 import org.eclipse.buildship.core.internal.Logger;
+import org.eclipse.buildship.core.internal.workspace.BaseConfigurator;
 
 public final class InternalProjectConfigurator implements ProjectConfigurator, Comparable<InternalProjectConfigurator> {
 
@@ -77,6 +79,40 @@ public final class InternalProjectConfigurator implements ProjectConfigurator, C
         return this.contribution.getId();
     }
 
+    /**
+     * Loads the model types declared in the {@code requiredModels} attribute of the contribution.
+     * Types that can't be loaded are ignored.
+     *
+     * @return the required model types
+     */
+    public Set<Class<?>> getRequiredModelTypes() {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (String modelType : this.contribution.getRequiredModels()) {
+            try {
+                result.add(this.configurator.getClass().getClassLoader().loadClass(modelType));
+            } catch (ClassNotFoundException e) {
+                LOGGER.trace(CoreTraceScopes.PROJECT_CONFIGURATORS, "Required model " + modelType + " of configurator " + getId() + " cannot be loaded", e);
+            }
+        }
+        return result;
+    }
+
+    public int getSkippedProjectCount() {
+        return this.configurator instanceof BaseConfigurator ? ((BaseConfigurator) this.configurator).getSkippedProjectCount() : 0;
+    }
+
+    /**
+     * Finishes the work deferred by the configurator until all projects are configured.
+     *
+     * @param monitor the monitor to report the progress on
+     * @throws CoreException if the deferred work fails
+     */
+    public void complete(IProgressMonitor monitor) throws CoreException {
+        if (this.configurator instanceof BaseConfigurator) {
+            ((BaseConfigurator) this.configurator).complete(monitor);
+        }
+    }
+
     public static List<InternalProjectConfigurator> from(List<ProjectConfiguratorContribution> configurators) {
         if (LOGGER.isScopeEnabled(CoreTraceScopes.PROJECT_CONFIGURATORS)) {
             LOGGER.trace(CoreTraceScopes.PROJECT_CONFIGURATORS, "Contributed configurators: " +
@@ -11,11 +11,13 @@ package org.eclipse.buildship.core.internal.gradle;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
+import java.util.Set;
 
 import org.gradle.tooling.CancellationToken;
 import org.gradle.tooling.CancellationTokenSource;
 import org.gradle.tooling.LongRunningOperation;
 import org.gradle.tooling.ProgressListener;
+import org.gradle.tooling.events.OperationType;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.StandardSystemProperty;
@@ -44,14 +46,16 @@ public final class GradleProgressAttributes {
     private final ImmutableList<ProgressListener> progressListeners;
     private final ImmutableList<org.gradle.tooling.events.ProgressListener> progressEventListeners;
     private final boolean isInteractive;
+    private final ProgressDetail progressDetail;
 
     private GradleProgressAttributes(ProcessStreams streams, CancellationToken cancellationToken, List<ProgressListener> progressListeners,
-            List<org.gradle.tooling.events.ProgressListener> progressEventListeners, boolean isInteractive) {
+            List<org.gradle.tooling.events.ProgressListener> progressEventListeners, boolean isInteractive, ProgressDetail progressDetail) {
         this.streams = Preconditions.checkNotNull(streams);
         this.cancellationToken = Preconditions.checkNotNull(cancellationToken);
         this.progressListeners = ImmutableList.copyOf(progressListeners);
         this.progressEventListeners = ImmutableList.copyOf(progressEventListeners);
         this.isInteractive = isInteractive;
+        this.progressDetail = Preconditions.checkNotNull(progressDetail);
     }
 
     /**
@@ -69,11 +73,19 @@ public final class GradleProgressAttributes {
             operation.addProgressListener(listener);
         }
         for (org.gradle.tooling.events.ProgressListener listener : this.progressEventListeners) {
-            operation.addProgressListener(listener);
+            addProgressEventListener(operation, listener);
         }
         operation.withCancellationToken(this.cancellationToken);
     }
 
+    private void addProgressEventListener(LongRunningOperation operation, org.gradle.tooling.events.ProgressListener listener) {
+        // the daemon only sends the events of the subscribed operation types
+        Set<OperationType> operationTypes = this.progressDetail.getOperationTypes();
+        if (!operationTypes.isEmpty()) {
+            operation.addProgressListener(listener, operationTypes);
+        }
+    }
+
     /**
      * Displays the argument in the configuration stream.
      *
@@ -113,6 +125,7 @@ public final class GradleProgressAttributes {
         private ProcessDescription processDescription = null;
         private boolean isInteractive = true;
         private ProgressListener delegatingListener = null;
+        private ProgressDetail progressDetail = ProgressDetail.FULL;
 
         public GradleProgressAttributesBuilder(CancellationTokenSource tokenSource, IProgressMonitor monitor) {
             this.tokenSource = tokenSource;
@@ -145,6 +158,11 @@ public final class GradleProgressAttributes {
             return this;
         }
 
+        public GradleProgressAttributesBuilder withProgressDetail(ProgressDetail progressDetail) {
+            this.progressDetail = progressDetail;
+            return this;
+        }
+
         public GradleProgressAttributes build() {
             ProcessStreamsProvider streamsProvider = CorePlugin.processStreamsProvider();
             ProcessStreams streams = (this.processDescription == null) ? streamsProvider.getBackgroundJobProcessStreams()
@@ -158,7 +176,7 @@ public final class GradleProgressAttributes {
             progressListeners.add(cancellationListener);
             progressEventListeners.add(cancellationListener);
 
-            return new GradleProgressAttributes(streams, this.tokenSource.token(), progressListeners.build(), progressEventListeners.build(), this.isInteractive);
+            return new GradleProgressAttributes(streams, this.tokenSource.token(), progressListeners.build(), progressEventListeners.build(), this.isInteractive, this.progressDetail);
         }
     }
 }
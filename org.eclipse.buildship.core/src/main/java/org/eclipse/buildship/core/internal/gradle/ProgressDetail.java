@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.gradle;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.gradle.tooling.events.OperationType;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Enumerates the levels of progress events a Gradle invocation subscribes to.
+ * <p/>
+ * The Tooling API only sends the events of the subscribed operation types over the daemon
+ * connection, so the less detail is requested the less the daemon has to serialize.
+ */
+public enum ProgressDetail {
+
+    /**
+     * No progress events are received.
+     */
+    NONE(EnumSet.noneOf(OperationType.class)),
+
+    /**
+     * Only the task progress events are received.
+     */
+    TASKS(EnumSet.of(OperationType.TASK)),
+
+    /**
+     * The task and the test progress events are received.
+     */
+    TASKS_AND_TESTS(EnumSet.of(OperationType.TASK, OperationType.TEST)),
+
+    /**
+     * All progress events are received.
+     */
+    FULL(EnumSet.allOf(OperationType.class));
+
+    private final Set<OperationType> operationTypes;
+
+    private ProgressDetail(Set<OperationType> operationTypes) {
+        this.operationTypes = Sets.immutableEnumSet(operationTypes);
+    }
+
+    /**
+     * @return the operation types to pass to
+     *         {@link org.gradle.tooling.LongRunningOperation#addProgressListener(org.gradle.tooling.events.ProgressListener, Set)}
+     */
+    public Set<OperationType> getOperationTypes() {
+        return this.operationTypes;
+    }
+
+    /**
+     * Returns the constant with the target name.
+     *
+     * @param name the name of the constant
+     * @return the matching constant or {@link #FULL} if the name is not valid
+     */
+    public static ProgressDetail fromString(String name) {
+        try {
+            return valueOf(name);
+        } catch (RuntimeException ignore) {
+            return FULL;
+        }
+    }
+}
@@ -57,6 +57,7 @@ public abstract class BaseLaunchRequestJob<T extends LongRunningOperation> exten
         GradleProgressAttributes attributes = GradleProgressAttributes.builder(tokenSource, monitor)
                 .forDedicatedProcess(processDescription)
                 .withFullProgress()
+                .withProgressDetail(runConfig.getProgressDetail())
                 .build();
         T launcher = createLaunch(gradleBuild, runConfig, attributes, processDescription);
 
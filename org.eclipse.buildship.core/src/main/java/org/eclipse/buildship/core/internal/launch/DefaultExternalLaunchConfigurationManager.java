@@ -8,7 +8,10 @@
 
 package org.eclipse.buildship.core.internal.launch;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -46,6 +49,8 @@ public final class DefaultExternalLaunchConfigurationManager implements External
     private static final String ORIGINAL_CLASSPATH_PROVIDER_ATTRIBUTE = CorePlugin.PLUGIN_ID + ".originalclasspathprovider";
 
     private final LaunchConfigurationListener launchConfigurationListener = new LaunchConfigurationListener();
+    private final LaunchConfigurationIndex launchConfigurationIndex = new LaunchConfigurationIndex();
+    private volatile boolean registered;
 
     private DefaultExternalLaunchConfigurationManager() {
     }
@@ -54,35 +59,59 @@ public final class DefaultExternalLaunchConfigurationManager implements External
         DefaultExternalLaunchConfigurationManager manager = new DefaultExternalLaunchConfigurationManager();
         DebugPlugin.getDefault().getLaunchManager().addLaunchConfigurationListener(manager.launchConfigurationListener);
         CorePlugin.listenerRegistry().addEventListener(manager.launchConfigurationListener);
+        manager.registered = true;
         return manager;
     }
 
     public void unregister() {
+        this.registered = false;
         CorePlugin.listenerRegistry().removeEventListener(this.launchConfigurationListener);
         DebugPlugin.getDefault().getLaunchManager().removeLaunchConfigurationListener(this.launchConfigurationListener);
+        this.launchConfigurationIndex.clear();
     }
 
     @Override
     public void updateClasspathProviders(IProject project) {
-        try {
-            ILaunchManager configManager = DebugPlugin.getDefault().getLaunchManager();
-            for (SupportedLaunchConfigType supportedType : SupportedLaunchConfigType.values()) {
-                ILaunchConfigurationType type = configManager.getLaunchConfigurationType(supportedType.getId());
-                for (ILaunchConfiguration config : configManager.getLaunchConfigurations(type)) {
-                    if (hasProject(config, project)) {
-                        updateClasspathProvider(config);
-                    }
-                }
+        updateClasspathProviders(Collections.singleton(project));
+    }
 
+    @Override
+    public void updateClasspathProviders(Collection<IProject> projects) {
+        if (projects.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (ILaunchConfiguration config : findLaunchConfigurations(projects)) {
+                updateClasspathProvider(config);
             }
         } catch (CoreException e) {
             CorePlugin.logger().warn("Cannot update classpath provider", e);
         }
     }
 
-    private static boolean hasProject(ILaunchConfiguration configuration, IProject project) throws CoreException {
-        String projectName = configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, (String)null);
-        return project.getName().equals(projectName);
+    private List<ILaunchConfiguration> findLaunchConfigurations(Collection<IProject> projects) throws CoreException {
+        Set<String> projectNames = Sets.newHashSet();
+        for (IProject project : projects) {
+            projectNames.add(project.getName());
+        }
+
+        // the index is kept up-to-date by the launch configuration listener, so it can only be used while the listener is registered
+        if (this.registered) {
+            return this.launchConfigurationIndex.getConfigurations(projectNames);
+        }
+
+        List<ILaunchConfiguration> result = new ArrayList<>();
+        ILaunchManager configManager = DebugPlugin.getDefault().getLaunchManager();
+        for (SupportedLaunchConfigType supportedType : SupportedLaunchConfigType.values()) {
+            ILaunchConfigurationType type = configManager.getLaunchConfigurationType(supportedType.getId());
+            for (ILaunchConfiguration config : configManager.getLaunchConfigurations(type)) {
+                if (projectNames.contains(config.getAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, (String) null))) {
+                    result.add(config);
+                }
+            }
+        }
+        return result;
     }
 
     @Override
@@ -183,11 +212,13 @@ public final class DefaultExternalLaunchConfigurationManager implements External
 
         @Override
         public void launchConfigurationAdded(ILaunchConfiguration configuration) {
+            DefaultExternalLaunchConfigurationManager.this.launchConfigurationIndex.configurationChanged(configuration);
             updateClasspathProvider(configuration);
         }
 
         @Override
         public void launchConfigurationChanged(ILaunchConfiguration configuration) {
+            DefaultExternalLaunchConfigurationManager.this.launchConfigurationIndex.configurationChanged(configuration);
             if (this.configChangeCalled.get()) {
                 return;
             }
@@ -202,6 +233,7 @@ public final class DefaultExternalLaunchConfigurationManager implements External
 
         @Override
         public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+            DefaultExternalLaunchConfigurationManager.this.launchConfigurationIndex.configurationRemoved(configuration);
         }
 
         @Override
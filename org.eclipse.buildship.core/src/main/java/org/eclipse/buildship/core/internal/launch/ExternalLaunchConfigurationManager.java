@@ -8,6 +8,8 @@
 
 package org.eclipse.buildship.core.internal.launch;
 
+import java.util.Collection;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.debug.core.ILaunchConfiguration;
 
@@ -33,6 +35,14 @@ public interface ExternalLaunchConfigurationManager {
      */
     void updateClasspathProviders(IProject project);
 
+    /**
+     * Calls {@link #updateClasspathProvider(ILaunchConfiguration)} for all run configurations
+     * referencing any of the target projects.
+     *
+     * @param projects the target projects
+     */
+    void updateClasspathProviders(Collection<IProject> projects);
+
     /**
      * Updates the classpath provider on the target configuration.
      * <p/>
@@ -14,6 +14,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
@@ -57,17 +58,18 @@ public final class GradleClasspathProvider extends StandardClasspathProvider imp
 
     @Override
     public IRuntimeClasspathEntry[] computeUnresolvedClasspath(ILaunchConfiguration configuration) throws CoreException {
-        return filterUnusedDependencies(configuration, super.computeUnresolvedClasspath(configuration));
+        return LaunchClasspathContext.resolve(configuration, c -> filterUnusedDependencies(configuration, super.computeUnresolvedClasspath(configuration), c));
     }
 
-    private IRuntimeClasspathEntry[] filterUnusedDependencies(ILaunchConfiguration configuration, IRuntimeClasspathEntry[] entriesToFilter) throws CoreException {
+    private IRuntimeClasspathEntry[] filterUnusedDependencies(ILaunchConfiguration configuration, IRuntimeClasspathEntry[] entriesToFilter, LaunchClasspathContext context)
+            throws CoreException {
         // if the run configuration uses Java 9 then the library dependencies are already present in the
         // unresolved classpath. That is because the Java 9 support calculates the class/module path from
         // the result of IJavaProject.getResolvedClasspath(true). Unfortunately, the runtime entries don't
         // have the source set attribute, so we have to filter them base on entry paths.
         IJavaProject project = JavaRuntime.getJavaProject(configuration);
         IClasspathEntry[] classpath = project.getResolvedClasspath(true);
-        LaunchConfigurationScope configurationScopes = LaunchConfigurationScope.from(configuration);
+        LaunchConfigurationScope configurationScopes = context.getScope();
         Set<IPath> excludedPaths = Sets.newHashSet();
         for (IClasspathEntry entry : classpath) {
             if (!configurationScopes.isEntryIncluded(entry)) {
@@ -87,6 +89,11 @@ public final class GradleClasspathProvider extends StandardClasspathProvider imp
 
     @Override
     public IRuntimeClasspathEntry[] resolveClasspath(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration) throws CoreException {
+        // the Gradle container resolver and the nested resolveClasspath() calls share the context of the launch
+        return LaunchClasspathContext.resolve(configuration, c -> resolveClasspath(entries, configuration, c));
+    }
+
+    private IRuntimeClasspathEntry[] resolveClasspath(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration, LaunchClasspathContext context) throws CoreException {
         Set<IRuntimeClasspathEntry> result = new LinkedHashSet<>(entries.length);
         for (IRuntimeClasspathEntry entry : entries) {
             switch (entry.getType()) {
@@ -94,7 +101,7 @@ public final class GradleClasspathProvider extends StandardClasspathProvider imp
                     Collections.addAll(result, resolveOther(entry, configuration));
                     break;
                 case IRuntimeClasspathEntry.PROJECT:
-                    Collections.addAll(result, resolveProject(entry, configuration));
+                    Collections.addAll(result, resolveProject(entry, context));
                     break;
                 default:
                     Collections.addAll(result, JavaRuntime.resolveRuntimeClasspathEntry(entry, configuration));
@@ -122,16 +129,16 @@ public final class GradleClasspathProvider extends StandardClasspathProvider imp
         }
     }
 
-    private IRuntimeClasspathEntry[] resolveProject(IRuntimeClasspathEntry entry, ILaunchConfiguration configuration) throws CoreException {
+    private IRuntimeClasspathEntry[] resolveProject(IRuntimeClasspathEntry entry, LaunchClasspathContext context) throws CoreException {
         IResource resource = entry.getResource();
         if (resource instanceof IProject) {
-            return resolveProject(entry, (IProject) resource, configuration);
+            return resolveProject(entry, (IProject) resource, context);
         } else {
             return resolveOptional(entry);
         }
     }
 
-    private IRuntimeClasspathEntry[] resolveProject(IRuntimeClasspathEntry projectEntry, IProject project, ILaunchConfiguration configuration) throws CoreException {
+    private IRuntimeClasspathEntry[] resolveProject(IRuntimeClasspathEntry projectEntry, IProject project, LaunchClasspathContext context) throws CoreException {
         if (!project.isOpen()) {
             return EMPTY_RESULT;
         }
@@ -141,8 +148,7 @@ public final class GradleClasspathProvider extends StandardClasspathProvider imp
             return EMPTY_RESULT;
         }
 
-        LaunchConfigurationScope configurationScopes = LaunchConfigurationScope.from(configuration);
-        return resolveOutputLocations(projectEntry, javaProject, configurationScopes);
+        return resolveOutputLocations(projectEntry, context.getOutputLocations(javaProject));
     }
 
     private IRuntimeClasspathEntry[] resolveOptional(IRuntimeClasspathEntry entry) throws CoreException {
@@ -163,8 +169,35 @@ public final class GradleClasspathProvider extends StandardClasspathProvider imp
         return false;
     }
 
-    public static IRuntimeClasspathEntry[] resolveOutputLocations(IRuntimeClasspathEntry projectEntry, IJavaProject project, LaunchConfigurationScope configurationScopes)
-            throws CoreException {
+    /**
+     * Creates the runtime entries of a project's output folders.
+     *
+     * @param projectEntry the runtime entry of the project
+     * @param outputLocations the output folders returned by {@link #collectOutputLocations(IJavaProject, LaunchConfigurationScope)}
+     * @return the runtime entries of the output folders or the project entry if there are none
+     */
+    public static IRuntimeClasspathEntry[] resolveOutputLocations(IRuntimeClasspathEntry projectEntry, List<IPath> outputLocations) {
+        if (outputLocations.isEmpty()) {
+            return new IRuntimeClasspathEntry[] { projectEntry };
+        }
+
+        IRuntimeClasspathEntry[] result = new IRuntimeClasspathEntry[outputLocations.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new RuntimeClasspathEntry(JavaCore.newLibraryEntry(outputLocations.get(i), null, null));
+            result[i].setClasspathProperty(projectEntry.getClasspathProperty());
+        }
+        return result;
+    }
+
+    /**
+     * Collects the output folders of the source folders in the target scope.
+     *
+     * @param project the target project
+     * @param configurationScopes the scope of the launch configuration
+     * @return the output folders or an empty list if the project entry should be used as is
+     * @throws CoreException if the classpath of the project can't be read
+     */
+    public static List<IPath> collectOutputLocations(IJavaProject project, LaunchConfigurationScope configurationScopes) throws CoreException {
         List<IPath> outputLocations = Lists.newArrayList();
         boolean hasSourceFolderWithoutCustomOutput = false;
 
@@ -187,19 +220,13 @@ public final class GradleClasspathProvider extends StandardClasspathProvider imp
         }
 
         if (outputLocations.isEmpty()) {
-            return new IRuntimeClasspathEntry[] { projectEntry };
+            return ImmutableList.of();
         }
 
         IPath defaultOutputLocation = project.getOutputLocation();
         if (!outputLocations.contains(defaultOutputLocation) && hasSourceFolderWithoutCustomOutput) {
             outputLocations.add(defaultOutputLocation);
         }
-
-        IRuntimeClasspathEntry[] result = new IRuntimeClasspathEntry[outputLocations.size()];
-        for (int i = 0; i < result.length; i++) {
-            result[i] = new RuntimeClasspathEntry(JavaCore.newLibraryEntry(outputLocations.get(i), null, null));
-            result[i].setClasspathProperty(projectEntry.getClasspathProperty());
-        }
-        return result;
+        return ImmutableList.copyOf(outputLocations);
     }
 }
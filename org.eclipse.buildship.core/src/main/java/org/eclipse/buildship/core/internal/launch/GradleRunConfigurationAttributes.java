@@ -26,6 +26,7 @@ import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 
 import org.eclipse.buildship.core.GradleDistribution;
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.gradle.ProgressDetail;
 import org.eclipse.buildship.core.internal.util.file.FileUtils;
 import org.eclipse.buildship.core.internal.util.variable.ExpressionUtils;
 
@@ -47,6 +48,7 @@ public final class GradleRunConfigurationAttributes {
     private static final String OVERRIDE_BUILD_SETTINGS = "override_workspace_settings";
     private static final String OFFLINE_MODE = "offline_mode";
     private static final String BUILD_SCANS_ENABLED = "build_scans_enabled";
+    private static final String PROGRESS_DETAIL = "progress_detail";
 
     private final ImmutableList<String> tasks;
     private final String workingDirExpression;
@@ -60,9 +62,17 @@ public final class GradleRunConfigurationAttributes {
     private final boolean overrideBuildSettings;
     private final boolean isOffline;
     private final boolean isBuildScansEnabled;
+    private final ProgressDetail progressDetail;
 
     public GradleRunConfigurationAttributes(List<String> tasks, String workingDirExpression, String gradleDistribution, String gradleUserHomeExpression,
             String javaHomeExpression, List<String> jvmArgumentExpressions, List<String> argumentExpressions, boolean showExecutionView, boolean showConsoleView, boolean overrideWorkspaceSettings, boolean isOffline, boolean isBuildScansEnabled) {
+        this(tasks, workingDirExpression, gradleDistribution, gradleUserHomeExpression, javaHomeExpression, jvmArgumentExpressions, argumentExpressions, showExecutionView, showConsoleView,
+                overrideWorkspaceSettings, isOffline, isBuildScansEnabled, ProgressDetail.FULL);
+    }
+
+    public GradleRunConfigurationAttributes(List<String> tasks, String workingDirExpression, String gradleDistribution, String gradleUserHomeExpression,
+            String javaHomeExpression, List<String> jvmArgumentExpressions, List<String> argumentExpressions, boolean showExecutionView, boolean showConsoleView, boolean overrideWorkspaceSettings, boolean isOffline, boolean isBuildScansEnabled,
+            ProgressDetail progressDetail) {
         this.tasks = ImmutableList.copyOf(tasks);
         this.workingDirExpression = Preconditions.checkNotNull(workingDirExpression);
         this.gradleDistribution = gradleDistribution;
@@ -75,6 +85,7 @@ public final class GradleRunConfigurationAttributes {
         this.overrideBuildSettings = overrideWorkspaceSettings;
         this.isOffline = isOffline;
         this.isBuildScansEnabled = isBuildScansEnabled;
+        this.progressDetail = Preconditions.checkNotNull(progressDetail);
     }
 
     public ImmutableList<String> getTasks() {
@@ -184,6 +195,10 @@ public final class GradleRunConfigurationAttributes {
         return this.isBuildScansEnabled;
     }
 
+    public ProgressDetail getProgressDetail() {
+        return this.progressDetail;
+    }
+
     public boolean hasSameUniqueAttributes(ILaunchConfiguration launchConfiguration) {
         // reuse an existing run configuration if the working directory and the tasks are the same,
         // regardless of the other settings of the launch configuration
@@ -208,6 +223,7 @@ public final class GradleRunConfigurationAttributes {
         applyOverrideBuildSettings(this.overrideBuildSettings, launchConfiguration);
         applyOfflineMode(this.isOffline, launchConfiguration);
         applyBuildScansEnabled(this.isBuildScansEnabled, launchConfiguration);
+        applyProgressDetail(this.progressDetail, launchConfiguration);
     }
 
     public static void applyTasks(List<String> tasks, ILaunchConfigurationWorkingCopy launchConfiguration) {
@@ -262,6 +278,10 @@ public final class GradleRunConfigurationAttributes {
         launchConfiguration.setAttribute(BUILD_SCANS_ENABLED, buildScansEnabled);
     }
 
+    public static void applyProgressDetail(ProgressDetail progressDetail, ILaunchConfigurationWorkingCopy launchConfiguration) {
+        launchConfiguration.setAttribute(PROGRESS_DETAIL, progressDetail.name());
+    }
+
     public static GradleRunConfigurationAttributes from(ILaunchConfiguration launchConfiguration) {
         Preconditions.checkNotNull(launchConfiguration);
         List<String> tasks = getListAttribute(TASKS, launchConfiguration);
@@ -277,8 +297,9 @@ public final class GradleRunConfigurationAttributes {
         boolean overrideWorkspaceSettings = getBooleanAttribute(OVERRIDE_BUILD_SETTINGS, false, launchConfiguration);
         boolean isOffline = getBooleanAttribute(OFFLINE_MODE, false, launchConfiguration);
         boolean isBuildScansEnabled = getBooleanAttribute(BUILD_SCANS_ENABLED, false, launchConfiguration);
+        ProgressDetail progressDetail = ProgressDetail.fromString(getStringAttribute(PROGRESS_DETAIL, ProgressDetail.FULL.name(), launchConfiguration));
         return new GradleRunConfigurationAttributes(tasks, workingDirExpression, gradleDistribution, gradleUserHomeExpression, javaHomeExpression, jvmArgumentExpressions, argumentExpressions,
-                showExecutionView, showConsoleView, overrideWorkspaceSettings, isOffline, isBuildScansEnabled);
+                showExecutionView, showConsoleView, overrideWorkspaceSettings, isOffline, isBuildScansEnabled, progressDetail);
     }
 
     private static List<String> getListAttribute(String name, ILaunchConfiguration configuration) {
@@ -319,7 +340,8 @@ public final class GradleRunConfigurationAttributes {
                     && Objects.equal(this.showConsoleView, other.showConsoleView)
                     && Objects.equal(this.overrideBuildSettings, other.overrideBuildSettings)
                     && Objects.equal(this.isOffline, other.isOffline)
-                    && Objects.equal(this.isBuildScansEnabled, other.isBuildScansEnabled);
+                    && Objects.equal(this.isBuildScansEnabled, other.isBuildScansEnabled)
+                    && Objects.equal(this.progressDetail, other.progressDetail);
         }
         return false;
     }
@@ -336,7 +358,8 @@ public final class GradleRunConfigurationAttributes {
                     this.showConsoleView,
                     this.overrideBuildSettings,
                     this.isOffline,
-                    this.isBuildScansEnabled);
+                    this.isBuildScansEnabled,
+                    this.progressDetail);
     }
 
 }
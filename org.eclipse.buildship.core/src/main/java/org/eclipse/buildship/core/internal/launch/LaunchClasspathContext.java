@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.launch;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+
+/**
+ * Holds the values computed while the runtime classpath of a launch configuration is resolved.
+ * <p/>
+ * JDT resolves the classpath entries one by one, and each Gradle classpath container and project
+ * entry would otherwise recompute the dependency scope of the launch configuration and walk the
+ * same project dependencies again. The context computes the scope once and memoizes the values
+ * loaded through {@link #get(List, Loader)}. If enabled, the values are also shared across
+ * launches via the {@link RuntimeClasspathCache}.
+ * <p/>
+ * The context of a resolution is bound to the current thread by
+ * {@link #resolve(ILaunchConfiguration, Resolution)}. The instances are not thread-safe.
+ */
+public final class LaunchClasspathContext {
+
+    private static final ThreadLocal<LaunchClasspathContext> CURRENT = new ThreadLocal<>();
+
+    private final ILaunchConfiguration configuration;
+    private LaunchConfigurationScope scope;
+    private final Map<List<?>, Object> values = new HashMap<>();
+
+    private LaunchClasspathContext(ILaunchConfiguration configuration, LaunchConfigurationScope scope) {
+        this.configuration = configuration;
+        this.scope = scope;
+    }
+
+    /**
+     * Executes a resolution step with the context of the target launch configuration. If a
+     * resolution of the same configuration is already in progress on the current thread then its
+     * context is reused.
+     *
+     * @param configuration the launch configuration being resolved
+     * @param resolution the resolution step
+     * @return the result of the resolution
+     * @throws CoreException if the resolution fails
+     */
+    public static <T> T resolve(ILaunchConfiguration configuration, Resolution<T> resolution) throws CoreException {
+        LaunchClasspathContext previous = CURRENT.get();
+        if (previous != null && previous.isFor(configuration)) {
+            return resolution.run(previous);
+        }
+
+        LaunchClasspathContext context = new LaunchClasspathContext(configuration, null);
+        CURRENT.set(context);
+        try {
+            return resolution.run(context);
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the context of the resolution in progress for the target launch configuration. If
+     * there's none then a new context is returned which is only used by the caller.
+     *
+     * @param configuration the launch configuration being resolved
+     * @return the context
+     */
+    public static LaunchClasspathContext current(ILaunchConfiguration configuration) {
+        LaunchClasspathContext current = CURRENT.get();
+        return current != null && current.isFor(configuration) ? current : new LaunchClasspathContext(configuration, null);
+    }
+
+    /**
+     * Returns a new context to resolve entries without a launch configuration. The context doesn't
+     * filter any entries.
+     *
+     * @return the context
+     */
+    public static LaunchClasspathContext withoutLaunchConfiguration() {
+        return new LaunchClasspathContext(null, LaunchConfigurationScope.INCLUDE_ALL);
+    }
+
+    private boolean isFor(ILaunchConfiguration configuration) {
+        return this.configuration != null && this.configuration.equals(configuration);
+    }
+
+    /**
+     * Returns the dependency scope of the launch configuration. The scope is calculated on the
+     * first call.
+     *
+     * @return the scope
+     */
+    public LaunchConfigurationScope getScope() {
+        if (this.scope == null) {
+            this.scope = LaunchConfigurationScope.from(this.configuration);
+        }
+        return this.scope;
+    }
+
+    /**
+     * Returns the output folders of a project used by the current scope.
+     *
+     * @param project the target project
+     * @return the output folders or an empty list if the project entry should be used as is
+     * @throws CoreException if the classpath of the project can't be read
+     * @see GradleClasspathProvider#collectOutputLocations(IJavaProject, LaunchConfigurationScope)
+     */
+    public List<IPath> getOutputLocations(IJavaProject project) throws CoreException {
+        return get(Arrays.asList("outputLocations", project), () -> GradleClasspathProvider.collectOutputLocations(project, getScope()));
+    }
+
+    /**
+     * Returns a value derived from the workspace and the current scope. The value is loaded once
+     * per context. The value must be immutable and it must only depend on the classpath of the
+     * Java projects, as it is shared across launches with the same scope.
+     *
+     * @param key the key of the value, consisting of immutable elements
+     * @param loader the loader computing the value
+     * @return the value
+     * @throws CoreException if the value can't be loaded
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(List<?> key, Loader<T> loader) throws CoreException {
+        T value = (T) this.values.get(key);
+        if (value == null) {
+            value = CorePlugin.runtimeClasspathCache().get(key, getScope(), loader);
+            this.values.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * A resolution step executed with a context.
+     *
+     * @param <T> the result type
+     */
+    public interface Resolution<T> {
+
+        T run(LaunchClasspathContext context) throws CoreException;
+    }
+
+    /**
+     * Loads a value missing from the context.
+     *
+     * @param <T> the value type
+     */
+    public interface Loader<T> {
+
+        T load() throws CoreException;
+    }
+}
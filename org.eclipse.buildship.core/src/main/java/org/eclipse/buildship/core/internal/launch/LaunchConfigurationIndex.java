@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.launch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+
+/**
+ * Maps the project names to the launch configurations of the {@link SupportedLaunchConfigType
+ * supported types} referencing them.
+ * <p/>
+ * The index is built when it is first queried and it is updated by the launch configuration
+ * listener of {@link DefaultExternalLaunchConfigurationManager}.
+ */
+final class LaunchConfigurationIndex {
+
+    private final Map<String, Set<ILaunchConfiguration>> configurationsByProject = new HashMap<>();
+    private final Map<ILaunchConfiguration, String> projectsByConfiguration = new HashMap<>();
+    private boolean initialized;
+
+    /**
+     * Returns the launch configurations referencing any of the target projects.
+     *
+     * @param projectNames the names of the target projects
+     * @return the launch configurations
+     * @throws CoreException if the index can't be built
+     */
+    synchronized List<ILaunchConfiguration> getConfigurations(Collection<String> projectNames) throws CoreException {
+        if (!this.initialized) {
+            rebuild();
+        }
+
+        List<ILaunchConfiguration> result = new ArrayList<>();
+        for (String projectName : projectNames) {
+            Set<ILaunchConfiguration> configurations = this.configurationsByProject.get(projectName);
+            if (configurations != null) {
+                result.addAll(configurations);
+            }
+        }
+        return result;
+    }
+
+    synchronized void configurationChanged(ILaunchConfiguration configuration) {
+        if (this.initialized) {
+            remove(configuration);
+            add(configuration);
+        }
+    }
+
+    synchronized void configurationRemoved(ILaunchConfiguration configuration) {
+        if (this.initialized) {
+            remove(configuration);
+        }
+    }
+
+    synchronized void clear() {
+        this.configurationsByProject.clear();
+        this.projectsByConfiguration.clear();
+        this.initialized = false;
+    }
+
+    private void rebuild() throws CoreException {
+        clear();
+        ILaunchManager launchManager = DebugPlugin.getDefault().getLaunchManager();
+        for (SupportedLaunchConfigType supportedType : SupportedLaunchConfigType.values()) {
+            ILaunchConfigurationType type = launchManager.getLaunchConfigurationType(supportedType.getId());
+            for (ILaunchConfiguration configuration : launchManager.getLaunchConfigurations(type)) {
+                add(configuration);
+            }
+        }
+        this.initialized = true;
+    }
+
+    private void add(ILaunchConfiguration configuration) {
+        if (!configuration.exists() || !SupportedLaunchConfigType.isSupported(configuration)) {
+            return;
+        }
+
+        String projectName;
+        try {
+            projectName = configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, (String) null);
+        } catch (CoreException e) {
+            return;
+        }
+
+        if (projectName != null) {
+            Set<ILaunchConfiguration> configurations = this.configurationsByProject.get(projectName);
+            if (configurations == null) {
+                configurations = new LinkedHashSet<>();
+                this.configurationsByProject.put(projectName, configurations);
+            }
+            configurations.add(configuration);
+            this.projectsByConfiguration.put(configuration, projectName);
+        }
+    }
+
+    private void remove(ILaunchConfiguration configuration) {
+        String projectName = this.projectsByConfiguration.remove(configuration);
+        if (projectName != null) {
+            Set<ILaunchConfiguration> configurations = this.configurationsByProject.get(projectName);
+            configurations.remove(configuration);
+            if (configurations.isEmpty()) {
+                this.configurationsByProject.remove(projectName);
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.eclipse.buildship.core.internal.launch;
 
 import java.util.Set;
 
+import com.google.common.base.Objects;
 import com.google.common.base.Optional;
 import com.google.common.collect.Sets;
 
@@ -104,5 +105,22 @@ public abstract class LaunchConfigurationScope {
 
             return !Sets.intersection(this.scopes, entryUsedByScopes.get()).isEmpty();
         }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            FilteringLaunchConfigurationScope other = (FilteringLaunchConfigurationScope) obj;
+            return Objects.equal(this.scopes, other.scopes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.scopes);
+        }
     }
 }
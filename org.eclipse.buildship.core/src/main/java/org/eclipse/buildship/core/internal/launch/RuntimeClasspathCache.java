@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.launch;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.configuration.AdvancedPreferences;
+import org.eclipse.buildship.core.internal.util.cache.CachePolicy;
+
+/**
+ * Shares the values of the {@link LaunchClasspathContext} across launches.
+ * <p/>
+ * The cache is only used if {@link AdvancedPreferences#isLaunchClasspathCacheEnabled()} is set.
+ * The cached values only depend on the classpath of the Java projects, so the whole cache is
+ * invalidated when a Java project is added, removed, opened or closed, or when its raw or resolved
+ * classpath changes. The latter includes the updates of the Gradle classpath container.
+ */
+public final class RuntimeClasspathCache implements IElementChangedListener {
+
+    private static final int CLASSPATH_CHANGED = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+            | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+    private final Cache<List<?>, Object> cache = CachePolicy.LAUNCH_CLASSPATH.newCache();
+
+    private RuntimeClasspathCache() {
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(List<?> key, LaunchConfigurationScope scope, LaunchClasspathContext.Loader<T> loader) throws CoreException {
+        if (!AdvancedPreferences.isLaunchClasspathCacheEnabled()) {
+            CachePolicy.LAUNCH_CLASSPATH.getMetrics(this.cache).recordBypass();
+            return loader.load();
+        }
+
+        try {
+            return (T) this.cache.get(Arrays.asList(key, scope), loader::load);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CoreException) {
+                throw (CoreException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new GradlePluginsRuntimeException(cause);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        if (affectsRuntimeClasspath(event.getDelta())) {
+            invalidateAll();
+        }
+    }
+
+    private static boolean affectsRuntimeClasspath(IJavaElementDelta delta) {
+        int elementType = delta.getElement().getElementType();
+        if (elementType == IJavaElement.JAVA_MODEL) {
+            for (IJavaElementDelta child : delta.getAffectedChildren()) {
+                if (affectsRuntimeClasspath(child)) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (elementType == IJavaElement.JAVA_PROJECT) {
+            return delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_CHANGED) != 0;
+        } else {
+            return false;
+        }
+    }
+
+    public static RuntimeClasspathCache createAndRegister() {
+        RuntimeClasspathCache cache = new RuntimeClasspathCache();
+        JavaCore.addElementChangedListener(cache, ElementChangedEvent.POST_CHANGE);
+        return cache;
+    }
+
+    public void close() {
+        JavaCore.removeElementChangedListener(this);
+        invalidateAll();
+    }
+}
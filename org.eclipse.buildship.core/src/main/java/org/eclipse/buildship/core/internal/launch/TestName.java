@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.launch;
+
+import org.gradle.tooling.TestLauncher;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * {@link TestTarget} implementation backed by the name of a test class and optionally the name of
+ * a test method.
+ * <p/>
+ * Unlike the test operation descriptors, the names remain valid after the Gradle connection is
+ * closed, so they can be used to run the tests of a previous session.
+ */
+public final class TestName implements TestTarget {
+
+    private final String className;
+    private final String methodName;
+
+    private TestName(String className, String methodName) {
+        this.className = Preconditions.checkNotNull(className);
+        this.methodName = methodName;
+    }
+
+    @Override
+    public String getSimpleName() {
+        int index = this.className.lastIndexOf('.');
+        String simpleClassName = index >= 0 ? this.className.substring(index + 1) : this.className;
+        return this.methodName != null ? simpleClassName + "#" + this.methodName : simpleClassName;
+    }
+
+    @Override
+    public String getQualifiedName() {
+        return this.methodName != null ? this.className + "#" + this.methodName : this.className;
+    }
+
+    @Override
+    public void apply(TestLauncher launcher) {
+        if (this.methodName != null) {
+            launcher.withJvmTestMethods(this.className, this.methodName);
+        } else {
+            launcher.withJvmTestClasses(this.className);
+        }
+    }
+
+    public static TestName from(String className, String methodName) {
+        return new TestName(className, methodName);
+    }
+
+}
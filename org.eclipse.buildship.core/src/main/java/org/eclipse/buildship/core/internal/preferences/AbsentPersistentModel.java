@@ -85,4 +85,9 @@ final class AbsentPersistentModel implements PersistentModel {
     public boolean hasAutoBuildTasks() {
         throw new IllegalStateException("Absent persistent model");
     }
+
+    @Override
+    public String getModelDigest() {
+        throw new IllegalStateException("Absent persistent model");
+    }
 }
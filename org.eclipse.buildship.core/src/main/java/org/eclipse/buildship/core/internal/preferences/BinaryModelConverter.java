@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.preferences;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.ICommand;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+
+/**
+ * Contains helper methods for the {@link PersistentModel} <-> binary record conversion.
+ * <p/>
+ * The records don't contain strings, only references to a {@link StringTable} shared by all records
+ * of the same index file, so the paths repeated across projects (e.g. the Gradle caches) are stored
+ * once. Paths pointing inside the owner project are stored relative to the project, so the records
+ * stay valid when the project is renamed.
+ */
+final class BinaryModelConverter {
+
+    private static final int NULL_REFERENCE = -1;
+
+    private static final byte PATH_NULL = 0;
+    private static final byte PATH_ABSOLUTE = 1;
+    private static final byte PATH_PROJECT_RELATIVE = 2;
+
+    private BinaryModelConverter() {
+    }
+
+    static byte[] toBytes(PersistentModel model, InternedStrings strings) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            Writer writer = new Writer(output, strings, model.getProject());
+            writer.writePath(model.getBuildDir());
+            writer.writePath(model.getbuildScriptPath());
+            writer.writePaths(model.getSubprojectPaths());
+            writer.writeClasspath(model.getClasspath());
+            writer.writePaths(model.getDerivedResources());
+            writer.writePaths(model.getLinkedResources());
+            writer.writeStrings(model.getManagedNatures());
+            writer.writeCommands(model.getManagedBuilders());
+            output.writeBoolean(model.hasAutoBuildTasks());
+            writer.writeString(model.getModelDigest());
+        }
+        return bytes.toByteArray();
+    }
+
+    static PersistentModel toModel(IProject project, ByteBuffer record, StringTable strings) {
+        Reader reader = new Reader(record, strings, project);
+        IPath buildDir = reader.readPath();
+        IPath buildScriptPath = reader.readPath();
+        List<IPath> subprojectPaths = reader.readPaths();
+        List<IClasspathEntry> classpath = reader.readClasspath();
+        List<IPath> derivedResources = reader.readPaths();
+        List<IPath> linkedResources = reader.readPaths();
+        List<String> managedNatures = reader.readStrings();
+        List<ICommand> managedBuilders = reader.readCommands();
+        boolean hasAutoBuildTasks = record.get() != 0;
+        String modelDigest = reader.readString();
+        return new DefaultPersistentModel(project, buildDir, buildScriptPath, subprojectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, modelDigest);
+    }
+
+    /**
+     * The strings referenced from the records.
+     */
+    interface StringTable {
+
+        String get(int index);
+    }
+
+    /**
+     * String table collecting the strings while the records are written.
+     */
+    static final class InternedStrings implements StringTable {
+
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int intern(String value) {
+            Integer index = this.indices.get(value);
+            if (index == null) {
+                index = this.values.size();
+                this.indices.put(value, index);
+                this.values.add(value);
+            }
+            return index;
+        }
+
+        @Override
+        public String get(int index) {
+            return this.values.get(index);
+        }
+
+        List<String> getValues() {
+            return this.values;
+        }
+    }
+
+    /**
+     * Writes the record elements.
+     */
+    private static final class Writer {
+
+        private final DataOutputStream output;
+        private final InternedStrings strings;
+        private final IPath projectPath;
+
+        Writer(DataOutputStream output, InternedStrings strings, IProject project) {
+            this.output = output;
+            this.strings = strings;
+            this.projectPath = project.getFullPath();
+        }
+
+        void writeString(String value) throws IOException {
+            this.output.writeInt(value == null ? NULL_REFERENCE : this.strings.intern(value));
+        }
+
+        void writeStrings(Collection<String> values) throws IOException {
+            this.output.writeInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        void writePath(IPath path) throws IOException {
+            if (path == null) {
+                this.output.writeByte(PATH_NULL);
+            } else if (this.projectPath.isPrefixOf(path) && path.isAbsolute() && path.getDevice() == null) {
+                this.output.writeByte(PATH_PROJECT_RELATIVE);
+                writeString(path.removeFirstSegments(this.projectPath.segmentCount()).toPortableString());
+            } else {
+                this.output.writeByte(PATH_ABSOLUTE);
+                writeString(path.toPortableString());
+            }
+        }
+
+        void writePaths(Collection<? extends IPath> paths) throws IOException {
+            this.output.writeInt(paths.size());
+            for (IPath path : paths) {
+                writePath(path);
+            }
+        }
+
+        void writeClasspath(List<IClasspathEntry> classpath) throws IOException {
+            this.output.writeInt(classpath.size());
+            for (IClasspathEntry entry : classpath) {
+                int kind = entry.getEntryKind();
+                this.output.writeByte(kind);
+                writePath(entry.getPath());
+                switch (kind) {
+                    case IClasspathEntry.CPE_LIBRARY:
+                    case IClasspathEntry.CPE_VARIABLE:
+                        writePath(entry.getSourceAttachmentPath());
+                        writePath(entry.getSourceAttachmentRootPath());
+                        break;
+                    case IClasspathEntry.CPE_SOURCE:
+                        writePaths(Arrays.asList(entry.getInclusionPatterns()));
+                        writePaths(Arrays.asList(entry.getExclusionPatterns()));
+                        writePath(entry.getOutputLocation());
+                        break;
+                    case IClasspathEntry.CPE_PROJECT:
+                        this.output.writeBoolean(entry.combineAccessRules());
+                        break;
+                    default:
+                        break;
+                }
+                writeAccessRules(entry.getAccessRules());
+                writeAttributes(entry.getExtraAttributes());
+                this.output.writeBoolean(entry.isExported());
+            }
+        }
+
+        private void writeAccessRules(IAccessRule[] rules) throws IOException {
+            this.output.writeInt(rules.length);
+            for (IAccessRule rule : rules) {
+                this.output.writeInt(rule.getKind() | (rule.ignoreIfBetter() ? IAccessRule.IGNORE_IF_BETTER : 0));
+                writeString(rule.getPattern().toPortableString());
+            }
+        }
+
+        private void writeAttributes(IClasspathAttribute[] attributes) throws IOException {
+            this.output.writeInt(attributes.length);
+            for (IClasspathAttribute attribute : attributes) {
+                writeString(attribute.getName());
+                writeString(attribute.getValue());
+            }
+        }
+
+        void writeCommands(List<ICommand> commands) throws IOException {
+            this.output.writeInt(commands.size());
+            for (ICommand command : commands) {
+                writeString(command.getBuilderName());
+                Map<String, String> arguments = command.getArguments();
+                this.output.writeInt(arguments.size());
+                for (Map.Entry<String, String> argument : arguments.entrySet()) {
+                    writeString(argument.getKey());
+                    writeString(argument.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the record elements.
+     */
+    private static final class Reader {
+
+        private final ByteBuffer record;
+        private final StringTable strings;
+        private final IProject project;
+
+        Reader(ByteBuffer record, StringTable strings, IProject project) {
+            this.record = record;
+            this.strings = strings;
+            this.project = project;
+        }
+
+        String readString() {
+            int index = this.record.getInt();
+            return index == NULL_REFERENCE ? null : this.strings.get(index);
+        }
+
+        List<String> readStrings() {
+            int size = this.record.getInt();
+            List<String> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(readString());
+            }
+            return result;
+        }
+
+        IPath readPath() {
+            byte type = this.record.get();
+            if (type == PATH_NULL) {
+                return null;
+            } else if (type == PATH_PROJECT_RELATIVE) {
+                return this.project.getFullPath().append(readString());
+            } else {
+                return Path.fromPortableString(readString());
+            }
+        }
+
+        List<IPath> readPaths() {
+            int size = this.record.getInt();
+            List<IPath> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(readPath());
+            }
+            return result;
+        }
+
+        List<IClasspathEntry> readClasspath() {
+            int size = this.record.getInt();
+            List<IClasspathEntry> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(readClasspathEntry());
+            }
+            return result;
+        }
+
+        private IClasspathEntry readClasspathEntry() {
+            int kind = this.record.get();
+            IPath path = readPath();
+            IPath sourceAttachmentPath = null;
+            IPath sourceAttachmentRootPath = null;
+            IPath[] inclusionPatterns = null;
+            IPath[] exclusionPatterns = null;
+            IPath outputLocation = null;
+            boolean combineAccessRules = true;
+            switch (kind) {
+                case IClasspathEntry.CPE_LIBRARY:
+                case IClasspathEntry.CPE_VARIABLE:
+                    sourceAttachmentPath = readPath();
+                    sourceAttachmentRootPath = readPath();
+                    break;
+                case IClasspathEntry.CPE_SOURCE:
+                    inclusionPatterns = readPaths().toArray(new IPath[0]);
+                    exclusionPatterns = readPaths().toArray(new IPath[0]);
+                    outputLocation = readPath();
+                    break;
+                case IClasspathEntry.CPE_PROJECT:
+                    combineAccessRules = this.record.get() != 0;
+                    break;
+                default:
+                    break;
+            }
+            IAccessRule[] accessRules = readAccessRules();
+            IClasspathAttribute[] attributes = readAttributes();
+            boolean exported = this.record.get() != 0;
+
+            switch (kind) {
+                case IClasspathEntry.CPE_LIBRARY:
+                    return JavaCore.newLibraryEntry(path, sourceAttachmentPath, sourceAttachmentRootPath, accessRules, attributes, exported);
+                case IClasspathEntry.CPE_VARIABLE:
+                    return JavaCore.newVariableEntry(path, sourceAttachmentPath, sourceAttachmentRootPath, accessRules, attributes, exported);
+                case IClasspathEntry.CPE_SOURCE:
+                    return JavaCore.newSourceEntry(path, inclusionPatterns, exclusionPatterns, outputLocation, attributes);
+                case IClasspathEntry.CPE_PROJECT:
+                    return JavaCore.newProjectEntry(path, accessRules, combineAccessRules, attributes, exported);
+                case IClasspathEntry.CPE_CONTAINER:
+                    return JavaCore.newContainerEntry(path, accessRules, attributes, exported);
+                default:
+                    throw new IllegalStateException("Unknown classpath entry kind: " + kind);
+            }
+        }
+
+        private IAccessRule[] readAccessRules() {
+            int size = this.record.getInt();
+            IAccessRule[] result = new IAccessRule[size];
+            for (int i = 0; i < size; i++) {
+                int kind = this.record.getInt();
+                result[i] = JavaCore.newAccessRule(Path.fromPortableString(readString()), kind);
+            }
+            return result;
+        }
+
+        private IClasspathAttribute[] readAttributes() {
+            int size = this.record.getInt();
+            IClasspathAttribute[] result = new IClasspathAttribute[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = JavaCore.newClasspathAttribute(readString(), readString());
+            }
+            return result;
+        }
+
+        List<ICommand> readCommands() {
+            int size = this.record.getInt();
+            List<ICommand> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String builderName = readString();
+                int argumentCount = this.record.getInt();
+                Map<String, String> arguments = new HashMap<>();
+                for (int j = 0; j < argumentCount; j++) {
+                    arguments.put(readString(), readString());
+                }
+                try {
+                    ICommand command = this.project.getDescription().newCommand();
+                    command.setBuilderName(builderName);
+                    command.setArguments(arguments);
+                    result.add(command);
+                } catch (CoreException e) {
+                    CorePlugin.logger().warn("Cannot load build commands", e);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -11,48 +11,86 @@ package org.eclipse.buildship.core.internal.preferences;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
-import java.io.Writer;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.google.common.base.Charsets;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.base.Optional;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.io.Files;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.AdvancedPreferences;
 import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
 import org.eclipse.buildship.core.internal.event.Event;
 import org.eclipse.buildship.core.internal.event.EventListener;
+import org.eclipse.buildship.core.internal.util.cache.CachePolicy;
 import org.eclipse.buildship.core.internal.workspace.ProjectDeletedEvent;
 import org.eclipse.buildship.core.internal.workspace.ProjectMovedEvent;
 import org.eclipse.buildship.core.internal.workspace.WorkbenchShutdownEvent;
 
 /**
  * Default implementation for {@link ModelPersistence}.
+ * <p/>
+ * The models are stored in a {@link PersistentModelIndex}. Models saved by earlier versions in
+ * separate properties files are loaded from there and migrated to the index the next time the
+ * models are persisted.
+ * <p/>
+ * The changes are written behind: the modified projects are marked dirty and a background job
+ * writes them after a bounded delay (see {@link AdvancedPreferences#getModelPersistenceWriteDelay()}),
+ * coalescing the changes made in the meantime. Only the dirty models are encoded and appended to
+ * the journal of the index. On shutdown only the remaining dirty models are written.
+ * <p/>
+ * The loaded models are kept in a cache bounded by {@link CachePolicy#PERSISTENT_MODELS}. The
+ * saved models are also referenced strongly until they are written, so evicting them from the
+ * cache doesn't lose changes. The index is only modified by the write job: deleted and renamed
+ * projects are recorded as pending index names and applied to the index when the models are
+ * persisted, so a concurrently written index generation can't restore them.
  *
  * @author Donat Csikos
  */
 public final class DefaultModelPersistence implements ModelPersistence, EventListener {
 
     private final LoadingCache<IProject, PersistentModel> modelCache;
+    private volatile PersistentModelIndex index;
+    private final Set<String> dirtyProjects = ConcurrentHashMap.newKeySet();
+    private final Map<String, PersistentModel> pendingModels = new ConcurrentHashMap<>();
+    // the name a project's model is stored under in the index, absent if the model was deleted
+    private final Map<String, Optional<String>> pendingIndexNames = new ConcurrentHashMap<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final Job writeJob;
 
     private DefaultModelPersistence() {
-        this.modelCache = CacheBuilder.newBuilder().build(new CacheLoader<IProject, PersistentModel>() {
+        this.index = PersistentModelIndex.open(indexDirectory());
+        this.writeJob = new Job("Save persistent models") {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                DefaultModelPersistence.this.writeScheduled.set(false);
+                persistDirtyModels();
+                return Status.OK_STATUS;
+            }
+        };
+        this.writeJob.setSystem(true);
+        this.modelCache = CachePolicy.PERSISTENT_MODELS.newCache(new CacheLoader<IProject, PersistentModel>() {
 
             @Override
             public PersistentModel load(IProject project) throws Exception {
@@ -69,12 +107,17 @@ public final class DefaultModelPersistence implements ModelPersistence, EventLis
     @Override
     public void saveModel(PersistentModel model) {
         this.modelCache.put(model.getProject(), model);
+        this.pendingModels.put(model.getProject().getName(), model);
+        markDirty(model.getProject().getName());
     }
 
     @Override
     public void deleteModel(IProject project) {
+        this.pendingIndexNames.put(project.getName(), Optional.<String>absent());
         preferencesFile(project).delete();
+        this.pendingModels.remove(project.getName());
         this.modelCache.invalidate(project);
+        markDirty(project.getName());
     }
 
     @Override
@@ -94,25 +137,73 @@ public final class DefaultModelPersistence implements ModelPersistence, EventLis
 
     private void movePreferencesFile(ProjectMovedEvent event) throws IOException {
         String previousName = event.getPreviousName();
+        this.pendingIndexNames.put(event.getProject().getName(), indexName(previousName));
+        this.pendingIndexNames.put(previousName, Optional.<String>absent());
         for (IProject cached : this.modelCache.asMap().keySet()) {
             if (cached.getName().equals(previousName)) {
-                PersistentModel model = this.modelCache.getUnchecked(cached);
-                this.modelCache.put(event.getProject(), model);
+                PersistentModel model = this.modelCache.getIfPresent(cached);
+                if (model != null) {
+                    this.modelCache.put(event.getProject(), model);
+                }
                 this.modelCache.invalidate(cached);
             }
         }
+        PersistentModel pendingModel = this.pendingModels.remove(previousName);
+        if (pendingModel != null) {
+            this.pendingModels.put(event.getProject().getName(), pendingModel);
+        }
 
         File preferencesFile = preferencesFile(event.getPreviousName());
         if (preferencesFile.exists()) {
             Files.move(preferencesFile, preferencesFile(event.getProject().getName()));
         }
+        markDirty(previousName);
+        markDirty(event.getProject().getName());
+    }
+
+    private Optional<String> indexName(String projectName) {
+        Optional<String> indexName = this.pendingIndexNames.get(projectName);
+        return indexName != null ? indexName : Optional.of(projectName);
+    }
+
+    private void markDirty(String projectName) {
+        this.dirtyProjects.add(projectName);
+        scheduleWrite();
+    }
+
+    private void scheduleWrite() {
+        // the job is not rescheduled while waiting, so the changes are written within the configured delay
+        if (this.writeScheduled.compareAndSet(false, true)) {
+            this.writeJob.schedule(AdvancedPreferences.getModelPersistenceWriteDelay());
+        }
     }
 
     private void deleteProjectPreferences(ProjectDeletedEvent event) {
         deleteModel(event.getProject());
     }
 
-    private static PersistentModel doLoadModel(IProject project) throws IOException, FileNotFoundException {
+    private PersistentModel doLoadModel(IProject project) throws IOException, FileNotFoundException {
+        PersistentModel model = this.pendingModels.get(project.getName());
+        if (model != null) {
+            return model;
+        }
+        Optional<String> indexName = indexName(project.getName());
+        if (!indexName.isPresent()) {
+            return new AbsentPersistentModel(project);
+        }
+        PersistentModelIndex currentIndex = this.index;
+        model = currentIndex.read(indexName.get(), project);
+        if (model == null && !indexName.get().equals(project.getName())) {
+            // the rename was applied to the index in the meantime
+            model = currentIndex.read(project);
+        }
+        if (model != null) {
+            return model;
+        }
+        return loadLegacyModel(project);
+    }
+
+    private static PersistentModel loadLegacyModel(IProject project) throws IOException, FileNotFoundException {
         String projectName = project.getName();
         File preferencesFile = preferencesFile(projectName);
         if (preferencesFile.exists()) {
@@ -127,36 +218,104 @@ public final class DefaultModelPersistence implements ModelPersistence, EventLis
     }
 
     private void persistAllProjectPrefs() {
-        Map<IProject, PersistentModel> modelCacheMap = this.modelCache.asMap();
-        for (Entry<IProject, PersistentModel> entry : modelCacheMap.entrySet()) {
-            PersistentModel model = entry.getValue();
-            if (model.isPresent()) {
-                persistPrefs(entry.getKey(), model);
+        this.writeJob.cancel();
+        persistDirtyModels();
+    }
+
+    private synchronized void persistDirtyModels() {
+        String[] legacyProjectNames = legacyProjectNames();
+        if (this.dirtyProjects.isEmpty() && legacyProjectNames.length == 0) {
+            return;
+        }
+
+        Set<String> dirty = new HashSet<>();
+        for (Iterator<String> it = this.dirtyProjects.iterator(); it.hasNext();) {
+            dirty.add(it.next());
+            it.remove();
+        }
+
+        // the dirty projects were either saved, deleted or renamed; the latter two are applied to the index here
+        PersistentModelIndex currentIndex = this.index;
+        Map<String, PersistentModel> written = new LinkedHashMap<>();
+        Map<String, Optional<String>> appliedIndexNames = new LinkedHashMap<>();
+        Map<String, PersistentModel> changed = new LinkedHashMap<>();
+        Set<String> removed = new HashSet<>();
+        for (String projectName : dirty) {
+            Optional<String> pendingIndexName = this.pendingIndexNames.get(projectName);
+            if (pendingIndexName != null) {
+                appliedIndexNames.put(projectName, pendingIndexName);
+            }
+            PersistentModel model = this.pendingModels.get(projectName);
+            if (model != null) {
+                written.put(projectName, model);
+            } else if (pendingIndexName == null || pendingIndexName.isPresent()) {
+                String indexName = pendingIndexName != null ? pendingIndexName.get() : projectName;
+                model = currentIndex.read(indexName, ResourcesPlugin.getWorkspace().getRoot().getProject(projectName));
+            }
+            if (model != null && model.isPresent()) {
+                changed.put(projectName, model);
+            } else {
+                removed.add(projectName);
             }
         }
-    }
 
-    private static void persistPrefs(IProject project, PersistentModel model) {
         try {
-            persistPrefsChecked(project, model);
+            if (legacyProjectNames.length == 0 && !currentIndex.isCompactionRequired()) {
+                currentIndex.append(indexDirectory(), changed, removed);
+            } else {
+                this.index = currentIndex.write(indexDirectory(), collectAllModels(currentIndex, legacyProjectNames, changed, removed));
+                deleteLegacyModels();
+            }
+            for (Map.Entry<String, PersistentModel> entry : written.entrySet()) {
+                this.pendingModels.remove(entry.getKey(), entry.getValue());
+            }
+            // projects deleted or renamed again in the meantime are dirty and keep their new entry
+            for (Map.Entry<String, Optional<String>> entry : appliedIndexNames.entrySet()) {
+                this.pendingIndexNames.remove(entry.getKey(), entry.getValue());
+            }
         } catch (IOException e) {
-            CorePlugin.logger().warn("Can't save persistent model for project " + project.getName(), e);
+            this.dirtyProjects.addAll(dirty);
+            CorePlugin.logger().warn("Can't save persistent models", e);
         }
     }
 
-    private static void persistPrefsChecked(IProject project, PersistentModel model) throws IOException {
-        File preferencesFile = preferencesFile(project);
-
-        if (!preferencesFile.exists()) {
-            Files.createParentDirs(preferencesFile);
-            Files.touch(preferencesFile);
+    private static Map<String, PersistentModel> collectAllModels(PersistentModelIndex currentIndex, String[] legacyProjectNames, Map<String, PersistentModel> changed, Set<String> removed) {
+        // the new index generation has to contain the unchanged models and the ones not loaded in the current session too
+        Map<String, PersistentModel> models = new LinkedHashMap<>();
+        for (String projectName : currentIndex.getProjectNames()) {
+            if (!changed.containsKey(projectName) && !removed.contains(projectName)) {
+                PersistentModel model = currentIndex.read(ResourcesPlugin.getWorkspace().getRoot().getProject(projectName));
+                if (model != null) {
+                    models.put(projectName, model);
+                }
+            }
+        }
+        for (String projectName : legacyProjectNames) {
+            if (!models.containsKey(projectName) && !changed.containsKey(projectName) && !removed.contains(projectName)) {
+                try {
+                    PersistentModel model = loadLegacyModel(ResourcesPlugin.getWorkspace().getRoot().getProject(projectName));
+                    if (model.isPresent()) {
+                        models.put(projectName, model);
+                    }
+                } catch (Exception e) {
+                    CorePlugin.logger().warn("Can't migrate persistent model for project " + projectName, e);
+                }
+            }
         }
+        models.putAll(changed);
+        return models;
+    }
 
-        Properties props = PersistentModelConverter.toProperties(model);
+    private static String[] legacyProjectNames() {
+        String[] names = preferencesDirectory().list();
+        return names != null ? names : new String[0];
+    }
 
-        try (Writer writer = new OutputStreamWriter(new FileOutputStream(preferencesFile), Charsets.UTF_8)) {
-            props.store(writer, "");
+    private static void deleteLegacyModels() {
+        for (String projectName : legacyProjectNames()) {
+            preferencesFile(projectName).delete();
         }
+        preferencesDirectory().delete();
     }
 
     private static File preferencesFile(IProject project) {
@@ -164,13 +323,24 @@ public final class DefaultModelPersistence implements ModelPersistence, EventLis
     }
 
     private static File preferencesFile(String projectName) {
-        return CorePlugin.getInstance().getStateLocation().append("project-preferences").append(projectName).toFile();
+        return new File(preferencesDirectory(), projectName);
+    }
+
+    private static File preferencesDirectory() {
+        return CorePlugin.getInstance().getStateLocation().append("project-preferences").toFile();
+    }
+
+    private static File indexDirectory() {
+        return CorePlugin.getInstance().getStateLocation().append("project-models").toFile();
     }
 
     public static DefaultModelPersistence createAndRegister() {
         DefaultModelPersistence persistence = new DefaultModelPersistence();
         CorePlugin.listenerRegistry().addEventListener(persistence);
         persistence.prefetchCacheAsync();
+        if (legacyProjectNames().length > 0) {
+            persistence.scheduleWrite();
+        }
         return persistence;
     }
 
@@ -197,5 +367,6 @@ public final class DefaultModelPersistence implements ModelPersistence, EventLis
 
     public void close() {
         CorePlugin.listenerRegistry().removeEventListener(this);
+        persistAllProjectPrefs();
     }
 }
@@ -37,12 +37,13 @@ public final class DefaultPersistentModel implements PersistentModel {
     private final List<String> managedNatures;
     private final List<ICommand> managedBuilders;
     private final boolean hasAutoBuildTasks;
+    private final String modelDigest;
 
     public DefaultPersistentModel(IProject project, IPath buildDir, IPath buildScriptPath,
                                   Collection<IPath> subprojectPaths, List<IClasspathEntry> classpath,
                                   Collection<IPath> derivedResources, Collection<IPath> linkedResources,
                                   Collection<String> managedNatures, Collection<ICommand> managedBuilders,
-                                  boolean hasAutoBuildTasks) {
+                                  boolean hasAutoBuildTasks, String modelDigest) {
         this.project = Preconditions.checkNotNull(project);
         this.buildDir = Preconditions.checkNotNull(buildDir);
         this.buildScriptPath = Preconditions.checkNotNull(buildScriptPath);
@@ -53,6 +54,7 @@ public final class DefaultPersistentModel implements PersistentModel {
         this.managedNatures = ImmutableList.copyOf(managedNatures);
         this.managedBuilders = ImmutableList.copyOf(managedBuilders);
         this.hasAutoBuildTasks = hasAutoBuildTasks;
+        this.modelDigest = modelDigest;
     }
 
     @Override
@@ -110,6 +112,11 @@ public final class DefaultPersistentModel implements PersistentModel {
         return this.hasAutoBuildTasks;
     }
 
+    @Override
+    public String getModelDigest() {
+        return this.modelDigest;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (!(obj instanceof DefaultPersistentModel)) {
@@ -124,12 +131,13 @@ public final class DefaultPersistentModel implements PersistentModel {
                 && Objects.equal(this.linkedResources, that.linkedResources)
                 && Objects.equal(this.managedNatures, that.managedNatures)
                 && Objects.equal(this.managedBuilders, that.managedBuilders)
-                && Objects.equal(this.hasAutoBuildTasks, that.hasAutoBuildTasks);
+                && Objects.equal(this.hasAutoBuildTasks, that.hasAutoBuildTasks)
+                && Objects.equal(this.modelDigest, that.modelDigest);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.project, this.buildDir, this.subprojectPaths, this.classpath, this.derivedResources, this.linkedResources, this.managedNatures, this.managedBuilders, this.hasAutoBuildTasks);
+        return Objects.hashCode(this.project, this.buildDir, this.subprojectPaths, this.classpath, this.derivedResources, this.linkedResources, this.managedNatures, this.managedBuilders, this.hasAutoBuildTasks, this.modelDigest);
     }
 
 }
@@ -43,4 +43,11 @@ public interface PersistentModel {
     List<ICommand> getManagedBuilders();
 
     boolean hasAutoBuildTasks();
+
+    /**
+     * Returns the digest of the Gradle model the project was last configured from.
+     *
+     * @return the digest or {@code null} if not available
+     */
+    String getModelDigest();
 }
@@ -43,6 +43,7 @@ final class PersistentModelConverter {
     private static final String PROPERTY_MANAGED_NATURES = "managedNatures";
     private static final String PROPERTY_MANAGED_BUILDERS = "managedBuilders";
     private static final String PROPERTY_HAS_AUTOBUILD_TASKS = "hasAutoBuildTasks";
+    private static final String PROPERTY_MODEL_DIGEST = "modelDigest";
 
     public static Properties toProperties(final PersistentModel model) {
         Properties properties = new Properties();
@@ -110,6 +111,10 @@ final class PersistentModelConverter {
             }
         });
 
+        if (model.getModelDigest() != null) {
+            properties.put(PROPERTY_MODEL_DIGEST, model.getModelDigest());
+        }
+
         return properties;
     }
 
@@ -175,7 +180,9 @@ final class PersistentModelConverter {
                 return Boolean.valueOf(hasAutoBuildTasks);
             }});
 
-        return new DefaultPersistentModel(project, buildDir, buildScriptPath, subprojects, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTaskss);
+        String modelDigest = loadValue(properties, PROPERTY_MODEL_DIGEST, null, Functions.<String>identity());
+
+        return new DefaultPersistentModel(project, buildDir, buildScriptPath, subprojects, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTaskss, modelDigest);
     }
 
     private static <T> T loadValue(Properties properties, String key, T defaultValue, Function<String, T> conversion) {
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.preferences;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import com.google.common.base.Charsets;
+
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.preferences.BinaryModelConverter.InternedStrings;
+import org.eclipse.buildship.core.internal.preferences.BinaryModelConverter.StringTable;
+
+/**
+ * Single file storing the {@link PersistentModel} of all workspace projects.
+ * <p/>
+ * The file is memory-mapped and the models are decoded on demand. The layout is the following:
+ * <pre>
+ * int magic, int format version
+ * int string count, int[string count] string offsets
+ * int project count, (int name index, int record offset, int record length)[project count]
+ * (int byte count, UTF-8 bytes)[string count]
+ * records
+ * </pre>
+ * The file is never modified. The changed models are appended to a journal file next to it,
+ * each entry carrying its own string table:
+ * <pre>
+ * (int payload length, int payload CRC32, payload)*
+ * payload: byte kind, (int byte count, UTF-8 bytes) project name
+ * put payload: int string count, (int byte count, UTF-8 bytes)[string count], int record length, record
+ * </pre>
+ * The journal is replayed when the index is opened. Once it outgrows the index file, all models
+ * are written to a new generation of the index and the previous generations are deleted
+ * afterwards; a file mapped by a running instance can't be replaced on every platform.
+ */
+final class PersistentModelIndex {
+
+    private static final int MAGIC = 0x4253504d;
+    private static final int FORMAT_VERSION = 1;
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("index\\.(\\d+)");
+    private static final Pattern JOURNAL_FILE_NAME_PATTERN = Pattern.compile("index\\.(\\d+)\\.journal");
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final long MIN_COMPACTION_LENGTH = 64 * 1024;
+
+    private final long generation;
+    private final long indexLength;
+    private final Map<String, Record> records;
+    private volatile long journalLength;
+    private volatile boolean journalValid;
+
+    private PersistentModelIndex(long generation, long indexLength, Map<String, Record> records, long journalLength, boolean journalValid) {
+        this.generation = generation;
+        this.indexLength = indexLength;
+        this.records = records;
+        this.journalLength = journalLength;
+        this.journalValid = journalValid;
+    }
+
+    /**
+     * Returns the names of the projects having a model in the index.
+     *
+     * @return the project names
+     */
+    Set<String> getProjectNames() {
+        return this.records.keySet();
+    }
+
+    /**
+     * Decodes the model of the target project.
+     *
+     * @param project the target project
+     * @return the model or {@code null} if the project is not in the index
+     */
+    PersistentModel read(IProject project) {
+        return read(project.getName(), project);
+    }
+
+    /**
+     * Decodes the model stored under a project name for the target project. Used to read the model
+     * of a renamed project before the index is updated.
+     *
+     * @param projectName the name the model is stored under
+     * @param project the target project
+     * @return the model or {@code null} if the name is not in the index
+     */
+    PersistentModel read(String projectName, IProject project) {
+        Record record = this.records.get(projectName);
+        if (record == null) {
+            return null;
+        }
+        ByteBuffer recordBuffer = record.buffer.duplicate();
+        recordBuffer.position(record.offset);
+        recordBuffer.limit(record.offset + record.length);
+        return BinaryModelConverter.toModel(project, recordBuffer.slice(), record.strings);
+    }
+
+    /**
+     * Returns whether the changes can't be appended to the journal anymore and the next write
+     * should create a new generation of the index with {@link #write(File, Map)}. This is the case
+     * if the journal outgrew the index file, if it has a corrupt entry or if there is no index file.
+     *
+     * @return {@code true} if a new generation should be written
+     */
+    boolean isCompactionRequired() {
+        return !this.journalValid || this.journalLength > Math.max(this.indexLength, MIN_COMPACTION_LENGTH);
+    }
+
+    /**
+     * Appends the changed models to the journal of the index. Only the changed models are encoded,
+     * the cost doesn't depend on the number of models in the index.
+     *
+     * @param directory the directory containing the index files
+     * @param models the changed models, keyed by the project names
+     * @param removedProjectNames the names of the projects to remove from the index
+     * @throws IOException if the journal can't be written
+     */
+    void append(File directory, Map<String, PersistentModel> models, Collection<String> removedProjectNames) throws IOException {
+        Map<String, Record> appended = new ConcurrentHashMap<>(models.size());
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(entries);
+        for (String projectName : removedProjectNames) {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream payloadOutput = new DataOutputStream(payload);
+            payloadOutput.writeByte(REMOVE);
+            writeString(payloadOutput, projectName);
+            writeEntry(output, payload.toByteArray());
+        }
+        for (Map.Entry<String, PersistentModel> model : models.entrySet()) {
+            InternedStrings strings = new InternedStrings();
+            byte[] record = BinaryModelConverter.toBytes(model.getValue(), strings);
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream payloadOutput = new DataOutputStream(payload);
+            payloadOutput.writeByte(PUT);
+            writeString(payloadOutput, model.getKey());
+            payloadOutput.writeInt(strings.getValues().size());
+            for (String value : strings.getValues()) {
+                writeString(payloadOutput, value);
+            }
+            payloadOutput.writeInt(record.length);
+            payloadOutput.write(record);
+            writeEntry(output, payload.toByteArray());
+            appended.put(model.getKey(), new Record(ByteBuffer.wrap(record), 0, record.length, strings));
+        }
+
+        File journalFile = journalFile(directory, this.generation);
+        directory.mkdirs();
+        try (FileOutputStream journal = new FileOutputStream(journalFile, true)) {
+            entries.writeTo(journal);
+        } catch (IOException e) {
+            // a partially written entry can't be followed by further entries
+            this.journalValid = false;
+            throw e;
+        }
+        this.journalLength += entries.size();
+
+        for (String projectName : removedProjectNames) {
+            this.records.remove(projectName);
+        }
+        this.records.putAll(appended);
+    }
+
+    /**
+     * Loads the most recent index from the target directory.
+     *
+     * @param directory the directory containing the index files
+     * @return the index, empty if the directory contains no valid index file
+     */
+    static PersistentModelIndex open(File directory) {
+        long generation = latestGeneration(directory);
+        if (generation < 0) {
+            return empty(0);
+        }
+
+        File file = indexFile(directory, generation);
+        Map<String, Record> records;
+        long indexLength;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            indexLength = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, indexLength);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return empty(generation);
+            }
+            int stringCount = buffer.getInt();
+            int[] stringOffsets = new int[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                stringOffsets[i] = buffer.getInt();
+            }
+            MappedStrings strings = new MappedStrings(buffer, stringOffsets);
+            int projectCount = buffer.getInt();
+            records = new ConcurrentHashMap<>(projectCount);
+            for (int i = 0; i < projectCount; i++) {
+                String name = strings.get(buffer.getInt());
+                records.put(name, new Record(buffer, buffer.getInt(), buffer.getInt(), strings));
+            }
+        } catch (Exception e) {
+            CorePlugin.logger().warn("Cannot read persistent model index " + file.getAbsolutePath(), e);
+            return empty(generation);
+        }
+
+        File journalFile = journalFile(directory, generation);
+        if (!journalFile.exists()) {
+            return new PersistentModelIndex(generation, indexLength, records, 0, true);
+        }
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer journal = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            boolean journalValid = replayJournal(journal, records);
+            return new PersistentModelIndex(generation, indexLength, records, journal.limit(), journalValid);
+        } catch (Exception e) {
+            CorePlugin.logger().warn("Cannot read persistent model journal " + journalFile.getAbsolutePath(), e);
+            return new PersistentModelIndex(generation, indexLength, records, 0, false);
+        }
+    }
+
+    private static boolean replayJournal(ByteBuffer journal, Map<String, Record> records) {
+        CRC32 crc = new CRC32();
+        while (journal.hasRemaining()) {
+            // an entry written partially before a crash is ignored along with the ones after it
+            if (journal.remaining() < 8) {
+                return false;
+            }
+            int length = journal.getInt();
+            int checksum = journal.getInt();
+            if (length < 0 || length > journal.remaining()) {
+                return false;
+            }
+            ByteBuffer payload = journal.duplicate();
+            payload.limit(payload.position() + length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return false;
+            }
+            journal.position(journal.position() + length);
+
+            byte kind = payload.get();
+            String projectName = readString(payload);
+            if (kind == REMOVE) {
+                records.remove(projectName);
+            } else if (kind == PUT) {
+                int[] stringOffsets = new int[payload.getInt()];
+                for (int i = 0; i < stringOffsets.length; i++) {
+                    stringOffsets[i] = payload.position();
+                    payload.position(payload.position() + 4 + payload.getInt());
+                }
+                int recordLength = payload.getInt();
+                records.put(projectName, new Record(journal, payload.position(), recordLength, new MappedStrings(journal, stringOffsets)));
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a new generation of the index next to the current one.
+     *
+     * @param directory the directory containing the index files
+     * @param models the models to store, keyed by the project names
+     * @return the new index
+     * @throws IOException if the index can't be written
+     */
+    PersistentModelIndex write(File directory, Map<String, PersistentModel> models) throws IOException {
+        InternedStrings strings = new InternedStrings();
+        List<Integer> names = new ArrayList<>(models.size());
+        List<byte[]> records = new ArrayList<>(models.size());
+        for (Map.Entry<String, PersistentModel> model : models.entrySet()) {
+            names.add(strings.intern(model.getKey()));
+            records.add(BinaryModelConverter.toBytes(model.getValue(), strings));
+        }
+
+        List<byte[]> encodedStrings = new ArrayList<>(strings.getValues().size());
+        for (String value : strings.getValues()) {
+            encodedStrings.add(value.getBytes(Charsets.UTF_8));
+        }
+
+        long newGeneration = this.generation + 1;
+        File file = indexFile(directory, newGeneration);
+        File tempFile = new File(directory, file.getName() + ".tmp");
+        directory.mkdirs();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            int offset = 4 + 4 + 4 + 4 * encodedStrings.size() + 4 + 12 * records.size();
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(encodedStrings.size());
+            for (byte[] value : encodedStrings) {
+                output.writeInt(offset);
+                offset += 4 + value.length;
+            }
+            output.writeInt(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                output.writeInt(names.get(i));
+                output.writeInt(offset);
+                output.writeInt(records.get(i).length);
+                offset += records.get(i).length;
+            }
+            for (byte[] value : encodedStrings) {
+                output.writeInt(value.length);
+                output.write(value);
+            }
+            for (byte[] record : records) {
+                output.write(record);
+            }
+        } catch (IOException e) {
+            tempFile.delete();
+            throw e;
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+
+        deletePreviousGenerations(directory, newGeneration);
+        return open(directory);
+    }
+
+    private static PersistentModelIndex empty(long generation) {
+        // without an index file the journal can't be replayed, so the changes are not appended
+        return new PersistentModelIndex(generation, 0, new ConcurrentHashMap<String, Record>(), 0, false);
+    }
+
+    private static void writeEntry(DataOutputStream output, byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        output.writeInt(payload.length);
+        output.writeInt((int) crc.getValue());
+        output.write(payload);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(Charsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, Charsets.UTF_8);
+    }
+
+    private static long latestGeneration(File directory) {
+        long result = -1;
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher matcher = FILE_NAME_PATTERN.matcher(file.getName());
+                if (matcher.matches()) {
+                    result = Math.max(result, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void deletePreviousGenerations(File directory, long currentGeneration) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher matcher = FILE_NAME_PATTERN.matcher(file.getName());
+                if (!matcher.matches()) {
+                    matcher = JOURNAL_FILE_NAME_PATTERN.matcher(file.getName());
+                }
+                if (matcher.matches() && Long.parseLong(matcher.group(1)) < currentGeneration) {
+                    // fails if the file is still mapped on Windows; in that case it is deleted after the next write
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    private static File indexFile(File directory, long generation) {
+        return new File(directory, "index." + generation);
+    }
+
+    private static File journalFile(File directory, long generation) {
+        return new File(directory, "index." + generation + ".journal");
+    }
+
+    /**
+     * Position of a project's model in the index or in the journal file.
+     */
+    private static final class Record {
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+        private final StringTable strings;
+
+        Record(ByteBuffer buffer, int offset, int length, StringTable strings) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+            this.strings = strings;
+        }
+    }
+
+    /**
+     * String table decoding the strings from the mapped file on demand.
+     */
+    private static final class MappedStrings implements StringTable {
+
+        private final ByteBuffer buffer;
+        private final int[] offsets;
+        private final String[] values;
+
+        MappedStrings(ByteBuffer buffer, int[] offsets) {
+            this.buffer = buffer;
+            this.offsets = offsets;
+            this.values = new String[offsets.length];
+        }
+
+        @Override
+        public String get(int index) {
+            String value = this.values[index];
+            if (value == null) {
+                ByteBuffer stringBuffer = this.buffer.duplicate();
+                stringBuffer.position(this.offsets[index]);
+                byte[] bytes = new byte[stringBuffer.getInt()];
+                stringBuffer.get(bytes);
+                value = new String(bytes, Charsets.UTF_8);
+                // benign race: concurrent readers decode the same value
+                this.values[index] = value;
+            }
+            return value;
+        }
+    }
+}
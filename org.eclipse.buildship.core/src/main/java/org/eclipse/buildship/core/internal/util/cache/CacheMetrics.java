@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.util.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Counters complementing the statistics recorded by a Guava {@link Cache}.
+ * <p/>
+ * Clients loading the values themselves and storing them with {@link Cache#put(Object, Object)}
+ * should load them through {@link #recordLoad(Supplier)}. Lookups that can't use the cache at all (e.g. because the
+ * request streams the build output) should be reported as bypassed.
+ */
+public final class CacheMetrics {
+
+    private final LongAdder bypassCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadExceptionCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    CacheMetrics() {
+    }
+
+    /**
+     * Records a lookup that didn't use the cache.
+     */
+    public void recordBypass() {
+        this.bypassCount.increment();
+    }
+
+    /**
+     * Loads a value outside the cache and records the time spent.
+     *
+     * @param loader the function loading the value
+     * @return the loaded value
+     */
+    public <V> V recordLoad(Supplier<V> loader) {
+        long start = System.nanoTime();
+        try {
+            V result = loader.get();
+            this.loadSuccessCount.increment();
+            return result;
+        } catch (RuntimeException | Error e) {
+            this.loadExceptionCount.increment();
+            throw e;
+        } finally {
+            this.totalLoadTime.add(System.nanoTime() - start);
+        }
+    }
+
+    long getBypassCount() {
+        return this.bypassCount.sum();
+    }
+
+    CacheStats toCacheStats() {
+        return new CacheStats(0, 0, this.loadSuccessCount.sum(), this.loadExceptionCount.sum(), this.totalLoadTime.sum(), 0);
+    }
+}
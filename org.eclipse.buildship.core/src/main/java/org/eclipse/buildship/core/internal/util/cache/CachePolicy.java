@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.util.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.MapMaker;
+
+import org.eclipse.buildship.core.internal.configuration.AdvancedPreferences;
+
+/**
+ * Bounds of the in-memory caches holding Gradle models.
+ * <p/>
+ * Each policy limits the total weight of the cached values, estimated by the number of model
+ * elements they contain (see {@link ModelWeigher}). Entries not accessed for a while are expired
+ * and, if enabled, the values are softly referenced so that they can be reclaimed when the memory
+ * gets low. The bounds can be overridden with the workspace preferences described in
+ * {@link AdvancedPreferences}. The preferences are read when a cache is created.
+ * <p/>
+ * The caches created by a policy are registered to report aggregated statistics via
+ * {@link #getStatistics()}. Clients loading the values outside the cache can report the load times
+ * and the lookups bypassing the cache through the {@link CacheMetrics} returned by
+ * {@link #getMetrics(Cache)}.
+ */
+public enum CachePolicy {
+
+    /**
+     * Models loaded by the model provider of a Gradle build.
+     */
+    MODEL_PROVIDER("modelprovider", 250_000, 60, true),
+
+    /**
+     * Tooling API results shared by the project configurators during a synchronization.
+     */
+    SYNCHRONIZATION("synchronization", 250_000, 0, true),
+
+    /**
+     * Tooling API results cached by a {@link org.eclipse.buildship.core.internal.ProjectConnectionCache}.
+     */
+    PROJECT_CONNECTION("connection", 250_000, 60, true),
+
+    /**
+     * Gradle builds returned by the Gradle workspace. Each build counts as a single element.
+     */
+    GRADLE_BUILDS("builds", 200, 60, false),
+
+    /**
+     * Persistent models loaded from the disk.
+     */
+    PERSISTENT_MODELS("persistence", 250_000, 30, true),
+
+    /**
+     * Runtime classpath entries reused across launches.
+     */
+    LAUNCH_CLASSPATH("launchclasspath", 100_000, 60, true),
+
+    /**
+     * Project and build configurations read from the project preferences.
+     */
+    CONFIGURATION("configuration", 10_000, 60, false);
+
+    private final String name;
+    private final long defaultMaximumWeight;
+    private final long defaultExpireAfterAccess;
+    private final boolean defaultSoftValues;
+    private final ConcurrentMap<Cache<?, ?>, CacheMetrics> caches = new MapMaker().weakKeys().makeMap();
+
+    CachePolicy(String name, long defaultMaximumWeight, long defaultExpireAfterAccess, boolean defaultSoftValues) {
+        this.name = name;
+        this.defaultMaximumWeight = defaultMaximumWeight;
+        this.defaultExpireAfterAccess = defaultExpireAfterAccess;
+        this.defaultSoftValues = defaultSoftValues;
+    }
+
+    /**
+     * Returns the name used in the preference keys.
+     *
+     * @return the name of the policy
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns a cache builder configured with the bounds of this policy. The built cache has to be
+     * passed to {@link #register(Cache)} to be included in the statistics.
+     *
+     * @return the new builder
+     */
+    public CacheBuilder<Object, Object> newBuilder() {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .maximumWeight(AdvancedPreferences.getCacheMaximumWeight(this.name, this.defaultMaximumWeight))
+                .weigher(ModelWeigher.INSTANCE)
+                // the caches hold a few large entries; with multiple segments each segment would only get a fraction of the budget
+                .concurrencyLevel(1)
+                .recordStats();
+        long expireAfterAccess = AdvancedPreferences.getCacheExpireAfterAccess(this.name, this.defaultExpireAfterAccess);
+        if (expireAfterAccess > 0) {
+            builder.expireAfterAccess(expireAfterAccess, TimeUnit.MINUTES);
+        }
+        if (AdvancedPreferences.isCacheSoftValues(this.name, this.defaultSoftValues)) {
+            builder.softValues();
+        }
+        return builder;
+    }
+
+    /**
+     * Creates and registers a new cache.
+     *
+     * @return the new cache
+     */
+    public <K, V> Cache<K, V> newCache() {
+        return register(newBuilder().<K, V>build());
+    }
+
+    /**
+     * Creates and registers a new loading cache.
+     *
+     * @param loader the loader computing the missing values
+     * @return the new cache
+     */
+    public <K, V> LoadingCache<K, V> newCache(CacheLoader<? super K, V> loader) {
+        return register(newBuilder().<K, V>build(loader));
+    }
+
+    /**
+     * Includes the target cache in the statistics of this policy. The cache is referenced weakly.
+     *
+     * @param cache the cache to register
+     * @return the cache
+     */
+    public <C extends Cache<?, ?>> C register(C cache) {
+        this.caches.putIfAbsent(cache, new CacheMetrics());
+        return cache;
+    }
+
+    /**
+     * Returns the counters of a registered cache.
+     *
+     * @param cache the cache
+     * @return the counters of the cache
+     * @throws IllegalArgumentException if the cache was not registered with this policy
+     */
+    public CacheMetrics getMetrics(Cache<?, ?> cache) {
+        CacheMetrics metrics = this.caches.get(cache);
+        Preconditions.checkArgument(metrics != null, "Cache is not registered with policy %s", this.name);
+        return metrics;
+    }
+
+    /**
+     * Returns the aggregated statistics of the live caches created with this policy.
+     *
+     * @return the statistics
+     */
+    public CacheStatistics getStatistics() {
+        CacheStatistics result = new CacheStatistics(this, 0, 0, 0, 0, new CacheStats(0, 0, 0, 0, 0, 0));
+        for (Map.Entry<Cache<?, ?>, CacheMetrics> entry : this.caches.entrySet()) {
+            result = result.plus(statisticsOf(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the statistics of a single registered cache.
+     *
+     * @param cache the cache
+     * @return the statistics
+     * @throws IllegalArgumentException if the cache was not registered with this policy
+     */
+    public CacheStatistics getStatistics(Cache<?, ?> cache) {
+        return statisticsOf(cache, getMetrics(cache));
+    }
+
+    private CacheStatistics statisticsOf(Cache<?, ?> cache, CacheMetrics metrics) {
+        long size = 0;
+        long weight = 0;
+        for (Object value : cache.asMap().values()) {
+            size++;
+            weight += ModelWeigher.INSTANCE.weigh(null, value);
+        }
+        return new CacheStatistics(this, 1, size, weight, metrics.getBypassCount(), cache.stats().plus(metrics.toCacheStats()));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.util.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * Snapshot of the state of the caches belonging to a {@link CachePolicy}.
+ */
+public final class CacheStatistics {
+
+    private final CachePolicy policy;
+    private final int cacheCount;
+    private final long size;
+    private final long weight;
+    private final long bypassCount;
+    private final CacheStats stats;
+
+    CacheStatistics(CachePolicy policy, int cacheCount, long size, long weight, long bypassCount, CacheStats stats) {
+        this.policy = policy;
+        this.cacheCount = cacheCount;
+        this.size = size;
+        this.weight = weight;
+        this.bypassCount = bypassCount;
+        this.stats = stats;
+    }
+
+    public CachePolicy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * @return the number of live caches created with the policy
+     */
+    public int getCacheCount() {
+        return this.cacheCount;
+    }
+
+    /**
+     * @return the number of cached entries
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * @return the estimated weight of the cached entries
+     */
+    public long getWeight() {
+        return this.weight;
+    }
+
+    /**
+     * @return the number of lookups that didn't use the caches
+     */
+    public long getBypassCount() {
+        return this.bypassCount;
+    }
+
+    /**
+     * @return the hit, miss, load and eviction counts of the caches
+     */
+    public CacheStats getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Returns the counters accumulated since an earlier snapshot. The cache count, the size and the
+     * weight are the current values.
+     *
+     * @param earlier the earlier snapshot of the same caches
+     * @return the difference
+     */
+    public CacheStatistics minus(CacheStatistics earlier) {
+        return new CacheStatistics(this.policy, this.cacheCount, this.size, this.weight, Math.max(0, this.bypassCount - earlier.bypassCount), this.stats.minus(earlier.stats));
+    }
+
+    CacheStatistics plus(CacheStatistics other) {
+        return new CacheStatistics(this.policy, this.cacheCount + other.cacheCount, this.size + other.size, this.weight + other.weight, this.bypassCount + other.bypassCount,
+                this.stats.plus(other.stats));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d cache(s), %d entries, weight %d, hits %d, misses %d, bypassed %d, loads %d (%d ms), evictions %d", this.policy.getName(), this.cacheCount,
+                this.size, this.weight, this.stats.hitCount(), this.stats.missCount(), this.bypassCount, this.stats.loadCount(),
+                TimeUnit.NANOSECONDS.toMillis(this.stats.totalLoadTime()), this.stats.evictionCount());
+    }
+}
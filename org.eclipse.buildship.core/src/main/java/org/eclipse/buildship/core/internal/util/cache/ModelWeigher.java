@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.util.cache;
+
+import java.util.Collection;
+
+import org.gradle.tooling.model.eclipse.EclipseProject;
+
+import com.google.common.cache.Weigher;
+
+import org.eclipse.buildship.core.internal.preferences.PersistentModel;
+
+/**
+ * Estimates the memory footprint of the cached values by counting the model elements they hold.
+ * <p/>
+ * For an {@link EclipseProject} the classpath entries, the source folders and the project
+ * dependencies are counted, including the ones of the child projects. For a
+ * {@link PersistentModel} the classpath entries are counted. Collections weigh the sum of their
+ * elements. Every other value counts as a single element.
+ */
+final class ModelWeigher implements Weigher<Object, Object> {
+
+    static final ModelWeigher INSTANCE = new ModelWeigher();
+
+    private ModelWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, weigh(value));
+    }
+
+    private static long weigh(Object value) {
+        if (value instanceof Collection) {
+            long result = 1;
+            for (Object element : (Collection<?>) value) {
+                result += weigh(element);
+            }
+            return result;
+        } else if (value instanceof EclipseProject) {
+            return weigh((EclipseProject) value);
+        } else if (value instanceof PersistentModel) {
+            return weigh((PersistentModel) value);
+        } else {
+            return 1;
+        }
+    }
+
+    private static long weigh(EclipseProject project) {
+        long result = 1;
+        try {
+            result += project.getClasspath().size();
+            result += project.getSourceDirectories().size();
+            result += project.getProjectDependencies().size();
+        } catch (RuntimeException e) {
+            // the attributes are not available in older Gradle versions
+        }
+        for (EclipseProject child : project.getChildren()) {
+            result += weigh(child);
+        }
+        return result;
+    }
+
+    private static long weigh(PersistentModel model) {
+        if (!model.isPresent()) {
+            return 1;
+        }
+        return 1 + model.getClasspath().size();
+    }
+}
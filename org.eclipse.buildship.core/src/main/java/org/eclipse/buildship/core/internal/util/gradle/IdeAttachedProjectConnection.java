@@ -14,7 +14,6 @@ import org.gradle.tooling.BuildActionExecuter.Builder;
 import org.gradle.tooling.BuildLauncher;
 import org.gradle.tooling.CancellationTokenSource;
 import org.gradle.tooling.GradleConnectionException;
-import org.gradle.tooling.GradleConnector;
 import org.gradle.tooling.IntermediateResultHandler;
 import org.gradle.tooling.LongRunningOperation;
 import org.gradle.tooling.ModelBuilder;
@@ -25,6 +24,7 @@ import org.gradle.tooling.model.build.BuildEnvironment;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.configuration.GradleArguments;
 import org.eclipse.buildship.core.internal.gradle.GradleProgressAttributes;
 
@@ -33,6 +33,7 @@ public final class IdeAttachedProjectConnection implements ProjectConnection {
     private final ProjectConnection delegate;
     private final GradleArguments gradleArguments;
     private final GradleProgressAttributes progressAttributes;
+    private BuildEnvironment buildEnvironment;
 
     private IdeAttachedProjectConnection(ProjectConnection connection, GradleArguments gradleArguments, GradleProgressAttributes progressAttributes) {
         this.delegate = connection;
@@ -61,12 +62,19 @@ public final class IdeAttachedProjectConnection implements ProjectConnection {
     }
 
     private <T extends LongRunningOperation> T configureOperation(T operation) {
-        BuildEnvironment buildEnvironment = this.delegate.getModel(BuildEnvironment.class);
-        this.gradleArguments.applyTo(operation, buildEnvironment);
+        this.gradleArguments.applyTo(operation, getBuildEnvironment());
         this.progressAttributes.applyTo(operation);
         return operation;
     }
 
+    private synchronized BuildEnvironment getBuildEnvironment() {
+        // the build environment doesn't change during the lifetime of the connection; pooled connections cache it across leases
+        if (this.buildEnvironment == null) {
+            this.buildEnvironment = this.delegate.getModel(BuildEnvironment.class);
+        }
+        return this.buildEnvironment;
+    }
+
     @Override
     public void close() {
         this.delegate.close();
@@ -79,6 +87,9 @@ public final class IdeAttachedProjectConnection implements ProjectConnection {
 
     @Override
     public <T> T getModel(Class<T> modelType) throws GradleConnectionException, IllegalStateException {
+        if (modelType == BuildEnvironment.class) {
+            return modelType.cast(getBuildEnvironment());
+        }
         return model(modelType).get();
     }
 
@@ -88,9 +99,7 @@ public final class IdeAttachedProjectConnection implements ProjectConnection {
     }
 
     public static ProjectConnection newInstance(CancellationTokenSource tokenSource, GradleArguments gradleArguments, IProgressMonitor monitor) {
-        GradleConnector connector = GradleConnector.newConnector();
-        gradleArguments.applyTo(connector);
-        ProjectConnection connection = new CompatProjectConnection(connector.connect());
+        ProjectConnection connection = new CompatProjectConnection(CorePlugin.connectionPool().acquire(gradleArguments));
 
         GradleProgressAttributes progressAttributes = GradleProgressAttributes.builder(tokenSource, monitor)
                 .forBackgroundProcess()
@@ -15,6 +15,8 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.gradle.api.Action;
 import org.gradle.tooling.BuildAction;
@@ -25,6 +27,7 @@ import org.eclipse.core.runtime.Platform;
 
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
 import org.eclipse.buildship.core.internal.workspace.CompositeModelQuery;
+import org.eclipse.buildship.core.internal.workspace.CompositeModelsQuery;
 import org.eclipse.buildship.core.internal.workspace.DefaultModelProvider;
 
 /**
@@ -51,6 +54,11 @@ public class IdeFriendlyClassLoading {
         return (BuildAction<Collection<T>>) loadClass(CompositeModelQuery.class, model );
     }
 
+    @SuppressWarnings("unchecked")
+    public static BuildAction<Map<String, Collection<Object>>> loadCompositeModelsQuery(List<Class<?>> models) {
+        return (BuildAction<Map<String, Collection<Object>>>) loadClass(CompositeModelsQuery.class, models);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T loadClass(Class<T> cls) {
         try {
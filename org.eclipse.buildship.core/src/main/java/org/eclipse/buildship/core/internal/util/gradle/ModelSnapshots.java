@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.util.gradle;
+
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.gradle.tooling.model.DomainObjectSet;
+import org.gradle.tooling.model.UnsupportedMethodException;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Converts Tooling API model graphs to serializable snapshots and back.
+ * <p/>
+ * The models returned by the Tooling API (and the {@link CompatModelElement} decorators wrapping
+ * them) are backed by objects loaded from the Gradle distribution's class loader, hence they can't
+ * be stored and read back once the connection is closed. A snapshot records the value of every
+ * no-argument getter of the model interfaces and can be restored to a proxy graph implementing the
+ * same interfaces. Methods that threw an exception when the snapshot was taken throw an
+ * {@link UnsupportedMethodException} after the restore.
+ */
+public final class ModelSnapshots {
+
+    private static final String MODEL_PACKAGE_PREFIX = "org.gradle.tooling.model";
+
+    private ModelSnapshots() {
+    }
+
+    /**
+     * Captures the state of a Tooling API model graph.
+     *
+     * @param models the model elements to capture
+     * @return the serializable snapshot
+     */
+    public static Snapshot capture(Collection<?> models) {
+        Capturer capturer = new Capturer();
+        List<Object> roots = new ArrayList<>(models.size());
+        for (Object model : models) {
+            roots.add(capturer.capture(model));
+        }
+        return new Snapshot(capturer.nodes, roots);
+    }
+
+    /**
+     * Restores a model graph from a snapshot.
+     *
+     * @param snapshot the snapshot to restore
+     * @param classLoader the class loader to resolve the model interfaces with
+     * @return the root model elements, in the same order as they were captured
+     * @throws ClassNotFoundException if a model interface is not available via the class loader
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> restore(Snapshot snapshot, ClassLoader classLoader) throws ClassNotFoundException {
+        Restorer restorer = new Restorer(snapshot, classLoader);
+        ImmutableList.Builder<T> result = ImmutableList.builder();
+        for (Object root : snapshot.roots) {
+            result.add((T) restorer.restore(root, Object.class));
+        }
+        return result.build();
+    }
+
+    /**
+     * Serializable representation of a model graph.
+     */
+    public static final class Snapshot implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Node> nodes;
+        private final List<Object> roots;
+
+        private Snapshot(List<Node> nodes, List<Object> roots) {
+            this.nodes = nodes;
+            this.roots = roots;
+        }
+    }
+
+    /**
+     * A model element: the implemented interfaces and the captured getter values.
+     */
+    private static final class Node implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> interfaces;
+        private final Map<String, Object> properties = new HashMap<>();
+
+        private Node(List<String> interfaces) {
+            this.interfaces = interfaces;
+        }
+    }
+
+    /**
+     * Reference to a {@link Node} by its index in the snapshot's node table.
+     */
+    private static final class NodeRef implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private NodeRef(int index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * A captured collection of values.
+     */
+    private static final class Elements implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Object> values;
+
+        private Elements(List<Object> values) {
+            this.values = values;
+        }
+    }
+
+    /**
+     * Marker for a getter that failed during the capture.
+     */
+    private static final class Unsupported implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String message;
+
+        private Unsupported(String message) {
+            this.message = message;
+        }
+    }
+
+    private static final class Capturer {
+
+        private final List<Node> nodes = new ArrayList<>();
+        private final Map<Object, NodeRef> visited = new HashMap<>();
+
+        private Object capture(Object value) {
+            if (value == null) {
+                return null;
+            } else if (value instanceof Collection) {
+                List<Object> elements = new ArrayList<>();
+                for (Object element : (Collection<?>) value) {
+                    elements.add(capture(element));
+                }
+                return new Elements(elements);
+            } else if (isModel(value)) {
+                return captureModel(value);
+            } else if (value instanceof Serializable) {
+                return value;
+            } else {
+                return new Unsupported("Value of type " + value.getClass().getName() + " is not serializable");
+            }
+        }
+
+        private NodeRef captureModel(Object model) {
+            // the compatibility decorators create new instances on each invocation, hence the identity of a model
+            // element is determined by the decorated Tooling API object
+            Object identity = unwrap(model);
+            NodeRef ref = this.visited.get(identity);
+            if (ref != null) {
+                return ref;
+            }
+
+            List<Class<?>> interfaces = modelInterfacesOf(model);
+            List<String> interfaceNames = new ArrayList<>(interfaces.size());
+            for (Class<?> type : interfaces) {
+                interfaceNames.add(type.getName());
+            }
+            Node node = new Node(interfaceNames);
+            ref = new NodeRef(this.nodes.size());
+            this.nodes.add(node);
+            this.visited.put(identity, ref);
+
+            for (Method getter : gettersOf(interfaces)) {
+                node.properties.put(getter.getName(), captureProperty(model, getter));
+            }
+            return ref;
+        }
+
+        private Object captureProperty(Object model, Method getter) {
+            try {
+                return capture(getter.invoke(model));
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                return new Unsupported(cause.getMessage());
+            } catch (Exception e) {
+                return new Unsupported(e.getMessage());
+            }
+        }
+
+        private static Object unwrap(Object model) {
+            while (model instanceof CompatModelElement) {
+                model = ((CompatModelElement<?>) model).getElement();
+            }
+            return model;
+        }
+
+        private static boolean isModel(Object value) {
+            return !modelInterfacesOf(value).isEmpty();
+        }
+
+        private static List<Class<?>> modelInterfacesOf(Object model) {
+            List<Class<?>> result = new ArrayList<>();
+            for (Class<?> type = model.getClass(); type != null; type = type.getSuperclass()) {
+                for (Class<?> candidate : type.getInterfaces()) {
+                    if (candidate.getName().startsWith(MODEL_PACKAGE_PREFIX) && !result.contains(candidate)) {
+                        result.add(candidate);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static Collection<Method> gettersOf(List<Class<?>> interfaces) {
+            Map<String, Method> result = new LinkedHashMap<>();
+            for (Class<?> type : interfaces) {
+                for (Method method : type.getMethods()) {
+                    if (isGetter(method)) {
+                        result.put(method.getName(), method);
+                    }
+                }
+            }
+            return result.values();
+        }
+
+        private static boolean isGetter(Method method) {
+            return method.getParameterTypes().length == 0
+                    && method.getReturnType() != void.class
+                    && !Modifier.isStatic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class;
+        }
+    }
+
+    private static final class Restorer {
+
+        private final ClassLoader classLoader;
+        private final Object[] models;
+
+        private Restorer(Snapshot snapshot, ClassLoader classLoader) throws ClassNotFoundException {
+            this.classLoader = classLoader;
+            this.models = new Object[snapshot.nodes.size()];
+            for (int i = 0; i < this.models.length; i++) {
+                this.models[i] = newModel(snapshot.nodes.get(i));
+            }
+        }
+
+        private Object newModel(Node node) throws ClassNotFoundException {
+            Class<?>[] interfaces = new Class<?>[node.interfaces.size()];
+            for (int i = 0; i < interfaces.length; i++) {
+                interfaces[i] = Class.forName(node.interfaces.get(i), false, this.classLoader);
+            }
+            return Proxy.newProxyInstance(this.classLoader, interfaces, new SnapshotInvocationHandler(this, node));
+        }
+
+        private Object restore(Object value, Class<?> type) {
+            if (value instanceof NodeRef) {
+                return this.models[((NodeRef) value).index];
+            } else if (value instanceof Elements) {
+                List<Object> elements = new ArrayList<>();
+                for (Object element : ((Elements) value).values) {
+                    elements.add(restore(element, Object.class));
+                }
+                if (DomainObjectSet.class.isAssignableFrom(type)) {
+                    return ModelUtils.asDomainObjectSet(elements);
+                } else if (Set.class.isAssignableFrom(type)) {
+                    return ImmutableSet.copyOf(elements);
+                } else {
+                    return elements;
+                }
+            } else {
+                return value;
+            }
+        }
+    }
+
+    private static final class SnapshotInvocationHandler implements InvocationHandler {
+
+        private final Restorer restorer;
+        private final Node node;
+        private final Map<String, Object> restoredProperties = new HashMap<>();
+
+        private SnapshotInvocationHandler(Restorer restorer, Node node) {
+            this.restorer = Preconditions.checkNotNull(restorer);
+            this.node = Preconditions.checkNotNull(node);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals") && method.getParameterTypes().length == 1) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode") && method.getParameterTypes().length == 0) {
+                return System.identityHashCode(proxy);
+            } else if (name.equals("toString") && method.getParameterTypes().length == 0) {
+                return "Snapshot of " + this.node.interfaces;
+            } else if (args != null && args.length > 0) {
+                throw new UnsupportedMethodException("Method " + name + " is not available on a model snapshot");
+            } else if (!this.node.properties.containsKey(name)) {
+                throw new UnsupportedMethodException("Method " + name + " was not captured in the model snapshot");
+            }
+
+            Object value = this.node.properties.get(name);
+            if (value instanceof Unsupported) {
+                throw new UnsupportedMethodException(((Unsupported) value).message);
+            }
+
+            synchronized (this.restoredProperties) {
+                if (!this.restoredProperties.containsKey(name)) {
+                    this.restoredProperties.put(name, this.restorer.restore(value, method.getReturnType()));
+                }
+                return this.restoredProperties.get(name);
+            }
+        }
+    }
+}
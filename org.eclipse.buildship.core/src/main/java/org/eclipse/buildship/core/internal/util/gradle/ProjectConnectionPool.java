@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.util.gradle;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.gradle.tooling.BuildAction;
+import org.gradle.tooling.BuildActionExecuter;
+import org.gradle.tooling.BuildActionExecuter.Builder;
+import org.gradle.tooling.BuildLauncher;
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ModelBuilder;
+import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.ResultHandler;
+import org.gradle.tooling.TestLauncher;
+import org.gradle.tooling.model.build.BuildEnvironment;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.buildship.core.GradleDistribution;
+import org.eclipse.buildship.core.WrapperGradleDistribution;
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.AdvancedPreferences;
+import org.eclipse.buildship.core.internal.configuration.GradleArguments;
+
+/**
+ * Keeps Tooling API project connections open between the operations.
+ * <p/>
+ * Opening a connection is cheap, but the first operation executed on a new connection has to
+ * resolve the Gradle distribution and load the Tooling API provider. Reusing the connection across
+ * synchronizations, task view reloads, launches and test executions saves this cost.
+ * <p/>
+ * The connections are pooled by the attributes applied on the {@link GradleConnector}: the root
+ * project directory, the Gradle distribution and the Gradle user home. The remaining
+ * {@link GradleArguments} are applied on the individual operations, so operations with different
+ * arguments share the same connection.
+ * <p/>
+ * The {@link #acquire(GradleArguments)} method returns a lease of the shared connection; closing
+ * the lease returns the connection to the pool. A connection is closed
+ * <ul>
+ * <li>when it was not used for the time defined in {@link AdvancedPreferences#getConnectionIdleTimeout()},</li>
+ * <li>when the wrapper properties of the target build change,</li>
+ * <li>when the build configuration is changed (see {@link #invalidateStale(GradleArguments)}),</li>
+ * <li>when the pool is closed.</li>
+ * </ul>
+ * Connections in use are only closed when their last lease is released.
+ * <p/>
+ * The {@link BuildEnvironment} model is cached by the pooled connection: it only depends on the
+ * attributes identifying the connection, on the wrapper properties and on the
+ * {@code gradle.properties} files of the build and of the Gradle user home. The model is reloaded
+ * when one of these {@code gradle.properties} files changes.
+ */
+public final class ProjectConnectionPool {
+
+    private final Map<Key, PooledConnection> connections = new HashMap<>();
+    private final Job evictionJob;
+    private boolean closed;
+
+    public ProjectConnectionPool() {
+        this.evictionJob = new Job("Close idle Gradle connections") {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                evictIdleConnections();
+                return Status.OK_STATUS;
+            }
+        };
+        this.evictionJob.setSystem(true);
+    }
+
+    /**
+     * Returns a connection for the target build. The returned instance must be closed after use.
+     *
+     * @param gradleArguments the configuration of the target build
+     * @return the connection
+     */
+    public ProjectConnection acquire(GradleArguments gradleArguments) {
+        Key key = new Key(gradleArguments);
+        String wrapperState = wrapperState(gradleArguments);
+        PooledConnection retired = null;
+        PooledConnection result;
+        synchronized (this) {
+            if (this.closed || AdvancedPreferences.getConnectionIdleTimeout() == 0) {
+                return connect(gradleArguments);
+            }
+
+            result = this.connections.get(key);
+            if (result != null && !Objects.equals(result.wrapperState, wrapperState)) {
+                this.connections.remove(key);
+                retired = retire(result);
+                result = null;
+            }
+            if (result == null) {
+                result = new PooledConnection(connect(gradleArguments), key, wrapperState);
+                this.connections.put(key, result);
+            }
+            result.leases++;
+        }
+
+        closeConnection(retired);
+        return new Lease(result);
+    }
+
+    /**
+     * Closes the connections of a build that were opened with a different configuration. Should be
+     * called when the build configuration changes.
+     *
+     * @param gradleArguments the current configuration of the target build
+     */
+    public void invalidateStale(GradleArguments gradleArguments) {
+        Key current = new Key(gradleArguments);
+        List<PooledConnection> toClose = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<Key, PooledConnection>> iterator = this.connections.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, PooledConnection> entry = iterator.next();
+                if (entry.getKey().rootDir.equals(current.rootDir) && !entry.getKey().equals(current)) {
+                    iterator.remove();
+                    toClose.add(retire(entry.getValue()));
+                }
+            }
+        }
+        closeConnections(toClose);
+    }
+
+    /**
+     * Closes all pooled connections. Connections acquired after this call are not pooled.
+     */
+    public void close() {
+        this.evictionJob.cancel();
+        List<PooledConnection> toClose = new ArrayList<>();
+        synchronized (this) {
+            this.closed = true;
+            for (PooledConnection connection : this.connections.values()) {
+                toClose.add(retire(connection));
+            }
+            this.connections.clear();
+        }
+        closeConnections(toClose);
+    }
+
+    synchronized int getPooledConnectionCount() {
+        return this.connections.size();
+    }
+
+    private void release(PooledConnection connection) {
+        boolean retired;
+        boolean close;
+        synchronized (this) {
+            connection.leases--;
+            connection.lastUsed = System.currentTimeMillis();
+            retired = connection.retired;
+            close = retired && connection.leases == 0;
+        }
+
+        if (close) {
+            closeConnection(connection);
+        } else if (!retired) {
+            this.evictionJob.schedule(AdvancedPreferences.getConnectionIdleTimeout());
+        }
+    }
+
+    private void evictIdleConnections() {
+        long timeout = AdvancedPreferences.getConnectionIdleTimeout();
+        long now = System.currentTimeMillis();
+        long nextEviction = Long.MAX_VALUE;
+        List<PooledConnection> toClose = new ArrayList<>();
+        synchronized (this) {
+            Iterator<PooledConnection> iterator = this.connections.values().iterator();
+            while (iterator.hasNext()) {
+                PooledConnection connection = iterator.next();
+                if (connection.leases == 0) {
+                    long idleTime = now - connection.lastUsed;
+                    if (idleTime >= timeout) {
+                        iterator.remove();
+                        toClose.add(retire(connection));
+                    } else {
+                        nextEviction = Math.min(nextEviction, timeout - idleTime);
+                    }
+                }
+            }
+        }
+
+        closeConnections(toClose);
+        if (nextEviction != Long.MAX_VALUE) {
+            this.evictionJob.schedule(nextEviction);
+        }
+    }
+
+    private static PooledConnection retire(PooledConnection connection) {
+        connection.retired = true;
+        return connection.leases == 0 ? connection : null;
+    }
+
+    private static void closeConnections(List<PooledConnection> connections) {
+        for (PooledConnection connection : connections) {
+            closeConnection(connection);
+        }
+    }
+
+    private static void closeConnection(PooledConnection connection) {
+        if (connection != null) {
+            try {
+                connection.delegate.close();
+            } catch (Exception e) {
+                CorePlugin.logger().warn("Failed to close Gradle connection", e);
+            }
+        }
+    }
+
+    private static ProjectConnection connect(GradleArguments gradleArguments) {
+        GradleConnector connector = GradleConnector.newConnector();
+        gradleArguments.applyTo(connector);
+        return connector.connect();
+    }
+
+    private static String wrapperState(GradleArguments gradleArguments) {
+        if (!(gradleArguments.getGradleDistribution() instanceof WrapperGradleDistribution)) {
+            return null;
+        }
+        File properties = new File(gradleArguments.getRootDir(), "gradle/wrapper/gradle-wrapper.properties");
+        return properties.lastModified() + ":" + properties.length();
+    }
+
+    private static String gradlePropertiesState(Key key) {
+        File gradleUserHome = key.gradleUserHome != null ? key.gradleUserHome : defaultGradleUserHome();
+        return fileState(new File(key.rootDir, "gradle.properties")) + "|" + fileState(new File(gradleUserHome, "gradle.properties"));
+    }
+
+    private static File defaultGradleUserHome() {
+        String gradleUserHome = System.getenv("GRADLE_USER_HOME");
+        return gradleUserHome != null ? new File(gradleUserHome) : new File(System.getProperty("user.home"), ".gradle");
+    }
+
+    private static String fileState(File file) {
+        return file.lastModified() + ":" + file.length();
+    }
+
+    /**
+     * The attributes identifying a pooled connection.
+     */
+    private static final class Key {
+
+        private final File rootDir;
+        private final GradleDistribution gradleDistribution;
+        private final File gradleUserHome;
+
+        Key(GradleArguments gradleArguments) {
+            this.rootDir = gradleArguments.getRootDir().getAbsoluteFile();
+            this.gradleDistribution = gradleArguments.getGradleDistribution();
+            this.gradleUserHome = gradleArguments.getGradleUserHome();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.rootDir.equals(other.rootDir)
+                    && this.gradleDistribution.equals(other.gradleDistribution)
+                    && Objects.equals(this.gradleUserHome, other.gradleUserHome);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.rootDir, this.gradleDistribution, this.gradleUserHome);
+        }
+    }
+
+    /**
+     * A shared connection. The mutable fields are guarded by the pool instance.
+     */
+    private static final class PooledConnection {
+
+        private final ProjectConnection delegate;
+        private final Key key;
+        private final String wrapperState;
+        private int leases;
+        private long lastUsed;
+        private boolean retired;
+        private volatile CachedBuildEnvironment buildEnvironment;
+
+        PooledConnection(ProjectConnection delegate, Key key, String wrapperState) {
+            this.delegate = delegate;
+            this.key = key;
+            this.wrapperState = wrapperState;
+        }
+
+        BuildEnvironment getBuildEnvironment() {
+            String propertiesState = gradlePropertiesState(this.key);
+            CachedBuildEnvironment result = this.buildEnvironment;
+            if (result == null || !result.propertiesState.equals(propertiesState)) {
+                // concurrent callers may load the model more than once, which is harmless
+                result = new CachedBuildEnvironment(this.delegate.getModel(BuildEnvironment.class), propertiesState);
+                this.buildEnvironment = result;
+            }
+            return result.model;
+        }
+    }
+
+    /**
+     * A loaded build environment along with the state of the gradle.properties files it was loaded with.
+     */
+    private static final class CachedBuildEnvironment {
+
+        private final BuildEnvironment model;
+        private final String propertiesState;
+
+        CachedBuildEnvironment(BuildEnvironment model, String propertiesState) {
+            this.model = model;
+            this.propertiesState = propertiesState;
+        }
+    }
+
+    /**
+     * Connection handed out to the clients. Closing it releases the shared connection.
+     */
+    private final class Lease implements ProjectConnection {
+
+        private final PooledConnection connection;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Lease(PooledConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public <T> T getModel(Class<T> modelType) throws GradleConnectionException, IllegalStateException {
+            if (modelType == BuildEnvironment.class) {
+                return modelType.cast(this.connection.getBuildEnvironment());
+            }
+            return this.connection.delegate.getModel(modelType);
+        }
+
+        @Override
+        public <T> void getModel(Class<T> modelType, ResultHandler<? super T> handler) throws IllegalStateException {
+            this.connection.delegate.getModel(modelType, handler);
+        }
+
+        @Override
+        public BuildLauncher newBuild() {
+            return this.connection.delegate.newBuild();
+        }
+
+        @Override
+        public TestLauncher newTestLauncher() {
+            return this.connection.delegate.newTestLauncher();
+        }
+
+        @Override
+        public <T> ModelBuilder<T> model(Class<T> modelType) {
+            return this.connection.delegate.model(modelType);
+        }
+
+        @Override
+        public <T> BuildActionExecuter<T> action(BuildAction<T> buildAction) {
+            return this.connection.delegate.action(buildAction);
+        }
+
+        @Override
+        public Builder action() {
+            return this.connection.delegate.action();
+        }
+
+        @Override
+        public void close() {
+            if (this.released.compareAndSet(false, true)) {
+                release(this.connection);
+            }
+        }
+    }
+}
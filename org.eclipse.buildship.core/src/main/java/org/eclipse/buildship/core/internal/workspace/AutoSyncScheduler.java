@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Iterables;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+
+import org.eclipse.buildship.core.GradleBuild;
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.AdvancedPreferences;
+import org.eclipse.buildship.core.internal.operation.ToolingApiJobResultHandler;
+import org.eclipse.buildship.core.internal.operation.ToolingApiStatus;
+
+/**
+ * Schedules the automatic synchronization of the Gradle builds whose build scripts changed.
+ * <p/>
+ * The requests are debounced per build: the synchronization of a build starts once no new request
+ * arrived for it for the quiet period returned by {@link AdvancedPreferences#getAutoSyncQuietPeriod()}.
+ * The requests for the same build are merged, so a burst of changes (e.g. a branch checkout) results
+ * in a single synchronization per build, and a build that keeps changing doesn't hold back the others.
+ * <p/>
+ * At most one automatic synchronization runs for a build at a time. If the build changes while it
+ * is being synchronized then the running job is cancelled and a new one is scheduled after the
+ * next quiet period. Builds being synchronized by other jobs are deferred until those jobs finish.
+ */
+final class AutoSyncScheduler {
+
+    // the pending builds mapped to the time their quiet period ends
+    private final Map<GradleBuild, Long> pendingBuilds = new LinkedHashMap<>();
+    private final Map<GradleBuild, SynchronizationJob> runningJobs = new HashMap<>();
+    private final Set<Job> awaitedJobs = new HashSet<>();
+    private final Job dispatchJob;
+    private long nextDispatchTime;
+
+    AutoSyncScheduler() {
+        this.dispatchJob = new Job("Schedule automatic Gradle synchronization") {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                dispatch();
+                return Status.OK_STATUS;
+            }
+
+            @Override
+            public boolean belongsTo(Object family) {
+                return CorePlugin.GRADLE_JOB_FAMILY.equals(family);
+            }
+        };
+        this.dispatchJob.setSystem(true);
+    }
+
+    /**
+     * Requests the synchronization of a build. The synchronization starts after the quiet period.
+     *
+     * @param gradleBuild the build to synchronize
+     */
+    void requestSynchronization(GradleBuild gradleBuild) {
+        long dueTime = System.currentTimeMillis() + AdvancedPreferences.getAutoSyncQuietPeriod();
+        SynchronizationJob runningJob;
+        synchronized (this) {
+            // re-inserting moves the build to the end, so the builds are dispatched in the order their changes settle
+            this.pendingBuilds.remove(gradleBuild);
+            this.pendingBuilds.put(gradleBuild, dueTime);
+            runningJob = this.runningJobs.get(gradleBuild);
+            scheduleDispatch(dueTime);
+        }
+
+        // the running synchronization may have already read the changed files
+        if (runningJob != null) {
+            runningJob.cancel();
+        }
+    }
+
+    /**
+     * Discards the pending requests and cancels the running automatic synchronizations.
+     */
+    void close() {
+        List<SynchronizationJob> jobs;
+        synchronized (this) {
+            this.pendingBuilds.clear();
+            this.awaitedJobs.clear();
+            jobs = new ArrayList<>(this.runningJobs.values());
+        }
+
+        this.dispatchJob.cancel();
+        for (SynchronizationJob job : jobs) {
+            job.cancel();
+        }
+    }
+
+    private void dispatch() {
+        Map<GradleBuild, Job> busyBuilds = collectBuildsBeingSynchronized();
+        List<SynchronizationJob> jobs = new ArrayList<>();
+        Set<Job> jobsToAwait = new HashSet<>();
+        synchronized (this) {
+            this.nextDispatchTime = 0;
+            long now = System.currentTimeMillis();
+            long nextDueTime = Long.MAX_VALUE;
+            for (Iterator<Map.Entry<GradleBuild, Long>> iterator = this.pendingBuilds.entrySet().iterator(); iterator.hasNext();) {
+                Map.Entry<GradleBuild, Long> entry = iterator.next();
+                GradleBuild gradleBuild = entry.getKey();
+                if (entry.getValue() > now) {
+                    nextDueTime = Math.min(nextDueTime, entry.getValue());
+                    continue;
+                } else if (this.runningJobs.containsKey(gradleBuild)) {
+                    // the job was cancelled by a newer request; the build is dispatched when the job is done
+                    continue;
+                } else if (busyBuilds.containsKey(gradleBuild)) {
+                    // the build is dispatched when the other synchronization is done
+                    Job busyJob = busyBuilds.get(gradleBuild);
+                    if (this.awaitedJobs.add(busyJob)) {
+                        jobsToAwait.add(busyJob);
+                    }
+                    continue;
+                }
+
+                iterator.remove();
+                SynchronizationJob job = new SynchronizationJob(gradleBuild);
+                job.setResultHandler(new ResultHandler());
+                job.addJobChangeListener(new JobChangeAdapter() {
+
+                    @Override
+                    public void done(IJobChangeEvent event) {
+                        jobDone(gradleBuild, job);
+                    }
+                });
+                this.runningJobs.put(gradleBuild, job);
+                jobs.add(job);
+            }
+            if (nextDueTime != Long.MAX_VALUE) {
+                scheduleDispatch(nextDueTime);
+            }
+        }
+
+        for (Job busyJob : jobsToAwait) {
+            awaitJob(busyJob);
+        }
+
+        for (SynchronizationJob job : jobs) {
+            job.schedule();
+            // the job is not scheduled if another synchronization already covers it
+            if (job.getState() == Job.NONE) {
+                jobDone(Iterables.getOnlyElement(job.getGradleBuilds()), job);
+            }
+        }
+
+    }
+
+    private void awaitJob(Job job) {
+        job.addJobChangeListener(new JobChangeAdapter() {
+
+            @Override
+            public void done(IJobChangeEvent event) {
+                event.getJob().removeJobChangeListener(this);
+                jobAwaited(event.getJob());
+            }
+        });
+
+        // the job may have finished before the listener was added
+        if (job.getState() == Job.NONE) {
+            jobAwaited(job);
+        }
+    }
+
+    private synchronized void jobAwaited(Job job) {
+        if (this.awaitedJobs.remove(job)) {
+            scheduleDispatch(System.currentTimeMillis());
+        }
+    }
+
+    private synchronized void scheduleDispatch(long time) {
+        // only ever move the next dispatch earlier; the dispatcher reschedules itself for the later builds
+        if (this.nextDispatchTime == 0 || time < this.nextDispatchTime) {
+            this.nextDispatchTime = time;
+            this.dispatchJob.schedule(Math.max(0, time - System.currentTimeMillis()));
+        }
+    }
+
+    private synchronized void jobDone(GradleBuild gradleBuild, SynchronizationJob job) {
+        if (this.runningJobs.get(gradleBuild) != job) {
+            return;
+        }
+        this.runningJobs.remove(gradleBuild);
+        Long dueTime = this.pendingBuilds.get(gradleBuild);
+        if (dueTime != null) {
+            scheduleDispatch(dueTime);
+        }
+    }
+
+    private static Map<GradleBuild, Job> collectBuildsBeingSynchronized() {
+        Map<GradleBuild, Job> result = new HashMap<>();
+        for (Job job : Job.getJobManager().find(CorePlugin.GRADLE_JOB_FAMILY)) {
+            if (job instanceof SynchronizationJob && job.getState() == Job.RUNNING) {
+                for (GradleBuild gradleBuild : ((SynchronizationJob) job).getGradleBuilds()) {
+                    result.put(gradleBuild, job);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Custom result handler that only logs the failure. The superseded synchronizations are not
+     * reported.
+     */
+    private static final class ResultHandler implements ToolingApiJobResultHandler<Void> {
+
+        @Override
+        public void onSuccess(Void result) {
+        }
+
+        @Override
+        public void onFailure(ToolingApiStatus status) {
+            if (status.getSeverity() != IStatus.CANCEL) {
+                CorePlugin.getInstance().getLog().log(status);
+            }
+        }
+    }
+}
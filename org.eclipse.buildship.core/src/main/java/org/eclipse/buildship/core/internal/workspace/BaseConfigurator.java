@@ -9,11 +9,17 @@
 package org.eclipse.buildship.core.internal.workspace;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.eclipse.EclipseProjectNature;
 
 import com.google.common.collect.ImmutableList;
 
@@ -28,25 +34,28 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
-import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.InitializationContext;
 import org.eclipse.buildship.core.ProjectConfigurator;
 import org.eclipse.buildship.core.ProjectContext;
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.preferences.PersistentModel;
 import org.eclipse.buildship.core.internal.util.gradle.HierarchicalElementUtils;
 public class BaseConfigurator implements ProjectConfigurator {
 
     private Map<File, EclipseProject> locationToProject;
+    private String buildStructureDigest;
+    private final AtomicInteger skippedProjects = new AtomicInteger();
+    private final ClasspathContainerBatch classpathContainers = new ClasspathContainerBatch();
+    private final Set<IProject> javaProjects = ConcurrentHashMap.newKeySet();
 
     @Override
     public void init(InitializationContext context, IProgressMonitor monitor) {
-        // TODO (donat) add required model declarations to the project configurator extension point
-        GradleBuild gradleBuild = context.getGradleBuild();
         try {
-            Collection<EclipseProject> rootModels = gradleBuild.withConnection(connection -> EclipseModelUtils.queryModels(connection), monitor);
+            Collection<EclipseProject> rootModels = context.getModels(EclipseProject.class);
             this.locationToProject = rootModels.stream()
                 .flatMap(p -> HierarchicalElementUtils.getAll(p).stream())
                 .collect(Collectors.toMap(p -> p.getProjectDirectory(), p -> p));
+            this.buildStructureDigest = EclipseProjectDigest.calculateBuildStructure(this.locationToProject.values());
         } catch (Exception e) {
             context.error("Cannot Query Eclipse model", e);
         }
@@ -66,8 +75,15 @@ public class BaseConfigurator implements ProjectConfigurator {
         SubMonitor progress = SubMonitor.convert(monitor);
         progress.setWorkRemaining(4);
 
-        PersistentModelBuilder persistentModel = new PersistentModelBuilder(CorePlugin.modelPersistence().loadModel(project));
+        PersistentModel previousModel = CorePlugin.modelPersistence().loadModel(project);
         EclipseProject model = lookupEclipseModel(project);
+        String modelDigest = EclipseProjectDigest.calculate(model, this.buildStructureDigest);
+        if (isUpToDate(project, model, previousModel, modelDigest)) {
+            this.skippedProjects.incrementAndGet();
+            return;
+        }
+
+        PersistentModelBuilder persistentModel = new PersistentModelBuilder(previousModel);
         progress.worked(1);
 
         BuildScriptLocationUpdater.update(model, persistentModel, progress.newChild(1));
@@ -84,9 +100,57 @@ public class BaseConfigurator implements ProjectConfigurator {
             persistentModel.classpath(ImmutableList.<IClasspathEntry>of());
         }
 
+        persistentModel.modelDigest(modelDigest != null ? EclipseProjectDigest.withWorkspaceState(modelDigest, project) : null);
         CorePlugin.modelPersistence().saveModel(persistentModel.build());
     }
 
+    /*
+     * A project doesn't have to be reconfigured if it was configured from the same model during
+     * the last synchronization and the project settings managed by Buildship weren't changed
+     * manually since.
+     */
+    private boolean isUpToDate(IProject project, EclipseProject model, PersistentModel previousModel, String modelDigest) throws CoreException {
+        if (modelDigest == null || !previousModel.isPresent() || previousModel.getModelDigest() == null) {
+            return false;
+        }
+
+        for (EclipseProjectNature nature : model.getProjectNatures()) {
+            if (!project.hasNature(nature.getId())) {
+                return false;
+            }
+        }
+
+        return EclipseProjectDigest.withWorkspaceState(modelDigest, project).equals(previousModel.getModelDigest());
+    }
+
+    /**
+     * Returns the number of projects that were skipped during the synchronization because their
+     * Gradle model didn't change since the last synchronization.
+     *
+     * @return the number of skipped projects
+     */
+    public int getSkippedProjectCount() {
+        return this.skippedProjects.get();
+    }
+
+    /**
+     * Sets the Gradle classpath containers of the projects configured since the last call in a
+     * single batch and updates the classpath provider of the launch configurations referencing
+     * them. Called after all projects of the build are configured.
+     *
+     * @param monitor the monitor to report the progress on
+     * @throws CoreException if the classpath containers can't be set
+     */
+    public void complete(IProgressMonitor monitor) throws CoreException {
+        try {
+            this.classpathContainers.apply(monitor);
+        } finally {
+            List<IProject> projects = new ArrayList<>(this.javaProjects);
+            this.javaProjects.removeAll(projects);
+            CorePlugin.externalLaunchConfigurationManager().updateClasspathProviders(projects);
+        }
+    }
+
     private void synchronizeJavaProject(final ProjectContext context, final EclipseProject model, final IProject project, final PersistentModelBuilder persistentModel, SubMonitor progress) throws CoreException {
         JavaCore.run(new IWorkspaceRunnable() {
             @Override
@@ -107,8 +171,9 @@ public class BaseConfigurator implements ProjectConfigurator {
         LibraryFilter.update(javaProject, model, progress.newChild(1));
         ClasspathContainerUpdater.update(javaProject, model, progress.newChild(1));
         JavaSourceSettingsUpdater.update(javaProject, model, progress.newChild(1));
-        GradleClasspathContainerUpdater.updateFromModel(javaProject, model, this.locationToProject.values(), persistentModel, progress.newChild(1));
-        CorePlugin.externalLaunchConfigurationManager().updateClasspathProviders(project);
+        GradleClasspathContainerUpdater.collectFromModel(javaProject, model, this.locationToProject.values(), persistentModel, this.classpathContainers);
+        progress.worked(1);
+        this.javaProjects.add(project);
         persistentModel.hasAutoBuildTasks(model.hasAutoBuildTasks());
     }
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNatureConfiguredEvent;
+import org.eclipse.buildship.core.internal.event.Event;
+import org.eclipse.buildship.core.internal.event.EventListener;
+import org.eclipse.buildship.core.internal.preferences.PersistentModel;
+
+/**
+ * Maps the workspace paths of the build inputs to the Gradle projects they belong to.
+ * <p/>
+ * The watched inputs of a project are its build script, the settings and the
+ * {@code gradle.properties} files in its directory and the build script and sources of its
+ * {@code buildSrc} folder. The index is built from the persisted models when a Gradle build
+ * synchronization finishes. The changes of the workspace projects are indexed by a background job.
+ * The resource deltas are matched against the last built index, without loading the project
+ * configurations and models on the resource change notification thread.
+ * <p/>
+ * The index is kept up-to-date only while it is registered in the
+ * {@link CorePlugin#listenerRegistry()}.
+ */
+final class BuildInputWatchIndex implements EventListener {
+
+    private static final List<String> WATCHED_FILES = Arrays.asList("settings.gradle", "settings.gradle.kts", "gradle.properties", "buildSrc/build.gradle",
+            "buildSrc/build.gradle.kts", "buildSrc/settings.gradle", "buildSrc/settings.gradle.kts");
+    private static final List<String> WATCHED_FOLDERS = Arrays.asList("buildSrc/src");
+
+    // a content or structure change; marker-only deltas are created by the synchronization itself
+    private static final int CHANGED_FLAGS = IResourceDelta.CONTENT | IResourceDelta.REPLACED | IResourceDelta.MOVED_FROM | IResourceDelta.MOVED_TO
+            | IResourceDelta.TYPE;
+
+    private final Job rebuildJob;
+    private volatile Snapshot snapshot = new Snapshot();
+
+    BuildInputWatchIndex() {
+        this.rebuildJob = new Job("Index Gradle build inputs") {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                rebuild();
+                return Status.OK_STATUS;
+            }
+        };
+        this.rebuildJob.setSystem(true);
+    }
+
+    void register() {
+        CorePlugin.listenerRegistry().addEventListener(this);
+        this.rebuildJob.schedule();
+    }
+
+    void unregister() {
+        CorePlugin.listenerRegistry().removeEventListener(this);
+        this.rebuildJob.cancel();
+        this.snapshot = new Snapshot();
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof GradleBuildSynchronizedEvent) {
+            // the persisted models are up-to-date once the synchronization finishes
+            rebuild();
+        } else if (event instanceof BaseProjectChangedEvent || event instanceof GradleNatureAddedEvent || event instanceof GradleProjectNatureConfiguredEvent) {
+            // the project events are delivered from the resource change notifications
+            this.rebuildJob.schedule();
+        }
+    }
+
+    private synchronized void rebuild() {
+        this.snapshot = Snapshot.create();
+    }
+
+    /**
+     * Returns the Gradle projects whose build inputs are changed by the target delta.
+     *
+     * @param delta the workspace delta
+     * @return the projects owning the changed inputs
+     * @throws CoreException if the delta can't be traversed
+     */
+    Set<IProject> findAffectedProjects(IResourceDelta delta) throws CoreException {
+        Snapshot snapshot = this.snapshot;
+        Set<IProject> result = new HashSet<>();
+        if (!snapshot.watchedAncestors.isEmpty()) {
+            delta.accept(new IResourceDeltaVisitor() {
+
+                @Override
+                public boolean visit(IResourceDelta delta) {
+                    return snapshot.visit(delta, result);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Immutable state of the index.
+     */
+    private static final class Snapshot {
+
+        private final Map<IPath, IProject> watchedFiles = new HashMap<>();
+        private final Map<IPath, IProject> watchedFolders = new HashMap<>();
+        private final Set<IPath> watchedAncestors = new HashSet<>();
+
+        static Snapshot create() {
+            Snapshot snapshot = new Snapshot();
+            for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+                if (GradleProjectNature.isPresentOn(project)) {
+                    snapshot.addProject(project);
+                }
+            }
+            return snapshot;
+        }
+
+        private void addProject(IProject project) {
+            PersistentModel model = CorePlugin.modelPersistence().loadModel(project);
+            if (!model.isPresent()) {
+                return;
+            }
+
+            IPath projectPath = project.getFullPath();
+            IPath buildScriptPath = model.getbuildScriptPath();
+            if (buildScriptPath != null) {
+                add(this.watchedFiles, projectPath.append(buildScriptPath), project);
+            }
+            for (String file : WATCHED_FILES) {
+                add(this.watchedFiles, projectPath.append(file), project);
+            }
+            for (String folder : WATCHED_FOLDERS) {
+                add(this.watchedFolders, projectPath.append(folder), project);
+            }
+        }
+
+        private void add(Map<IPath, IProject> paths, IPath path, IProject project) {
+            paths.put(path, project);
+            IPath parent = path.removeLastSegments(1);
+            while (this.watchedAncestors.add(parent) && !parent.isRoot()) {
+                parent = parent.removeLastSegments(1);
+            }
+        }
+
+        boolean visit(IResourceDelta delta, Set<IProject> result) {
+            IPath path = delta.getFullPath();
+            IProject project = this.watchedFolders.get(path);
+            if (project != null) {
+                if (containsChangedFile(delta)) {
+                    result.add(project);
+                }
+                return false;
+            }
+
+            project = this.watchedFiles.get(path);
+            if (project != null && isChanged(delta)) {
+                result.add(project);
+            }
+            return this.watchedAncestors.contains(path);
+        }
+
+        private static boolean containsChangedFile(IResourceDelta delta) {
+            if (delta.getResource().getType() == IResource.FILE) {
+                return isChanged(delta);
+            }
+            for (IResourceDelta child : delta.getAffectedChildren()) {
+                if (containsChangedFile(child)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isChanged(IResourceDelta delta) {
+            return delta.getKind() != IResourceDelta.CHANGED || (delta.getFlags() & CHANGED_FLAGS) != 0;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+
+/**
+ * Computes a content hash over everything that influences the {@code EclipseProject} models of a
+ * Gradle build.
+ * <p/>
+ * The fingerprint covers the build configuration, the extra arguments contributed via the
+ * invocation customizers, the workspace projects (they are sent to Gradle for project name
+ * deduplication) and the content of the build input files: the build scripts and
+ * {@code gradle.properties} files in the project directories, the {@code settings.gradle} files,
+ * the {@code gradle} and {@code buildSrc} folders of the root project and the
+ * {@code gradle.properties} file and {@code init.d} folder of the Gradle user home.
+ * <p/>
+ * Scripts applied from other locations are not tracked; changing those requires an explicit
+ * refresh.
+ */
+final class BuildInputsFingerprint {
+
+    private static final ImmutableSet<String> IGNORED_FOLDERS = ImmutableSet.of("build", ".gradle", ".git", "out", "bin");
+
+    private BuildInputsFingerprint() {
+    }
+
+    /**
+     * Calculates the fingerprint.
+     *
+     * @param buildConfig the configuration of the target build
+     * @param projectDirectories the project directories known from the last model fetch
+     * @return the fingerprint as a hex string
+     */
+    static String calculate(BuildConfiguration buildConfig, Collection<File> projectDirectories) {
+        Hasher hasher = Hashing.sha256().newHasher();
+
+        putString(hasher, CorePlugin.getInstance().getBundle().getVersion().toString());
+        putString(hasher, buildConfig.getRootProjectDirectory().getAbsolutePath());
+        putString(hasher, buildConfig.getGradleDistribution().toString());
+        putString(hasher, String.valueOf(buildConfig.getGradleUserHome()));
+        putString(hasher, String.valueOf(buildConfig.getJavaHome()));
+        hasher.putBoolean(buildConfig.isBuildScansEnabled());
+        hasher.putBoolean(buildConfig.isOfflineMode());
+        putStrings(hasher, buildConfig.getArguments());
+        putStrings(hasher, buildConfig.getJvmArguments());
+        putStrings(hasher, CorePlugin.invocationCustomizer().getExtraArguments());
+
+        SortedSet<String> workspaceProjects = new TreeSet<>();
+        for (IProject project : CorePlugin.workspaceOperations().getAllProjects()) {
+            workspaceProjects.add(project.getName() + "=" + project.getLocation());
+        }
+        putStrings(hasher, workspaceProjects);
+
+        SortedSet<File> inputs = new TreeSet<>();
+        File rootDir = buildConfig.getRootProjectDirectory();
+        collectRecursively(new File(rootDir, "gradle"), inputs);
+        collectRecursively(new File(rootDir, "buildSrc"), inputs);
+        collectBuildScripts(rootDir, inputs);
+        for (File projectDirectory : projectDirectories) {
+            collectBuildScripts(projectDirectory, inputs);
+        }
+        File gradleUserHome = buildConfig.getGradleUserHome() != null ? buildConfig.getGradleUserHome() : new File(System.getProperty("user.home"), ".gradle");
+        collectFile(new File(gradleUserHome, "gradle.properties"), inputs);
+        collectRecursively(new File(gradleUserHome, "init.d"), inputs);
+
+        for (File input : inputs) {
+            putString(hasher, input.getAbsolutePath());
+            try {
+                hasher.putBytes(Files.toByteArray(input));
+            } catch (IOException e) {
+                // an unreadable input must never match a previous fingerprint
+                putString(hasher, String.valueOf(System.nanoTime()));
+            }
+        }
+
+        return hasher.hash().toString();
+    }
+
+    private static void collectBuildScripts(File projectDirectory, Collection<File> result) {
+        File[] files = projectDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                if (file.isFile() && (name.endsWith(".gradle") || name.endsWith(".gradle.kts") || name.equals("gradle.properties"))) {
+                    result.add(file);
+                }
+            }
+        }
+    }
+
+    private static void collectRecursively(File directory, Collection<File> result) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            Arrays.sort(files);
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    if (!IGNORED_FOLDERS.contains(file.getName())) {
+                        collectRecursively(file, result);
+                    }
+                } else {
+                    result.add(file);
+                }
+            }
+        }
+    }
+
+    private static void collectFile(File file, Collection<File> result) {
+        if (file.isFile()) {
+            result.add(file);
+        }
+    }
+
+    private static void putStrings(Hasher hasher, Collection<String> values) {
+        hasher.putInt(values.size());
+        for (String value : values) {
+            putString(hasher, value);
+        }
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putInt(value.length());
+        hasher.putString(value, Charsets.UTF_8);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.CoreTraceScopes;
+
+/**
+ * Collects the Gradle classpath containers of multiple projects and sets them with a single
+ * {@link JavaCore#setClasspathContainer(org.eclipse.core.runtime.IPath, IJavaProject[], IClasspathContainer[], IProgressMonitor)}
+ * call.
+ * <p/>
+ * Setting the containers one by one fires a separate Java model delta for each project and every
+ * delta can make JDT re-resolve and rebuild the dependent projects. When the batch is applied,
+ * the containers whose entries did not change are skipped and the remaining ones are set in a
+ * single {@link JavaCore#run(org.eclipse.core.resources.IWorkspaceRunnable, IProgressMonitor)}
+ * operation.
+ * <p/>
+ * The class is thread-safe; the containers can be added by concurrent project configurators.
+ */
+final class ClasspathContainerBatch {
+
+    private final Map<IJavaProject, List<IClasspathEntry>> containers = new LinkedHashMap<>();
+
+    /**
+     * Adds the new content of a project's classpath container to the batch. If the project was
+     * added before, then the previous entries are replaced.
+     *
+     * @param project the target project
+     * @param classpathEntries the new container entries
+     */
+    synchronized void add(IJavaProject project, List<IClasspathEntry> classpathEntries) {
+        this.containers.put(project, classpathEntries);
+    }
+
+    /**
+     * Sets the collected classpath containers and clears the batch.
+     *
+     * @param monitor the monitor to report the progress on
+     * @throws CoreException if the containers can't be set
+     */
+    void apply(IProgressMonitor monitor) throws CoreException {
+        Map<IJavaProject, List<IClasspathEntry>> containers;
+        synchronized (this) {
+            if (this.containers.isEmpty()) {
+                return;
+            }
+            containers = new LinkedHashMap<>(this.containers);
+            this.containers.clear();
+        }
+
+        JavaCore.run(m -> setChangedContainers(containers, m), monitor);
+    }
+
+    private static void setChangedContainers(Map<IJavaProject, List<IClasspathEntry>> containers, IProgressMonitor monitor) throws JavaModelException {
+        List<IJavaProject> projects = new ArrayList<>(containers.size());
+        List<IClasspathContainer> newContainers = new ArrayList<>(containers.size());
+        for (Map.Entry<IJavaProject, List<IClasspathEntry>> entry : containers.entrySet()) {
+            IJavaProject project = entry.getKey();
+            if (project.getProject().isAccessible() && !hasEntries(project, entry.getValue())) {
+                projects.add(project);
+                newContainers.add(GradleClasspathContainer.newInstance(entry.getValue()));
+            }
+        }
+
+        CorePlugin.logger().trace(CoreTraceScopes.CLASSPATH, String.format("Updating %d of %d Gradle classpath containers", projects.size(), containers.size()));
+        if (!projects.isEmpty()) {
+            JavaCore.setClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, projects.toArray(new IJavaProject[projects.size()]),
+                    newContainers.toArray(new IClasspathContainer[newContainers.size()]), monitor);
+        }
+    }
+
+    private static boolean hasEntries(IJavaProject project, List<IClasspathEntry> classpathEntries) {
+        // if the container is not yet initialized then JDT calls the initializer, which loads the container content
+        // from the persisted model
+        try {
+            IClasspathContainer container = JavaCore.getClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, project);
+            return container != null && Arrays.asList(container.getClasspathEntries()).equals(classpathEntries);
+        } catch (JavaModelException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.gradle.tooling.BuildAction;
+import org.gradle.tooling.BuildController;
+import org.gradle.tooling.model.gradle.GradleBuild;
+
+/**
+ * Build action to query several models for all participants in a composite in a single request.
+ * <p/>
+ * The result maps the model type names to the models of the root projects. Models not available in
+ * the target build are omitted.
+ *
+ * @see CompositeModelQuery
+ */
+public final class CompositeModelsQuery implements BuildAction<Map<String, Collection<Object>>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Class<?>> modelTypes;
+
+    public CompositeModelsQuery(List<Class<?>> modelTypes) {
+        this.modelTypes = new ArrayList<>(modelTypes);
+    }
+
+    @Override
+    public Map<String, Collection<Object>> execute(BuildController controller) {
+        Map<String, Collection<Object>> models = new HashMap<>();
+        for (Class<?> modelType : this.modelTypes) {
+            models.put(modelType.getName(), new ArrayList<>());
+        }
+        collectRootModels(controller, controller.getBuildModel(), models);
+        return models;
+    }
+
+    private void collectRootModels(BuildController controller, GradleBuild build, Map<String, Collection<Object>> models) {
+        for (Class<?> modelType : this.modelTypes) {
+            Object model = controller.findModel(build.getRootProject(), modelType);
+            if (model != null) {
+                models.get(modelType.getName()).add(model);
+            }
+        }
+
+        for (GradleBuild includedBuild : build.getIncludedBuilds()) {
+            collectRootModels(controller, includedBuild, models);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.modelTypes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        CompositeModelsQuery other = (CompositeModelsQuery) obj;
+        return Objects.equals(this.modelTypes, other.modelTypes);
+    }
+}
@@ -17,7 +17,6 @@ import java.net.URLClassLoader;
 
 import org.gradle.tooling.BuildLauncher;
 import org.gradle.tooling.GradleConnectionException;
-import org.gradle.tooling.GradleConnector;
 import org.gradle.tooling.LongRunningOperation;
 import org.gradle.tooling.ProjectConnection;
 import org.gradle.tooling.ResultHandler;
@@ -29,8 +28,8 @@ import org.eclipse.buildship.core.internal.configuration.GradleArguments;
 import org.eclipse.buildship.core.internal.gradle.GradleProgressAttributes;
 
 /**
- * Provides long-running TAPI operation instances that close their project connection after the execution is
- * finished.
+ * Provides long-running TAPI operation instances that release their project connection after the execution is
+ * finished. The connections are obtained from the {@link org.eclipse.buildship.core.internal.util.gradle.ProjectConnectionPool}.
  *
  * @author Donat Csikos
  */
@@ -64,9 +63,7 @@ public final class ConnectionAwareLauncherProxy implements InvocationHandler {
     }
 
     private static ProjectConnection openConnection(GradleArguments gradleArguments) {
-        GradleConnector connector = GradleConnector.newConnector();
-        gradleArguments.applyTo(connector);
-        return connector.connect();
+        return CorePlugin.connectionPool().acquire(gradleArguments);
     }
 
     private static void describeAndApplyConfiguration(LongRunningOperation operation, GradleArguments gradleArguments, BuildEnvironment buildEnvironment,
@@ -13,7 +13,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 
@@ -25,6 +24,7 @@ import org.eclipse.buildship.core.internal.DefaultGradleBuild;
 import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
 import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
 import org.eclipse.buildship.core.internal.configuration.ProjectConfiguration;
+import org.eclipse.buildship.core.internal.util.cache.CachePolicy;
 
 /**
  * Default implementation of {@link InternalGradleWorkspace}.
@@ -33,7 +33,8 @@ import org.eclipse.buildship.core.internal.configuration.ProjectConfiguration;
  */
 public final class DefaultGradleWorkspace implements InternalGradleWorkspace {
 
-    private final LoadingCache<BuildConfiguration, InternalGradleBuild> cache = CacheBuilder.newBuilder().build(new CacheLoader<BuildConfiguration, InternalGradleBuild>() {
+    private final GradleBuildRegistry registry = new GradleBuildRegistry();
+    private final LoadingCache<BuildConfiguration, InternalGradleBuild> cache = CachePolicy.GRADLE_BUILDS.newCache(new CacheLoader<BuildConfiguration, InternalGradleBuild>() {
 
         @Override
         public InternalGradleBuild load(BuildConfiguration buildConfiguration) {
@@ -41,6 +42,19 @@ public final class DefaultGradleWorkspace implements InternalGradleWorkspace {
         }
     });
 
+    /**
+     * Starts maintaining the registry used by {@link #getGradleBuilds()} and
+     * {@link #getBuild(IProject)}. Until this method is called, the lookups load the configuration
+     * of all workspace projects.
+     */
+    public void registerBuildRegistry() {
+        this.registry.register();
+    }
+
+    public void unregisterBuildRegistry() {
+        this.registry.unregister();
+    }
+
     @Override
     public InternalGradleBuild getGradleBuild(BuildConfiguration buildConfig) {
         return this.cache.getUnchecked(buildConfig);
@@ -48,6 +62,12 @@ public final class DefaultGradleWorkspace implements InternalGradleWorkspace {
 
     @Override
     public Set<InternalGradleBuild> getGradleBuilds() {
+        if (this.registry.isRegistered()) {
+            return this.registry.getBuildConfigurations().stream()
+                    .map(buildConfig -> getGradleBuild(buildConfig))
+                    .collect(Collectors.toSet());
+        }
+
         return CorePlugin.workspaceOperations().getAllProjects().stream()
                 .filter(GradleProjectNature.isPresentOn())
                 .map(project -> toBuildConfigurationOrNull(project))
@@ -58,6 +78,11 @@ public final class DefaultGradleWorkspace implements InternalGradleWorkspace {
 
     @Override
     public Optional<GradleBuild> getBuild(IProject project) {
+        if (this.registry.isRegistered()) {
+            BuildConfiguration buildConfiguration = this.registry.getBuildConfiguration(project);
+            return buildConfiguration != null ? Optional.<GradleBuild> of(getGradleBuild(buildConfiguration)) : Optional.empty();
+        }
+
         if (GradleProjectNature.isPresentOn(project)) {
             ProjectConfiguration projectConfiguration = CorePlugin.configurationManager().tryLoadProjectConfiguration(project);
             if (projectConfiguration != null) {
@@ -17,14 +17,16 @@ import org.gradle.tooling.ProjectConnection;
 import org.gradle.tooling.model.build.BuildEnvironment;
 import org.gradle.tooling.model.eclipse.EclipseProject;
 
+import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.util.cache.CachePolicy;
+import org.eclipse.buildship.core.internal.util.cache.CacheStatistics;
 import org.eclipse.buildship.core.internal.util.gradle.GradleVersion;
 import org.eclipse.buildship.core.internal.util.gradle.IdeFriendlyClassLoading;
 
@@ -36,10 +38,21 @@ import org.eclipse.buildship.core.internal.util.gradle.IdeFriendlyClassLoading;
 public final class DefaultModelProvider implements ModelProvider {
 
     private final InternalGradleBuild gradleBuild;
-    private final Cache<Object, Object> cache = CacheBuilder.newBuilder().build();
+    private final PersistentEclipseModelCache persistentCache;
+    private final Cache<Object, Object> cache = CachePolicy.MODEL_PROVIDER.newCache();
 
     public DefaultModelProvider(InternalGradleBuild gradleBuild) {
         this.gradleBuild = gradleBuild;
+        this.persistentCache = new PersistentEclipseModelCache(gradleBuild.getBuildConfig());
+    }
+
+    /**
+     * Returns the statistics of the in-memory model cache of this provider.
+     *
+     * @return the cache statistics
+     */
+    public CacheStatistics getCacheStatistics() {
+        return CachePolicy.MODEL_PROVIDER.getStatistics(this.cache);
     }
 
     @Override
@@ -67,12 +80,21 @@ public final class DefaultModelProvider implements ModelProvider {
     }
 
     @Override
-    public Collection<EclipseProject> fetchEclipseProjectAndRunSyncTasks(final CancellationTokenSource tokenSource, final IProgressMonitor monitor) {
-        return executeOperation(() ->
-            // TODO (donat) Right now, project configurators can only get cached model query results if they invoke the same exact actions
-            // used below. We should fix this by letting configurators declare their required models.
+    public Collection<EclipseProject> fetchEclipseProjectAndRunSyncTasks(FetchStrategy strategy, final CancellationTokenSource tokenSource, final IProgressMonitor monitor) {
+        Preconditions.checkArgument(FetchStrategy.FROM_CACHE_ONLY != strategy, "The synchronization tasks can't be executed from the cache only.");
+        if (FetchStrategy.LOAD_IF_NOT_CACHED == strategy) {
+            Collection<EclipseProject> cachedModels = this.persistentCache.load();
+            if (cachedModels != null) {
+                this.cache.put(EclipseProject.class, cachedModels);
+                return cachedModels;
+            }
+        }
+
+        Collection<EclipseProject> models = executeOperation(() ->
             DefaultModelProvider.this.gradleBuild.withConnection(connection -> EclipseModelUtils.runTasksAndQueryModels(connection), tokenSource, monitor),
         FetchStrategy.FORCE_RELOAD, EclipseProject.class);
+        this.persistentCache.save(models);
+        return models;
     }
 
     private <T> T executeOperation(final Callable<T> operation, FetchStrategy fetchStrategy, Class<?> cacheKey) {
@@ -47,24 +47,41 @@ import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
  */
 public final class DefaultWorkspaceOperations implements WorkspaceOperations {
 
+    private final ProjectLocationIndex projectIndex = new ProjectLocationIndex();
+
+    /**
+     * Starts maintaining the location index used by {@link #findProjectByLocation(File)}. Until
+     * this method is called, the lookups scan all workspace projects.
+     */
+    public void registerProjectIndex() {
+        this.projectIndex.register();
+    }
+
+    public void unregisterProjectIndex() {
+        this.projectIndex.unregister();
+    }
+
     @Override
     public ImmutableList<IProject> getAllProjects() {
         return ImmutableList.copyOf(ResourcesPlugin.getWorkspace().getRoot().getProjects());
     }
 
     @Override
-    public Optional<IProject> findProjectByName(final String name) {
-        return FluentIterable.from(getAllProjects()).firstMatch(new Predicate<IProject>() {
-
-            @Override
-            public boolean apply(IProject project) {
-                return project.getName().equals(name);
-            }
-        });
+    public Optional<IProject> findProjectByName(String name) {
+        // project names can't contain separators; the workspace root rejects such handles
+        if (name.isEmpty() || name.indexOf(IPath.SEPARATOR) >= 0) {
+            return Optional.absent();
+        }
+        IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+        return project.exists() ? Optional.of(project) : Optional.<IProject>absent();
     }
 
     @Override
     public Optional<IProject> findProjectByLocation(final File directory) {
+        if (this.projectIndex.isRegistered()) {
+            return this.projectIndex.findProjectByLocation(directory);
+        }
+
         return FluentIterable.from(getAllProjects()).firstMatch(new Predicate<IProject>() {
 
             @Override
@@ -113,6 +130,7 @@ public final class DefaultWorkspaceOperations implements WorkspaceOperations {
             projectDescription.setComment(String.format("Project %s created by Buildship.", name));
             IProject project = workspace.getRoot().getProject(name);
             project.create(projectDescription, progress.newChild(1));
+            this.projectIndex.projectAdded(project);
 
             // open the project
             project.open(IResource.NONE, progress.newChild(1));
@@ -145,6 +163,7 @@ public final class DefaultWorkspaceOperations implements WorkspaceOperations {
             IWorkspace workspace = ResourcesPlugin.getWorkspace();
             IProject project = workspace.getRoot().getProject(projectName);
             project.create(projectDescription, progress.newChild(1));
+            this.projectIndex.projectAdded(project);
 
             // open the project
             project.open(IResource.NONE, progress.newChild(1));
@@ -362,7 +381,9 @@ public final class DefaultWorkspaceOperations implements WorkspaceOperations {
         } catch (CoreException e) {
             throw new GradlePluginsRuntimeException(e);
         }
-        return findProjectByName(newName).get();
+        IProject renamedProject = findProjectByName(newName).get();
+        this.projectIndex.projectMoved(project, renamedProject);
+        return renamedProject;
     }
 
     @Override
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.gradle.tooling.model.eclipse.AccessRule;
+import org.gradle.tooling.model.eclipse.ClasspathAttribute;
+import org.gradle.tooling.model.eclipse.EclipseBuildCommand;
+import org.gradle.tooling.model.eclipse.EclipseClasspathContainer;
+import org.gradle.tooling.model.eclipse.EclipseClasspathEntry;
+import org.gradle.tooling.model.eclipse.EclipseExternalDependency;
+import org.gradle.tooling.model.eclipse.EclipseJavaSourceSettings;
+import org.gradle.tooling.model.eclipse.EclipseLinkedResource;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.eclipse.EclipseProjectDependency;
+import org.gradle.tooling.model.eclipse.EclipseProjectNature;
+import org.gradle.tooling.model.eclipse.EclipseSourceDirectory;
+import org.gradle.tooling.model.gradle.GradleScript;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+
+/**
+ * Computes a hash over the parts of an {@link EclipseProject} model that are used by the
+ * {@link BaseConfigurator} to configure the corresponding workspace project.
+ * <p/>
+ * The result covers the project's own model and the structure of the enclosing build: the names,
+ * locations and build directories of all projects are relevant for the project dependencies and
+ * the derived folders. To detect manual changes, the stored digest also covers the Java settings of
+ * the workspace project written by the configurator.
+ */
+final class EclipseProjectDigest {
+
+    private EclipseProjectDigest() {
+    }
+
+    /**
+     * Calculates the digest of the structure of a Gradle build.
+     *
+     * @param allProjects all projects of the build
+     * @return the digest as a hex string
+     */
+    static String calculateBuildStructure(Collection<EclipseProject> allProjects) {
+        SortedMap<String, String> projects = new TreeMap<>();
+        for (EclipseProject project : allProjects) {
+            projects.put(project.getProjectDirectory().getAbsolutePath(), project.getName() + ":" + project.getGradleProject().getBuildDirectory());
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, CorePlugin.getInstance().getBundle().getVersion().toString());
+        putMap(hasher, projects);
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Calculates the digest of a single project.
+     *
+     * @param project the project model
+     * @param buildStructure the digest of the enclosing build's structure
+     * @return the digest as a hex string or {@code null} if the model can't be inspected
+     */
+    static String calculate(EclipseProject project, String buildStructure) {
+        try {
+            Hasher hasher = Hashing.sha256().newHasher();
+            putString(hasher, buildStructure);
+            putString(hasher, project.getName());
+            putFile(hasher, project.getProjectDirectory());
+            putScript(hasher, project.getGradleProject().getBuildScript());
+            putLinkedResources(hasher, project.getLinkedResources());
+            putNatures(hasher, project.getProjectNatures());
+            putBuildCommands(hasher, project.getBuildCommands());
+            hasher.putBoolean(project.hasAutoBuildTasks());
+
+            EclipseJavaSourceSettings sourceSettings = project.getJavaSourceSettings();
+            hasher.putBoolean(sourceSettings != null);
+            if (sourceSettings != null) {
+                putSourceSettings(hasher, sourceSettings);
+                putString(hasher, project.getOutputLocation().getPath());
+                putSourceDirectories(hasher, project.getSourceDirectories());
+                putExternalDependencies(hasher, project.getClasspath());
+                putProjectDependencies(hasher, project.getProjectDependencies());
+                putClasspathContainers(hasher, project.getClasspathContainers());
+            }
+            return hasher.hash().toString();
+        } catch (RuntimeException e) {
+            // the model is not supported by the target Gradle version; always reconfigure the project
+            return null;
+        }
+    }
+
+    /**
+     * Combines a model digest with the current state of the Java settings of a workspace project:
+     * the raw classpath entries, the output location and the compiler compliance settings.
+     *
+     * @param modelDigest the digest returned by {@link #calculate(EclipseProject, String)}
+     * @param project the workspace project
+     * @return the digest as a hex string
+     * @throws CoreException if the project settings can't be read
+     */
+    static String withWorkspaceState(String modelDigest, IProject project) throws CoreException {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, modelDigest);
+        boolean javaProject = project.hasNature(JavaCore.NATURE_ID);
+        hasher.putBoolean(javaProject);
+        if (javaProject) {
+            IJavaProject javaModel = JavaCore.create(project);
+            // only the kind and path of the entries are relevant, other configurators may adjust the attributes
+            IClasspathEntry[] rawClasspath = javaModel.getRawClasspath();
+            hasher.putInt(rawClasspath.length);
+            for (IClasspathEntry entry : rawClasspath) {
+                hasher.putInt(entry.getEntryKind());
+                putString(hasher, entry.getPath().toPortableString());
+            }
+            putString(hasher, javaModel.getOutputLocation().toPortableString());
+            putString(hasher, javaModel.getOption(JavaCore.COMPILER_COMPLIANCE, false));
+            putString(hasher, javaModel.getOption(JavaCore.COMPILER_SOURCE, false));
+            putString(hasher, javaModel.getOption(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, false));
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putScript(Hasher hasher, GradleScript script) {
+        putFile(hasher, script != null ? script.getSourceFile() : null);
+    }
+
+    private static void putLinkedResources(Hasher hasher, Collection<? extends EclipseLinkedResource> linkedResources) {
+        hasher.putInt(linkedResources.size());
+        for (EclipseLinkedResource linkedResource : linkedResources) {
+            putString(hasher, linkedResource.getName());
+            putString(hasher, linkedResource.getType());
+            putString(hasher, linkedResource.getLocation());
+            putString(hasher, linkedResource.getLocationUri());
+        }
+    }
+
+    private static void putNatures(Hasher hasher, Collection<? extends EclipseProjectNature> natures) {
+        hasher.putInt(natures.size());
+        for (EclipseProjectNature nature : natures) {
+            putString(hasher, nature.getId());
+        }
+    }
+
+    private static void putBuildCommands(Hasher hasher, Collection<? extends EclipseBuildCommand> buildCommands) {
+        hasher.putInt(buildCommands.size());
+        for (EclipseBuildCommand buildCommand : buildCommands) {
+            putString(hasher, buildCommand.getName());
+            putMap(hasher, buildCommand.getArguments());
+        }
+    }
+
+    private static void putSourceSettings(Hasher hasher, EclipseJavaSourceSettings sourceSettings) {
+        putString(hasher, String.valueOf(sourceSettings.getSourceLanguageLevel()));
+        putString(hasher, String.valueOf(sourceSettings.getTargetBytecodeVersion()));
+        putString(hasher, String.valueOf(sourceSettings.getJdk().getJavaVersion()));
+        putFile(hasher, sourceSettings.getJdk().getJavaHome());
+    }
+
+    private static void putSourceDirectories(Hasher hasher, Collection<? extends EclipseSourceDirectory> sourceDirectories) {
+        hasher.putInt(sourceDirectories.size());
+        for (EclipseSourceDirectory sourceDirectory : sourceDirectories) {
+            putString(hasher, sourceDirectory.getPath());
+            putFile(hasher, sourceDirectory.getDirectory());
+            putString(hasher, sourceDirectory.getOutput());
+            putStrings(hasher, sourceDirectory.getIncludes());
+            putStrings(hasher, sourceDirectory.getExcludes());
+            putClasspathEntry(hasher, sourceDirectory);
+        }
+    }
+
+    private static void putExternalDependencies(Hasher hasher, Collection<? extends EclipseExternalDependency> dependencies) {
+        hasher.putInt(dependencies.size());
+        for (EclipseExternalDependency dependency : dependencies) {
+            // the classpath container updater checks the files on the disk
+            File file = dependency.getFile();
+            putFile(hasher, file);
+            hasher.putBoolean(file.exists());
+            hasher.putBoolean(file.isDirectory());
+            putFile(hasher, dependency.getSource());
+            hasher.putBoolean(dependency.isExported());
+            putClasspathEntry(hasher, dependency);
+        }
+    }
+
+    private static void putProjectDependencies(Hasher hasher, Collection<? extends EclipseProjectDependency> dependencies) {
+        hasher.putInt(dependencies.size());
+        for (EclipseProjectDependency dependency : dependencies) {
+            putString(hasher, dependency.getPath());
+            hasher.putBoolean(dependency.isExported());
+            putClasspathEntry(hasher, dependency);
+        }
+    }
+
+    private static void putClasspathContainers(Hasher hasher, Collection<? extends EclipseClasspathContainer> containers) {
+        hasher.putInt(containers.size());
+        for (EclipseClasspathContainer container : containers) {
+            putString(hasher, container.getPath());
+            hasher.putBoolean(container.isExported());
+            putClasspathEntry(hasher, container);
+        }
+    }
+
+    private static void putClasspathEntry(Hasher hasher, EclipseClasspathEntry entry) {
+        hasher.putInt(entry.getAccessRules().size());
+        for (AccessRule rule : entry.getAccessRules()) {
+            hasher.putInt(rule.getKind());
+            putString(hasher, rule.getPattern());
+        }
+        hasher.putInt(entry.getClasspathAttributes().size());
+        for (ClasspathAttribute attribute : entry.getClasspathAttributes()) {
+            putString(hasher, attribute.getName());
+            putString(hasher, attribute.getValue());
+        }
+    }
+
+    private static void putMap(Hasher hasher, Map<String, String> map) {
+        hasher.putInt(map.size());
+        for (String key : new TreeSet<>(map.keySet())) {
+            putString(hasher, key);
+            putString(hasher, map.get(key));
+        }
+    }
+
+    private static void putStrings(Hasher hasher, Collection<String> values) {
+        hasher.putInt(values.size());
+        for (String value : values) {
+            putString(hasher, value);
+        }
+    }
+
+    private static void putFile(Hasher hasher, File file) {
+        putString(hasher, file != null ? file.getAbsolutePath() : null);
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        if (value == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(value.length());
+            hasher.putString(value, Charsets.UTF_8);
+        }
+    }
+}
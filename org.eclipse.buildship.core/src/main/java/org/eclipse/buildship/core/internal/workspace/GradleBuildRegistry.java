@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+import org.eclipse.buildship.core.internal.configuration.ConfigurationChangedEvent;
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNatureConfiguredEvent;
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNatureDeconfiguredEvent;
+import org.eclipse.buildship.core.internal.configuration.ProjectConfiguration;
+import org.eclipse.buildship.core.internal.event.Event;
+import org.eclipse.buildship.core.internal.event.EventListener;
+
+/**
+ * Maps the Gradle projects of the workspace to the configuration of the builds they belong to.
+ * <p/>
+ * The registry is built on the first lookup. The project events and the Gradle nature events mark
+ * the affected projects stale, and their configurations are reloaded on the next lookup. A
+ * {@link ConfigurationChangedEvent} marks the named project stale, along with the other projects
+ * of the build if the project is a root project, or all projects of the named build. Only a change
+ * of the workspace configuration causes the registry to be rebuilt. The lookups are constant-time
+ * while the workspace doesn't change.
+ * <p/>
+ * The registry is only used while it is registered in the {@link CorePlugin#listenerRegistry()}.
+ */
+final class GradleBuildRegistry implements EventListener {
+
+    private final Map<IProject, BuildConfiguration> buildConfigurations = new HashMap<>();
+    private final Set<IProject> staleProjects = new HashSet<>();
+    private ImmutableSet<BuildConfiguration> distinctBuildConfigurations = ImmutableSet.of();
+    private boolean initialized;
+    private volatile boolean registered;
+
+    void register() {
+        CorePlugin.listenerRegistry().addEventListener(this);
+        this.registered = true;
+    }
+
+    synchronized void unregister() {
+        CorePlugin.listenerRegistry().removeEventListener(this);
+        this.registered = false;
+        clear();
+    }
+
+    boolean isRegistered() {
+        return this.registered;
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ProjectMovedEvent) {
+            ProjectMovedEvent movedEvent = (ProjectMovedEvent) event;
+            IProject project = movedEvent.getProject();
+            projectChanged(project.getWorkspace().getRoot().getProject(movedEvent.getPreviousName()));
+            projectChanged(project);
+        } else if (event instanceof BaseProjectChangedEvent) {
+            projectChanged(((BaseProjectChangedEvent) event).getProject());
+        } else if (event instanceof GradleNatureAddedEvent) {
+            projectChanged(((GradleNatureAddedEvent) event).getProject());
+        } else if (event instanceof GradleProjectNatureConfiguredEvent) {
+            projectChanged(((GradleProjectNatureConfiguredEvent) event).getProject());
+        } else if (event instanceof GradleProjectNatureDeconfiguredEvent) {
+            projectChanged(((GradleProjectNatureDeconfiguredEvent) event).getProject());
+        } else if (event instanceof ConfigurationChangedEvent) {
+            configurationChanged((ConfigurationChangedEvent) event);
+        }
+    }
+
+    synchronized void projectChanged(IProject project) {
+        if (this.initialized) {
+            this.staleProjects.add(project);
+        }
+    }
+
+    private synchronized void configurationChanged(ConfigurationChangedEvent event) {
+        if (event.getProject().isPresent()) {
+            IProject project = event.getProject().get();
+            projectChanged(project);
+            // the preferences of a root project contain the configuration of the whole build
+            IPath location = project.getLocation();
+            if (location != null) {
+                buildChanged(location.toFile());
+            }
+        } else if (event.getRootProjectDirectory().isPresent()) {
+            buildChanged(event.getRootProjectDirectory().get());
+        } else {
+            invalidate();
+        }
+    }
+
+    private void buildChanged(File rootProjectDirectory) {
+        if (this.initialized) {
+            File directory = canonicalize(rootProjectDirectory);
+            for (Map.Entry<IProject, BuildConfiguration> entry : this.buildConfigurations.entrySet()) {
+                if (entry.getValue().getRootProjectDirectory().equals(directory)) {
+                    this.staleProjects.add(entry.getKey());
+                }
+            }
+        }
+    }
+
+    synchronized void invalidate() {
+        clear();
+    }
+
+    /**
+     * Returns the configurations of the builds having at least one project in the workspace.
+     *
+     * @return the distinct build configurations
+     */
+    synchronized Set<BuildConfiguration> getBuildConfigurations() {
+        refresh();
+        return this.distinctBuildConfigurations;
+    }
+
+    /**
+     * Returns the configuration of the build the target project belongs to.
+     *
+     * @param project the target project
+     * @return the build configuration or {@code null} if the project is not part of a Gradle build
+     */
+    synchronized BuildConfiguration getBuildConfiguration(IProject project) {
+        // the nature can be removed or the project can be closed before the events arrive
+        if (!GradleProjectNature.isPresentOn(project)) {
+            return null;
+        }
+
+        refresh();
+        BuildConfiguration result = this.buildConfigurations.get(project);
+        if (result == null && add(project)) {
+            // the resource change events are deferred until the enclosing workspace operation finishes
+            result = this.buildConfigurations.get(project);
+            this.distinctBuildConfigurations = ImmutableSet.copyOf(this.buildConfigurations.values());
+        }
+        return result;
+    }
+
+    private void refresh() {
+        if (!this.initialized) {
+            for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+                add(project);
+            }
+            this.initialized = true;
+        } else if (!this.staleProjects.isEmpty()) {
+            for (IProject project : this.staleProjects) {
+                this.buildConfigurations.remove(project);
+                add(project);
+            }
+        } else {
+            return;
+        }
+        this.staleProjects.clear();
+        this.distinctBuildConfigurations = ImmutableSet.copyOf(this.buildConfigurations.values());
+    }
+
+    private boolean add(IProject project) {
+        if (GradleProjectNature.isPresentOn(project)) {
+            ProjectConfiguration projectConfiguration = CorePlugin.configurationManager().tryLoadProjectConfiguration(project);
+            if (projectConfiguration != null) {
+                this.buildConfigurations.put(project, projectConfiguration.getBuildConfiguration());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static File canonicalize(File file) {
+        // the build configurations hold canonical root project directories
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file;
+        }
+    }
+
+    private void clear() {
+        this.buildConfigurations.clear();
+        this.staleProjects.clear();
+        this.distinctBuildConfigurations = ImmutableSet.of();
+        this.initialized = false;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import org.eclipse.buildship.core.GradleBuild;
+import org.eclipse.buildship.core.internal.event.Event;
+
+/**
+ * Event raised when the synchronization of a Gradle build finished, regardless of its result.
+ */
+public final class GradleBuildSynchronizedEvent implements Event {
+
+    private final GradleBuild gradleBuild;
+
+    public GradleBuildSynchronizedEvent(GradleBuild gradleBuild) {
+        this.gradleBuild = gradleBuild;
+    }
+
+    public GradleBuild getGradleBuild() {
+        return this.gradleBuild;
+    }
+}
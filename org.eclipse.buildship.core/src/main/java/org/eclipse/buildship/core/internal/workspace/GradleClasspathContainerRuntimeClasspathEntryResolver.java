@@ -8,10 +8,15 @@
 
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 
 import org.eclipse.core.resources.IProject;
@@ -28,11 +33,15 @@ import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
 
 import org.eclipse.buildship.core.internal.launch.GradleClasspathProvider;
-import org.eclipse.buildship.core.internal.launch.LaunchConfigurationScope;
+import org.eclipse.buildship.core.internal.launch.LaunchClasspathContext;
 
 /**
  * {@link IRuntimeClasspathEntryResolver} implementation to resolve Gradle classpath container
  * entries.
+ * <p/>
+ * The entries contributed by the referenced projects are collected transitively. The traversal
+ * and the entries of each container are memoized in the {@link LaunchClasspathContext} of the
+ * launch being resolved.
  *
  * @author Donat Csikos
  */
@@ -43,56 +52,91 @@ public final class GradleClasspathContainerRuntimeClasspathEntryResolver impleme
         if (entry == null || entry.getJavaProject() == null) {
             return new IRuntimeClasspathEntry[0];
         }
-        LaunchConfigurationScope configurationScopes = LaunchConfigurationScope.from(configuration);
-        return resolveRuntimeClasspathEntry(entry, entry.getJavaProject(), configurationScopes);
+        return resolveRuntimeClasspathEntry(entry, entry.getJavaProject(), LaunchClasspathContext.current(configuration));
     }
 
     @Override
     public IRuntimeClasspathEntry[] resolveRuntimeClasspathEntry(IRuntimeClasspathEntry entry, IJavaProject project) throws CoreException {
-        return resolveRuntimeClasspathEntry(entry, project, LaunchConfigurationScope.INCLUDE_ALL);
+        return resolveRuntimeClasspathEntry(entry, project, LaunchClasspathContext.withoutLaunchConfiguration());
     }
 
-    private IRuntimeClasspathEntry[] resolveRuntimeClasspathEntry(IRuntimeClasspathEntry entry, IJavaProject project, LaunchConfigurationScope configurationScopes) throws CoreException {
+    private IRuntimeClasspathEntry[] resolveRuntimeClasspathEntry(IRuntimeClasspathEntry entry, IJavaProject project, LaunchClasspathContext context) throws CoreException {
         if (entry.getType() != IRuntimeClasspathEntry.CONTAINER || !entry.getPath().equals(GradleClasspathContainer.CONTAINER_PATH)) {
             return new IRuntimeClasspathEntry[0];
         }
-        return collectContainerRuntimeClasspathIfPresent(project, configurationScopes);
+        return collectContainerRuntimeClasspathIfPresent(project, context);
     }
 
-    private IRuntimeClasspathEntry[] collectContainerRuntimeClasspathIfPresent(IJavaProject project, LaunchConfigurationScope configurationScopes) throws CoreException {
+    private IRuntimeClasspathEntry[] collectContainerRuntimeClasspathIfPresent(IJavaProject project, LaunchClasspathContext context) throws CoreException {
         List<IRuntimeClasspathEntry> result = Lists.newArrayList();
-        collectContainerRuntimeClasspathIfPresent(project, result, false, configurationScopes);
+        for (IClasspathEntry cpe : collectContainerClasspath(project, context)) {
+            if (cpe.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+                result.add(JavaRuntime.newArchiveRuntimeClasspathEntry(cpe.getPath()));
+            } else {
+                IJavaProject dependencyProject = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(cpe.getPath().segment(0)));
+                IRuntimeClasspathEntry projectRuntimeEntry = JavaRuntime.newProjectRuntimeClasspathEntry(dependencyProject);
+                // add the project entry itself so that the source lookup can find the classes
+                // see https://github.com/eclipse/buildship/issues/383
+                result.add(projectRuntimeEntry);
+                Collections.addAll(result, GradleClasspathProvider.resolveOutputLocations(projectRuntimeEntry, context.getOutputLocations(dependencyProject)));
+            }
+        }
         return result.toArray(new IRuntimeClasspathEntry[result.size()]);
     }
 
-    private void collectContainerRuntimeClasspathIfPresent(IJavaProject project, List<IRuntimeClasspathEntry> result, boolean includeExportedEntriesOnly,
-            LaunchConfigurationScope configurationScopes) throws CoreException {
-        IClasspathContainer container = JavaCore.getClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, project);
-        if (container != null) {
-            collectContainerRuntimeClasspath(container, result, includeExportedEntriesOnly, configurationScopes);
+    /*
+     * Returns the library and project entries contributed by the Gradle classpath container of the
+     * project and, transitively, by the containers of the referenced projects. Each project is
+     * visited once, so shared dependencies are only traversed once and dependency cycles terminate.
+     */
+    private List<IClasspathEntry> collectContainerClasspath(IJavaProject project, LaunchClasspathContext context) throws CoreException {
+        return context.get(Arrays.asList("runtimeClasspath", project), () -> {
+            Set<IClasspathEntry> result = new LinkedHashSet<>();
+            Set<IJavaProject> visited = new HashSet<>();
+            visited.add(project);
+            collectContainerClasspath(project, false, result, visited, context);
+            return ImmutableList.copyOf(result);
+        });
+    }
+
+    private void collectContainerClasspath(IJavaProject project, boolean includeExportedEntriesOnly, Set<IClasspathEntry> result, Set<IJavaProject> visited,
+            LaunchClasspathContext context) throws CoreException {
+        for (IClasspathEntry cpe : getContainerEntries(project, includeExportedEntriesOnly, context)) {
+            if (cpe.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+                result.add(cpe);
+            } else {
+                IJavaProject dependencyProject = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(cpe.getPath().segment(0)));
+                if (visited.add(dependencyProject)) {
+                    result.add(cpe);
+                    collectContainerClasspath(dependencyProject, true, result, visited, context);
+                }
+            }
         }
     }
 
-    private void collectContainerRuntimeClasspath(IClasspathContainer container, List<IRuntimeClasspathEntry> result, boolean includeExportedEntriesOnly,
-            LaunchConfigurationScope configurationScopes) throws CoreException {
-        for (final IClasspathEntry cpe : container.getClasspathEntries()) {
-            if (!includeExportedEntriesOnly || cpe.isExported()) {
-                if (cpe.getEntryKind() == IClasspathEntry.CPE_LIBRARY && configurationScopes.isEntryIncluded(cpe)) {
-                    result.add(JavaRuntime.newArchiveRuntimeClasspathEntry(cpe.getPath()));
-                } else if (cpe.getEntryKind() == IClasspathEntry.CPE_PROJECT) {
-                    Optional<IProject> candidate = findAccessibleJavaProject(cpe.getPath().segment(0));
-                    if (candidate.isPresent()) {
-                        IJavaProject dependencyProject = JavaCore.create(candidate.get());
-                        IRuntimeClasspathEntry projectRuntimeEntry = JavaRuntime.newProjectRuntimeClasspathEntry(dependencyProject);
-                        // add the project entry itself so that the source lookup can find the classes
-                        // see https://github.com/eclipse/buildship/issues/383
-                        result.add(projectRuntimeEntry);
-                        Collections.addAll(result, GradleClasspathProvider.resolveOutputLocations(projectRuntimeEntry, dependencyProject, configurationScopes));
-                        collectContainerRuntimeClasspathIfPresent(dependencyProject, result, true, configurationScopes);
+    /*
+     * Returns the library entries in the current scope and the accessible project entries of a
+     * single Gradle classpath container.
+     */
+    private List<IClasspathEntry> getContainerEntries(IJavaProject project, boolean includeExportedEntriesOnly, LaunchClasspathContext context) throws CoreException {
+        return context.get(Arrays.asList("containerEntries", project, includeExportedEntriesOnly), () -> {
+            IClasspathContainer container = JavaCore.getClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, project);
+            if (container == null) {
+                return ImmutableList.of();
+            }
+
+            ImmutableList.Builder<IClasspathEntry> result = ImmutableList.builder();
+            for (IClasspathEntry cpe : container.getClasspathEntries()) {
+                if (!includeExportedEntriesOnly || cpe.isExported()) {
+                    if (cpe.getEntryKind() == IClasspathEntry.CPE_LIBRARY && context.getScope().isEntryIncluded(cpe)) {
+                        result.add(cpe);
+                    } else if (cpe.getEntryKind() == IClasspathEntry.CPE_PROJECT && findAccessibleJavaProject(cpe.getPath().segment(0)).isPresent()) {
+                        result.add(cpe);
                     }
                 }
             }
-        }
+            return result.build();
+        });
     }
 
     private static Optional<IProject> findAccessibleJavaProject(String name) {
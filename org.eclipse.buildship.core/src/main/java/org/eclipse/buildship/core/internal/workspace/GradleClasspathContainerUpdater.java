@@ -15,7 +15,6 @@ package org.eclipse.buildship.core.internal.workspace;
 import java.io.File;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.gradle.tooling.model.eclipse.EclipseExternalDependency;
 import org.gradle.tooling.model.eclipse.EclipseProject;
@@ -27,6 +26,7 @@ import com.google.common.collect.ImmutableList.Builder;
 import com.google.common.collect.Maps;
 
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
@@ -48,8 +48,11 @@ import org.eclipse.buildship.core.internal.util.classpath.ClasspathUtils;
  * Updates the classpath container of the target project.
  * <p/>
  * The update is triggered via
- * {@link #updateFromModel(IJavaProject, EclipseProject, Set, IProgressMonitor)}. The method
- * executes synchronously and unprotected, without thread synchronization or job scheduling.
+ * {@link #updateFromModel(IJavaProject, EclipseProject, Iterable, PersistentModelBuilder, IProgressMonitor)}.
+ * The method executes synchronously and unprotected, without thread synchronization or job
+ * scheduling. The synchronization uses
+ * {@link #collectFromModel(IJavaProject, EclipseProject, Iterable, PersistentModelBuilder, ClasspathContainerBatch)}
+ * instead to set the containers of all projects at once.
  * <p/>
  * The update logic composes a new classpath container containing all project and external
  * dependencies defined in the Gradle model. At the end of the execution the old classpath container
@@ -75,9 +78,10 @@ final class GradleClasspathContainerUpdater {
         }
     }
 
-    private void updateClasspathContainer(PersistentModelBuilder persistentModel, IProgressMonitor monitor) throws JavaModelException {
+    private void updateClasspathContainer(PersistentModelBuilder persistentModel, ClasspathContainerBatch batch) {
         ImmutableList<IClasspathEntry> containerEntries = collectClasspathContainerEntries();
-        setClasspathContainer(this.eclipseProject, containerEntries, monitor);
+        traceClasspathEntries(this.eclipseProject, containerEntries);
+        batch.add(this.eclipseProject, containerEntries);
         persistentModel.classpath(containerEntries);
     }
 
@@ -150,9 +154,20 @@ final class GradleClasspathContainerUpdater {
      * restarted.
      */
     public static void updateFromModel(IJavaProject eclipseProject, EclipseProject gradleProject, Iterable<EclipseProject> allGradleProjects, PersistentModelBuilder persistentModel,
-            IProgressMonitor monitor) throws JavaModelException {
+            IProgressMonitor monitor) throws CoreException {
+        ClasspathContainerBatch batch = new ClasspathContainerBatch();
+        collectFromModel(eclipseProject, gradleProject, allGradleProjects, persistentModel, batch);
+        batch.apply(monitor);
+    }
+
+    /**
+     * Calculates the classpath container of the target project based on the given Gradle model
+     * and adds it to the batch. The container is set when the batch is applied.
+     */
+    public static void collectFromModel(IJavaProject eclipseProject, EclipseProject gradleProject, Iterable<EclipseProject> allGradleProjects, PersistentModelBuilder persistentModel,
+            ClasspathContainerBatch batch) {
         GradleClasspathContainerUpdater updater = new GradleClasspathContainerUpdater(eclipseProject, gradleProject, allGradleProjects);
-        updater.updateClasspathContainer(persistentModel, monitor);
+        updater.updateClasspathContainer(persistentModel, batch);
     }
 
     /**
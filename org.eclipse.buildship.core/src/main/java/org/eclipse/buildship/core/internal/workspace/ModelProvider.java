@@ -46,8 +46,17 @@ public interface ModelProvider {
 
     /**
      * Queries the {@link EclipseProject} model and executes the synchronization tasks in the same Tooling API query.
+     * <p/>
+     * The result of the query is stored on the disk. If the strategy is not
+     * {@link FetchStrategy#FORCE_RELOAD} and the build inputs didn't change since the last query,
+     * the stored models are returned without invoking Gradle and without executing the
+     * synchronization tasks.
      *
+     * @param strategy the fetch strategy, must not be {@link FetchStrategy#FROM_CACHE_ONLY}
+     * @param tokenSource the cancellation token source
+     * @param monitor the monitor to report the progress on
      * @return the returned models
+     * @throws IllegalArgumentException if the strategy is {@link FetchStrategy#FROM_CACHE_ONLY}
      */
-    Collection<EclipseProject> fetchEclipseProjectAndRunSyncTasks(CancellationTokenSource tokenSource, IProgressMonitor monitor);
+    Collection<EclipseProject> fetchEclipseProjectAndRunSyncTasks(FetchStrategy strategy, CancellationTokenSource tokenSource, IProgressMonitor monitor);
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.gradle.tooling.model.eclipse.EclipseProject;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+import org.eclipse.buildship.core.internal.util.gradle.HierarchicalElementUtils;
+import org.eclipse.buildship.core.internal.util.gradle.ModelSnapshots;
+
+/**
+ * Stores the {@link EclipseProject} models of a Gradle build in the plugin state location along with
+ * the {@link BuildInputsFingerprint} of the build at the time of the model fetch.
+ * <p/>
+ * As long as the fingerprint doesn't change, the stored models can be used for synchronization
+ * without invoking Gradle.
+ */
+final class PersistentEclipseModelCache {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final BuildConfiguration buildConfig;
+
+    PersistentEclipseModelCache(BuildConfiguration buildConfig) {
+        this.buildConfig = buildConfig;
+    }
+
+    /**
+     * Returns the stored models if the build inputs didn't change since they were saved.
+     *
+     * @return the models or {@code null} if no up-to-date models are available
+     */
+    Collection<EclipseProject> load() {
+        File cacheFile = cacheFile();
+        if (!cacheFile.exists()) {
+            return null;
+        }
+
+        try (ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            List<File> projectDirectories = (List<File>) input.readObject();
+            String fingerprint = input.readUTF();
+            if (!fingerprint.equals(BuildInputsFingerprint.calculate(this.buildConfig, projectDirectories))) {
+                return null;
+            }
+            ModelSnapshots.Snapshot snapshot = (ModelSnapshots.Snapshot) input.readObject();
+            return ModelSnapshots.restore(snapshot, EclipseProject.class.getClassLoader());
+        } catch (Exception e) {
+            CorePlugin.logger().warn("Cannot load cached models for build " + this.buildConfig.getRootProjectDirectory(), e);
+            invalidate();
+            return null;
+        }
+    }
+
+    /**
+     * Stores the models along with the current fingerprint of the build inputs.
+     *
+     * @param models the models to store
+     */
+    void save(Collection<EclipseProject> models) {
+        List<File> projectDirectories = new ArrayList<>();
+        for (EclipseProject model : models) {
+            for (EclipseProject project : HierarchicalElementUtils.getAll(model)) {
+                projectDirectories.add(project.getProjectDirectory());
+            }
+        }
+
+        File cacheFile = cacheFile();
+        File tempFile = new File(cacheFile.getPath() + ".tmp");
+        try {
+            Files.createParentDirs(cacheFile);
+            try (ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeObject(projectDirectories);
+                output.writeUTF(BuildInputsFingerprint.calculate(this.buildConfig, projectDirectories));
+                output.writeObject(ModelSnapshots.capture(models));
+            }
+            java.nio.file.Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            CorePlugin.logger().warn("Cannot save cached models for build " + this.buildConfig.getRootProjectDirectory(), e);
+            tempFile.delete();
+        }
+    }
+
+    /**
+     * Removes the stored models.
+     */
+    void invalidate() {
+        cacheFile().delete();
+    }
+
+    private File cacheFile() {
+        String rootDirHash = Hashing.sha256().hashString(this.buildConfig.getRootProjectDirectory().getAbsolutePath(), Charsets.UTF_8).toString();
+        return CorePlugin.getInstance().getStateLocation().append("model-cache").append(rootDirHash).toFile();
+    }
+}
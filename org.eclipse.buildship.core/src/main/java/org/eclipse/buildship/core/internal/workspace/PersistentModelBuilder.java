@@ -38,6 +38,7 @@ public final class PersistentModelBuilder {
     private Collection<String> managedNatures;
     private Collection<ICommand> managedBuilders;
     private boolean hasAutoBuildTasks;
+    private String modelDigest;
 
     public PersistentModelBuilder(PersistentModel previous) {
         this.previous = Preconditions.checkNotNull(previous);
@@ -50,6 +51,7 @@ public final class PersistentModelBuilder {
             this.linkedResources = previous.getLinkedResources();
             this.managedNatures = previous.getManagedNatures();
             this.managedBuilders = previous.getManagedBuilders();
+            this.modelDigest = previous.getModelDigest();
         }
     }
 
@@ -98,11 +100,16 @@ public final class PersistentModelBuilder {
         return this;
     }
 
+    public PersistentModelBuilder modelDigest(String modelDigest) {
+        this.modelDigest = modelDigest;
+        return this;
+    }
+
     public PersistentModel getPrevious() {
         return this.previous;
     }
 
     public PersistentModel build() {
-        return new DefaultPersistentModel(this.previous.getProject(), this.buildDir, this.buildScriptPath, this.subprojectPaths, this.classpath, this.derivedResources, this.linkedResources, this.managedNatures, this.managedBuilders, this.hasAutoBuildTasks);
+        return new DefaultPersistentModel(this.previous.getProject(), this.buildDir, this.buildScriptPath, this.subprojectPaths, this.classpath, this.derivedResources, this.linkedResources, this.managedNatures, this.managedBuilders, this.hasAutoBuildTasks, this.modelDigest);
     }
 }
\ No newline at end of file
@@ -9,7 +9,10 @@
 package org.eclipse.buildship.core.internal.workspace;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.google.common.base.Optional;
 
@@ -23,6 +26,7 @@ import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.InitializationContext;
 import org.eclipse.buildship.core.ProjectContext;
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.CoreTraceScopes;
 import org.eclipse.buildship.core.internal.extension.InternalProjectConfigurator;
 import org.eclipse.buildship.core.internal.extension.ProjectConfiguratorContribution;
 import org.eclipse.buildship.core.internal.util.gradle.Pair;
@@ -30,10 +34,12 @@ import org.eclipse.buildship.core.internal.util.gradle.Pair;
 public final class ProjectConfigurators {
 
     private final InternalGradleBuild gradleBuild;
+    private final SynchronizationModels models;
     private final List<InternalProjectConfigurator> contributions;
 
-    private ProjectConfigurators(InternalGradleBuild gradleBuild, List<InternalProjectConfigurator> contributions) {
+    private ProjectConfigurators(InternalGradleBuild gradleBuild, SynchronizationModels models, List<InternalProjectConfigurator> contributions) {
         this.gradleBuild = gradleBuild;
+        this.models = models;
         this.contributions = contributions;
     }
 
@@ -41,9 +47,10 @@ public final class ProjectConfigurators {
         List<SynchronizationProblem> result = new ArrayList<>();
 
         SubMonitor progress = SubMonitor.convert(monitor);
-        progress.setWorkRemaining(this.contributions.size());
+        progress.setWorkRemaining(this.contributions.size() + 1);
+        prefetchRequiredModels(progress.newChild(1));
         for (InternalProjectConfigurator contribution : this.contributions) {
-            DefaultInitializationContext context = newInitializationContext(this.gradleBuild);
+            DefaultInitializationContext context = newInitializationContext(this.gradleBuild, this.models);
             try {
                 contribution.init(context, progress.newChild(1));
                 context.getErrors().forEach(e -> result.add(SynchronizationProblem.newError(contribution.getContributorPluginId(), markerLocation(), e.getFirst(), e.getSecond())));
@@ -56,6 +63,17 @@ public final class ProjectConfigurators {
         return result;
     }
 
+    private void prefetchRequiredModels(IProgressMonitor monitor) {
+        Set<Class<?>> modelTypes = new LinkedHashSet<>();
+        this.contributions.forEach(c -> modelTypes.addAll(c.getRequiredModelTypes()));
+        try {
+            this.models.prefetch(modelTypes, monitor);
+        } catch (Exception e) {
+            // the configurators requesting the models report the failure
+            CorePlugin.logger().trace(CoreTraceScopes.PROJECT_CONFIGURATORS, "Cannot load models required by the project configurators", e);
+        }
+    }
+
     List<SynchronizationProblem> configureConfigurators(IProject project, IProgressMonitor monitor) {
         List<SynchronizationProblem> result = new ArrayList<>();
 
@@ -94,12 +112,38 @@ public final class ProjectConfigurators {
         return result;
     }
 
-    public static ProjectConfigurators create(InternalGradleBuild gradleBuild, List<ProjectConfiguratorContribution> configurators) {
-        return new ProjectConfigurators(gradleBuild, InternalProjectConfigurator.from(configurators));
+    List<SynchronizationProblem> completeConfigurators(IProgressMonitor monitor) {
+        List<SynchronizationProblem> result = new ArrayList<>();
+
+        SubMonitor progress = SubMonitor.convert(monitor);
+        progress.setWorkRemaining(this.contributions.size());
+        for (InternalProjectConfigurator contribution : this.contributions) {
+            try {
+                contribution.complete(progress.newChild(1));
+            } catch (Exception e) {
+                result.add(SynchronizationProblem.newError(contribution.getContributorPluginId(), markerLocation(), configuratorFailedMessage(contribution, e, "complete the synchronization"), e));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of projects the configurators skipped because the projects were already
+     * up-to-date with the Gradle model.
+     *
+     * @return the number of skipped projects
+     */
+    public int getSkippedProjectCount() {
+        return this.contributions.stream().mapToInt(InternalProjectConfigurator::getSkippedProjectCount).sum();
     }
 
-    private static DefaultInitializationContext newInitializationContext(InternalGradleBuild gradleBuild) {
-        return new DefaultInitializationContext(gradleBuild);
+    public static ProjectConfigurators create(InternalGradleBuild gradleBuild, SynchronizationModels models, List<ProjectConfiguratorContribution> configurators) {
+        return new ProjectConfigurators(gradleBuild, models, InternalProjectConfigurator.from(configurators));
+    }
+
+    private static DefaultInitializationContext newInitializationContext(InternalGradleBuild gradleBuild, SynchronizationModels models) {
+        return new DefaultInitializationContext(gradleBuild, models);
     }
 
     private static DefaultProjectContext newProjectContext(IProject project) {
@@ -141,15 +185,22 @@ public final class ProjectConfigurators {
     private static class DefaultInitializationContext extends BaseContext implements InitializationContext {
 
         private final InternalGradleBuild gradleBuild;
+        private final SynchronizationModels models;
 
-        DefaultInitializationContext(InternalGradleBuild gradleBuild) {
+        DefaultInitializationContext(InternalGradleBuild gradleBuild, SynchronizationModels models) {
             this.gradleBuild = gradleBuild;
+            this.models = models;
         }
 
         @Override
         public GradleBuild getGradleBuild() {
             return this.gradleBuild;
         }
+
+        @Override
+        public <T> Collection<T> getModels(Class<T> modelType) {
+            return this.models.get(modelType);
+        }
     }
 
     private static class DefaultProjectContext extends BaseContext implements ProjectContext {
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.base.Optional;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.event.Event;
+import org.eclipse.buildship.core.internal.event.EventListener;
+
+/**
+ * Maps the location of the workspace projects to the project instances.
+ * <p/>
+ * The index is built on the first lookup and kept up-to-date with the events published by the
+ * {@link ProjectChangeListener}. The resource change events are deferred until the enclosing
+ * workspace operation finishes, therefore {@link DefaultWorkspaceOperations} also updates the index
+ * directly when it creates, includes or renames a project. Each hit is validated against the
+ * workspace; if a stale entry is found then the index is rebuilt. A miss is returned as is: projects
+ * created by other plugins within a workspace operation are only found once the resource change
+ * events are delivered.
+ * <p/>
+ * The index is only used while it is registered in the {@link CorePlugin#listenerRegistry()}.
+ */
+final class ProjectLocationIndex implements EventListener {
+
+    private final Map<File, IProject> projectsByLocation = new HashMap<>();
+    private final Map<IProject, File> locationsByProject = new HashMap<>();
+    private boolean initialized;
+    private volatile boolean registered;
+
+    void register() {
+        CorePlugin.listenerRegistry().addEventListener(this);
+        this.registered = true;
+    }
+
+    synchronized void unregister() {
+        CorePlugin.listenerRegistry().removeEventListener(this);
+        this.registered = false;
+        clear();
+    }
+
+    boolean isRegistered() {
+        return this.registered;
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ProjectCreatedEvent) {
+            projectAdded(((ProjectCreatedEvent) event).getProject());
+        } else if (event instanceof ProjectDeletedEvent) {
+            projectRemoved(((ProjectDeletedEvent) event).getProject());
+        } else if (event instanceof ProjectMovedEvent) {
+            ProjectMovedEvent movedEvent = (ProjectMovedEvent) event;
+            IProject project = movedEvent.getProject();
+            projectMoved(project.getWorkspace().getRoot().getProject(movedEvent.getPreviousName()), project);
+        } else if (event instanceof ProjectOpenedEvent || event instanceof ProjectClosedEvent) {
+            projectAdded(((BaseProjectChangedEvent) event).getProject());
+        }
+    }
+
+    synchronized Optional<IProject> findProjectByLocation(File directory) {
+        if (!this.initialized) {
+            rebuild();
+        }
+
+        IProject project = this.projectsByLocation.get(directory);
+        if (project != null && isAt(project, directory)) {
+            return Optional.of(project);
+        }
+        if (project == null) {
+            return Optional.absent();
+        }
+
+        // the workspace changed without the index being notified yet
+        rebuild();
+        return Optional.fromNullable(this.projectsByLocation.get(directory));
+    }
+
+    synchronized void projectAdded(IProject project) {
+        if (this.initialized) {
+            remove(project);
+            add(project);
+        }
+    }
+
+    synchronized void projectRemoved(IProject project) {
+        if (this.initialized) {
+            remove(project);
+        }
+    }
+
+    synchronized void projectMoved(IProject oldProject, IProject newProject) {
+        if (this.initialized) {
+            remove(oldProject);
+            remove(newProject);
+            add(newProject);
+        }
+    }
+
+    private void rebuild() {
+        clear();
+        IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+        for (IProject project : root.getProjects()) {
+            add(project);
+        }
+        this.initialized = true;
+    }
+
+    private void clear() {
+        this.projectsByLocation.clear();
+        this.locationsByProject.clear();
+        this.initialized = false;
+    }
+
+    private void add(IProject project) {
+        // since Eclipse 3.4 projects can be non-local and they could return null locations
+        // for Buildship this is not the case, Gradle projects are always available on the
+        // local file system
+        IPath location = project.exists() ? project.getLocation() : null;
+        if (location != null) {
+            File file = location.toFile();
+            this.projectsByLocation.put(file, project);
+            this.locationsByProject.put(project, file);
+        }
+    }
+
+    private void remove(IProject project) {
+        File location = this.locationsByProject.remove(project);
+        if (location != null && project.equals(this.projectsByLocation.get(location))) {
+            this.projectsByLocation.remove(location);
+        }
+    }
+
+    private static boolean isAt(IProject project, File directory) {
+        if (!project.exists()) {
+            return false;
+        }
+        IPath location = project.getLocation();
+        return location != null && location.toFile().equals(directory);
+    }
+}
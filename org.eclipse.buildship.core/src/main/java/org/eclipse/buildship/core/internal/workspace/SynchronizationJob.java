@@ -8,6 +8,8 @@
 
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.util.ArrayList;
+import java.util.List;
 
 import org.gradle.tooling.CancellationTokenSource;
 
@@ -17,7 +19,6 @@ import com.google.common.collect.ImmutableSet;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.buildship.core.GradleBuild;
@@ -30,6 +31,7 @@ public final class SynchronizationJob extends ToolingApiJob<Void> {
 
     private final Iterable<GradleBuild> gradleBuilds;
     private final NewProjectHandler newProjectHandler;
+    private final FetchStrategy fetchStrategy;
 
     public SynchronizationJob(GradleBuild gradleBuild) {
         this(NewProjectHandler.NO_OP, ImmutableList.of(gradleBuild));
@@ -40,8 +42,21 @@ public final class SynchronizationJob extends ToolingApiJob<Void> {
     }
 
     public SynchronizationJob(NewProjectHandler newProjectHandler, Iterable<GradleBuild> gradleBuilds) {
+        this(newProjectHandler, FetchStrategy.LOAD_IF_NOT_CACHED, gradleBuilds);
+    }
+
+    /**
+     * Creates a new synchronization job.
+     *
+     * @param newProjectHandler the handler for the projects not yet present in the workspace
+     * @param fetchStrategy {@link FetchStrategy#FORCE_RELOAD} to always query the models from Gradle,
+     *            any other value to reuse the stored models if the build inputs didn't change
+     * @param gradleBuilds the builds to synchronize
+     */
+    public SynchronizationJob(NewProjectHandler newProjectHandler, FetchStrategy fetchStrategy, Iterable<GradleBuild> gradleBuilds) {
         super("Synchronize Gradle projects with workspace");
         this.newProjectHandler = newProjectHandler;
+        this.fetchStrategy = fetchStrategy;
         this.gradleBuilds = ImmutableSet.copyOf(gradleBuilds);
 
         // explicitly show a dialog with the progress while the project synchronization is in process
@@ -54,13 +69,18 @@ public final class SynchronizationJob extends ToolingApiJob<Void> {
 
     @Override
     public Void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
-        final SubMonitor progress = SubMonitor.convert(monitor, ImmutableSet.copyOf(SynchronizationJob.this.gradleBuilds).size() + 1);
+        if (monitor.isCanceled()) {
+            throw new OperationCanceledException();
+        }
 
-        for (GradleBuild build : SynchronizationJob.this.gradleBuilds) {
-            if (monitor.isCanceled()) {
-                throw new OperationCanceledException();
-            }
-            SynchronizationResult result = ((DefaultGradleBuild)build).synchronize(SynchronizationJob.this.newProjectHandler, tokenSource, progress.newChild(1));
+        List<DefaultGradleBuild> builds = new ArrayList<>();
+        for (GradleBuild build : this.gradleBuilds) {
+            builds.add((DefaultGradleBuild) build);
+        }
+
+        // the models of the builds are loaded concurrently; the first failure is reported after all builds are synchronized
+        List<SynchronizationResult> results = DefaultGradleBuild.synchronize(builds, this.newProjectHandler, this.fetchStrategy, tokenSource, monitor);
+        for (SynchronizationResult result : results) {
             if (result.getStatus().getException() instanceof Exception) {
                 throw (Exception) result.getStatus().getException();
             }
@@ -78,6 +98,7 @@ public final class SynchronizationJob extends ToolingApiJob<Void> {
      * <li>A synchronizes the same Gradle builds as B</li>
      * <li>A and B have the same {@link NewProjectHandler} or B's {@link NewProjectHandler} is a
      * no-op</li>
+     * <li>A forces the model reload or B doesn't</li>
      * </ul>
      */
     @Override
@@ -91,6 +112,8 @@ public final class SynchronizationJob extends ToolingApiJob<Void> {
     }
 
     private boolean isCoveredBy(SynchronizationJob other) {
-        return Objects.equal(this.gradleBuilds, other.gradleBuilds) && (this.newProjectHandler == NewProjectHandler.NO_OP || Objects.equal(this.newProjectHandler, other.newProjectHandler));
+        return Objects.equal(this.gradleBuilds, other.gradleBuilds)
+                && (this.newProjectHandler == NewProjectHandler.NO_OP || Objects.equal(this.newProjectHandler, other.newProjectHandler))
+                && (this.fetchStrategy != FetchStrategy.FORCE_RELOAD || other.fetchStrategy == FetchStrategy.FORCE_RELOAD);
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.model.build.BuildEnvironment;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+
+import com.google.common.collect.ImmutableList;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.util.gradle.GradleVersion;
+import org.eclipse.buildship.core.internal.util.gradle.IdeFriendlyClassLoading;
+
+/**
+ * Models of the root projects of a Gradle build and its included builds, shared by the project
+ * configurators during a synchronization.
+ * <p/>
+ * The {@link EclipseProject} models are the ones loaded by the synchronization itself. The models
+ * declared by the configurators (see {@link #prefetch(Set, IProgressMonitor)}) are loaded with a
+ * single {@link CompositeModelsQuery}. Model types not declared up-front are loaded on first
+ * access.
+ */
+public final class SynchronizationModels {
+
+    private final InternalGradleBuild gradleBuild;
+    private final CancellationTokenSource tokenSource;
+    private final Map<Class<?>, Collection<?>> models = new ConcurrentHashMap<>();
+
+    public SynchronizationModels(InternalGradleBuild gradleBuild, Collection<EclipseProject> eclipseProjects, CancellationTokenSource tokenSource) {
+        this.gradleBuild = gradleBuild;
+        this.tokenSource = tokenSource;
+        this.models.put(EclipseProject.class, ImmutableList.copyOf(eclipseProjects));
+    }
+
+    /**
+     * Returns the models of the target type.
+     *
+     * @param modelType the model type
+     * @return the models for each root project, never null
+     * @throws GradlePluginsRuntimeException if the models can't be loaded
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Collection<T> get(Class<T> modelType) {
+        if (!this.models.containsKey(modelType)) {
+            try {
+                prefetch(Collections.<Class<?>>singleton(modelType), new NullProgressMonitor());
+            } catch (Exception e) {
+                throw new GradlePluginsRuntimeException(e);
+            }
+        }
+        return (Collection<T>) this.models.get(modelType);
+    }
+
+    /**
+     * Loads the models of the target types that are not yet available with a single Tooling API
+     * request.
+     *
+     * @param modelTypes the model types to load
+     * @param monitor the monitor to report progress on
+     * @throws Exception if the models can't be loaded
+     */
+    void prefetch(Set<Class<?>> modelTypes, IProgressMonitor monitor) throws Exception {
+        List<Class<?>> missingTypes = new ArrayList<>();
+        for (Class<?> modelType : modelTypes) {
+            if (!this.models.containsKey(modelType)) {
+                missingTypes.add(modelType);
+            }
+        }
+
+        if (!missingTypes.isEmpty()) {
+            Map<Class<?>, Collection<?>> fetched = this.gradleBuild.withConnection(connection -> fetch(connection, missingTypes), this.tokenSource, monitor);
+            this.models.putAll(fetched);
+        }
+    }
+
+    private static Map<Class<?>, Collection<?>> fetch(ProjectConnection connection, List<Class<?>> modelTypes) {
+        BuildEnvironment buildEnvironment = connection.getModel(BuildEnvironment.class);
+        GradleVersion gradleVersion = GradleVersion.version(buildEnvironment.getGradle().getGradleVersion());
+        boolean supportsCompositeBuilds = gradleVersion.getBaseVersion().compareTo(GradleVersion.version("3.3")) >= 0;
+
+        // the build action can only reference model types that are visible from the Tooling API class loader;
+        // custom models contributed by other plugins are queried separately for the root project
+        List<Class<?>> compositeTypes = new ArrayList<>();
+        List<Class<?>> rootTypes = new ArrayList<>();
+        for (Class<?> modelType : modelTypes) {
+            if (supportsCompositeBuilds && modelType.getClassLoader() == ProjectConnection.class.getClassLoader()) {
+                compositeTypes.add(modelType);
+            } else {
+                rootTypes.add(modelType);
+            }
+        }
+
+        Map<Class<?>, Collection<?>> result = new HashMap<>();
+        if (!compositeTypes.isEmpty()) {
+            Map<String, Collection<Object>> models = connection.action(IdeFriendlyClassLoading.loadCompositeModelsQuery(compositeTypes)).run();
+            for (Class<?> modelType : compositeTypes) {
+                Collection<Object> typeModels = models.get(modelType.getName());
+                result.put(modelType, typeModels != null ? ImmutableList.copyOf(typeModels) : ImmutableList.of());
+            }
+        }
+        for (Class<?> modelType : rootTypes) {
+            result.put(modelType, ImmutableList.of(connection.getModel(modelType)));
+        }
+        return result;
+    }
+}
@@ -16,6 +16,13 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.gradle.tooling.model.eclipse.EclipseProject;
 
@@ -24,16 +31,22 @@ import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.configuration.AdvancedPreferences;
 import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
 import org.eclipse.buildship.core.internal.configuration.ConfigurationManager;
 import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
@@ -48,15 +61,35 @@ public final class SynchronizeGradleBuildOperation {
     private final InternalGradleBuild gradleBuild;
     private final NewProjectHandler newProjectHandler;
     private final ProjectConfigurators configurators;
+    private final boolean parallel;
 
     private List<SynchronizationProblem> failures;
-
+    private List<IProject> projectsToConfigure;
 
     public SynchronizeGradleBuildOperation(Set<EclipseProject> allProjects, InternalGradleBuild gradleBuild, NewProjectHandler newProjectHandler, ProjectConfigurators configurators) {
+        this(allProjects, gradleBuild, newProjectHandler, configurators, false);
+    }
+
+    /**
+     * Creates a new synchronization operation.
+     * <p/>
+     * In parallel mode the workspace structure (project creation, renaming, Gradle nature) is
+     * updated serially under the workspace root rule and afterwards the project configurators are
+     * executed concurrently, each project on a single worker thread. The caller must not hold any
+     * scheduling rule when executing a parallel operation.
+     *
+     * @param allProjects the Gradle projects to synchronize
+     * @param gradleBuild the target Gradle build
+     * @param newProjectHandler the handler for the projects not yet present in the workspace
+     * @param configurators the project configurators to execute
+     * @param parallel whether to configure the projects concurrently
+     */
+    public SynchronizeGradleBuildOperation(Set<EclipseProject> allProjects, InternalGradleBuild gradleBuild, NewProjectHandler newProjectHandler, ProjectConfigurators configurators, boolean parallel) {
         this.allProjects = allProjects;
         this.gradleBuild = gradleBuild;
         this.newProjectHandler = newProjectHandler;
         this.configurators = configurators;
+        this.parallel = parallel;
     }
 
     public List<SynchronizationProblem> run(IProgressMonitor monitor) throws CoreException {
@@ -64,6 +97,7 @@ public final class SynchronizeGradleBuildOperation {
         progress.setTaskName(String.format("Synchronizing Gradle build at %s", this.gradleBuild.getBuildConfig().getRootProjectDirectory()));
 
         this.failures = new ArrayList<>();
+        this.projectsToConfigure = new ArrayList<>();
         synchronizeProjectsWithWorkspace(progress);
         return this.failures;
     }
@@ -71,23 +105,130 @@ public final class SynchronizeGradleBuildOperation {
     private void synchronizeProjectsWithWorkspace(SubMonitor progress) throws CoreException {
         // collect Gradle projects and Eclipse workspace projects to sync
         List<IProject> decoupledWorkspaceProjects = getOpenWorkspaceProjectsRemovedFromGradleBuild();
-        progress.setWorkRemaining(decoupledWorkspaceProjects.size() + this.allProjects.size() + 1);
+        progress.setWorkRemaining(decoupledWorkspaceProjects.size() + this.allProjects.size() + (this.parallel ? this.allProjects.size() : 0) + 1);
 
         this.failures.addAll(this.configurators.initConfigurators(progress.newChild(1)));
 
-        // uncouple the open workspace projects that do not have a corresponding Gradle project anymore
-        for (IProject project : decoupledWorkspaceProjects) {
-            uncoupleWorkspaceProjectFromGradle(project, progress.newChild(1));
+        try {
+            // uncouple the open workspace projects that do not have a corresponding Gradle project anymore
+            for (final IProject project : decoupledWorkspaceProjects) {
+                ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
+                    @Override
+                    public void run(IProgressMonitor monitor) throws CoreException {
+                        uncoupleWorkspaceProjectFromGradle(project, SubMonitor.convert(monitor));
+                    }
+                }, progress.newChild(1));
+            }
+
+            // synchronize the Gradle projects with their corresponding workspace projects
+            for (final EclipseProject gradleProject : this.allProjects) {
+                ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
+                    @Override
+                    public void run(IProgressMonitor monitor) throws CoreException {
+                        synchronizeGradleProjectWithWorkspaceProject(gradleProject, SubMonitor.convert(monitor));
+                    }
+                }, progress.newChild(1));
+            }
+
+            if (this.parallel) {
+                configureProjectsInParallel(progress.newChild(this.allProjects.size()));
+            }
+        } finally {
+            // the configurators defer the classpath container updates to set them in one batch; the containers are
+            // set even if the synchronization fails or is cancelled as the persisted models are already updated
+            this.failures.addAll(this.configurators.completeConfigurators(new NullProgressMonitor()));
+        }
+    }
+
+    private void configureProjectsInParallel(SubMonitor progress) throws CoreException {
+        progress.setWorkRemaining(this.projectsToConfigure.size());
+        if (this.projectsToConfigure.isEmpty()) {
+            return;
+        }
+
+        int threads = Math.min(AdvancedPreferences.getParallelSynchronizationThreads(), this.projectsToConfigure.size());
+        // cancelled if the synchronization is cancelled or fails, so that the remaining workers stop early
+        IProgressMonitor workerMonitor = new NullProgressMonitor() {
+
+            @Override
+            public boolean isCanceled() {
+                return super.isCanceled() || progress.isCanceled();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat("Buildship project configurator %d").setDaemon(true).build());
+        try {
+            CompletionService<List<SynchronizationProblem>> completionService = new ExecutorCompletionService<>(executor);
+            for (IProject project : this.projectsToConfigure) {
+                completionService.submit(() -> configureProject(project, workerMonitor));
+            }
+
+            for (int i = 0; i < this.projectsToConfigure.size(); i++) {
+                Future<List<SynchronizationProblem>> result = completionService.poll(100, TimeUnit.MILLISECONDS);
+                while (result == null) {
+                    if (progress.isCanceled()) {
+                        throw new OperationCanceledException();
+                    }
+                    result = completionService.poll(100, TimeUnit.MILLISECONDS);
+                }
+                this.failures.addAll(getResult(result));
+                progress.worked(1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationCanceledException();
+        } finally {
+            // the configurators are completed after this method returns; no worker can add to their batch afterwards
+            workerMonitor.setCanceled(true);
+            executor.shutdownNow();
+            awaitTermination(executor);
         }
+    }
 
-        // synchronize the Gradle projects with their corresponding workspace projects
-        for (final EclipseProject gradleProject : this.allProjects) {
-            ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
-                @Override
-                public void run(IProgressMonitor monitor) throws CoreException {
-                    synchronizeGradleProjectWithWorkspaceProject(gradleProject, SubMonitor.convert(monitor));
+    private static void awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    if (executor.awaitTermination(100, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
                 }
-            }, progress.newChild(1));
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private List<SynchronizationProblem> configureProject(final IProject project, IProgressMonitor monitor) throws CoreException {
+        final List<SynchronizationProblem> result = new ArrayList<>();
+        // the worker doesn't hold a scheduling rule: the resource operations executed by the configurators acquire
+        // the minimal rule they need (the project for the classpath and the source folders, the workspace root for
+        // the nature changes) and the workspace serializes them; every project is configured by a single worker
+        ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
+            @Override
+            public void run(IProgressMonitor monitor) throws CoreException {
+                result.addAll(SynchronizeGradleBuildOperation.this.configurators.configureConfigurators(project, monitor));
+            }
+        }, null, IWorkspace.AVOID_UPDATE, monitor);
+        return result;
+    }
+
+    private static List<SynchronizationProblem> getResult(Future<List<SynchronizationProblem>> result) throws CoreException, InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CoreException) {
+                throw (CoreException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new GradlePluginsRuntimeException(cause);
+            }
         }
     }
 
@@ -163,7 +304,12 @@ public final class SynchronizeGradleBuildOperation {
 
         CorePlugin.workspaceOperations().addNature(workspaceProject, GradleProjectNature.ID, progress.newChild(1));
 
-        this.failures.addAll(this.configurators.configureConfigurators(workspaceProject, progress.newChild(1)));
+        if (this.parallel) {
+            this.projectsToConfigure.add(workspaceProject);
+            progress.worked(1);
+        } else {
+            this.failures.addAll(this.configurators.configureConfigurators(workspaceProject, progress.newChild(1)));
+        }
     }
 
     private void synchronizeClosedWorkspaceProject(SubMonitor childProgress) {
@@ -0,0 +1,49 @@
+package org.eclipse.buildship.ui.internal.console
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+class ConsoleLogFileTest extends Specification {
+
+    @Rule
+    TemporaryFolder tempFolder
+
+    def "Output written to the teed streams is appended to the log file"() {
+        setup:
+        File file = tempFolder.newFile('console.log')
+        ConsoleLogFile logFile = new ConsoleLogFile(file)
+        ByteArrayOutputStream output = new ByteArrayOutputStream()
+        ByteArrayOutputStream error = new ByteArrayOutputStream()
+        OutputStream teedOutput = logFile.tee(output)
+        OutputStream teedError = logFile.tee(error)
+
+        when:
+        teedOutput.write('output\n'.bytes)
+        teedError.write('error\n'.bytes)
+        logFile.close()
+        teedOutput.write('more output\n'.bytes)
+
+        then:
+        output.toString() == 'output\nmore output\n'
+        error.toString() == 'error\n'
+        logFile.file.text == 'output\nerror\nmore output\n'
+    }
+
+    def "Deleted log file ignores further output"() {
+        setup:
+        File file = tempFolder.newFile('console.log')
+        ConsoleLogFile logFile = new ConsoleLogFile(file)
+        ByteArrayOutputStream output = new ByteArrayOutputStream()
+        OutputStream teedOutput = logFile.tee(output)
+
+        when:
+        teedOutput.write('output\n'.bytes)
+        logFile.delete()
+        teedOutput.write('more output\n'.bytes)
+
+        then:
+        output.toString() == 'output\nmore output\n'
+        !file.exists()
+    }
+}
@@ -0,0 +1,34 @@
+package org.eclipse.buildship.ui.internal.console
+
+import java.util.regex.Pattern
+
+/**
+ * Compares the time of matching the URL pattern against a whole console text with the time of
+ * matching it only against the lines accepted by the line qualifier. Not part of the test suite;
+ * run the main method and compare the printed times.
+ */
+class UrlPatternMatchListenerBenchmark {
+
+    private static final int LINE_COUNT = 200000
+    private static final int ITERATIONS = 10
+
+    static void main(String[] args) {
+        List<String> lines = (1..LINE_COUNT).collect { int index ->
+            index % 100 == 0 ? "Download https://repo.maven.apache.org/maven2/org/example/lib/$index/lib-${index}.jar" : "> Task :project$index:compileJava UP-TO-DATE"
+        }
+        String text = lines.join('\n')
+        UrlPatternMatchListener listener = new UrlPatternMatchListener()
+        Pattern qualifier = Pattern.compile(listener.lineQualifier)
+        Pattern pattern = Pattern.compile(listener.pattern, listener.compilerFlags)
+
+        ITERATIONS.times { int iteration ->
+            long start = System.nanoTime()
+            int urlCount = UrlPatternMatchListenerTest.findAll(pattern, text).size()
+            long unfilteredEnd = System.nanoTime()
+            int prefilteredUrlCount = lines.findAll { qualifier.matcher(it).find() }.collectMany { UrlPatternMatchListenerTest.findAll(pattern, it) }.size()
+            long prefilteredEnd = System.nanoTime()
+            println(String.format('iteration %d: whole text %d ms (%d URLs), prefiltered lines %d ms (%d URLs)', iteration + 1,
+                (unfilteredEnd - start).intdiv(1000000), urlCount, (prefilteredEnd - unfilteredEnd).intdiv(1000000), prefilteredUrlCount))
+        }
+    }
+}
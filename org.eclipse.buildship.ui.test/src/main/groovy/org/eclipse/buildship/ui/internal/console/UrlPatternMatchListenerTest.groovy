@@ -0,0 +1,75 @@
+package org.eclipse.buildship.ui.internal.console
+
+import java.util.regex.Matcher
+import java.util.regex.Pattern
+
+import spock.lang.Specification
+
+import org.eclipse.buildship.core.internal.util.string.PatternUtils
+
+class UrlPatternMatchListenerTest extends Specification {
+
+    def "Build scan URLs are recognized after the publishing message"(String precedingText) {
+        expect:
+        UrlPatternMatchListener.isBuildScanUrl(precedingText)
+
+        where:
+        precedingText << [
+            'Publishing build scan...\n',
+            'BUILD SUCCESSFUL in 1s\nPublishing build scan... ',
+            'Publishing build information...\n  ',
+        ]
+    }
+
+    def "Other URLs are not build scan URLs"(String precedingText) {
+        expect:
+        !UrlPatternMatchListener.isBuildScanUrl(precedingText)
+
+        where:
+        precedingText << [
+            '',
+            'Download ',
+            'Publishing build scan...\nDownload ',
+        ]
+    }
+
+    def "Line qualifier matches every line containing a URL"(String line) {
+        expect:
+        Pattern.compile(PatternUtils.WEB_URL_PATTERN).matcher(line).find()
+        Pattern.compile(new UrlPatternMatchListener().lineQualifier).matcher(line).find()
+
+        where:
+        line << [
+            'http://foo.com/blah_blah',
+            'Download HTTPS://repo.maven.apache.org/maven2/junit/junit/4.12/junit-4.12.pom',
+            'See https://gradle.com/s/ezkpjhbwmu3t4',
+        ]
+    }
+
+    def "Prefiltered matching finds the same URLs as the matching of the whole text"() {
+        setup:
+        List<String> lines = (1..1000).collect { int index ->
+            index % 100 == 0 ? "Download https://repo.maven.apache.org/maven2/org/example/lib/$index/lib-${index}.jar" : "> Task :project$index:compileJava UP-TO-DATE"
+        }
+        UrlPatternMatchListener listener = new UrlPatternMatchListener()
+        Pattern qualifier = Pattern.compile(listener.lineQualifier)
+        Pattern pattern = Pattern.compile(listener.pattern, listener.compilerFlags)
+
+        when:
+        List<String> urls = findAll(pattern, lines.join('\n'))
+        List<String> prefilteredUrls = lines.findAll { qualifier.matcher(it).find() }.collectMany { findAll(pattern, it) }
+
+        then:
+        urls.size() == 10
+        prefilteredUrls == urls
+    }
+
+    static List<String> findAll(Pattern pattern, String text) {
+        List<String> result = []
+        Matcher matcher = pattern.matcher(text)
+        while (matcher.find()) {
+            result += matcher.group()
+        }
+        result
+    }
+}
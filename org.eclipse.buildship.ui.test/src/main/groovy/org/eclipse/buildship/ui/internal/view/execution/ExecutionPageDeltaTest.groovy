@@ -0,0 +1,98 @@
+package org.eclipse.buildship.ui.internal.view.execution
+
+import spock.lang.Specification
+
+import org.gradle.tooling.LongRunningOperation
+import org.gradle.tooling.events.FinishEvent
+import org.gradle.tooling.events.OperationDescriptor
+import org.gradle.tooling.events.ProgressEvent
+import org.gradle.tooling.events.StartEvent
+import org.gradle.tooling.events.SuccessResult
+import org.gradle.tooling.events.task.TaskOperationDescriptor
+import org.gradle.tooling.events.test.JvmTestKind
+import org.gradle.tooling.events.test.JvmTestOperationDescriptor
+
+import org.eclipse.buildship.core.internal.console.ProcessDescription
+
+class ExecutionPageDeltaTest extends Specification {
+
+    def "Start and finish events are kept in the order they were received"() {
+        setup:
+        OperationDescriptor parent = Mock(OperationDescriptor)
+        OperationDescriptor child = Mock(OperationDescriptor)
+        StartEvent parentStart = event(StartEvent, parent)
+        StartEvent childStart = event(StartEvent, child)
+        FinishEvent childFinish = event(FinishEvent, child)
+        FinishEvent parentFinish = event(FinishEvent, parent)
+        ExecutionPageDelta delta = new ExecutionPageDelta()
+
+        when:
+        [parentStart, childStart, event(ProgressEvent, child), childFinish, parentFinish].each { delta.add(it) }
+
+        then:
+        !delta.empty
+        delta.startEvents == [parentStart, childStart]
+        delta.finishEvents == [childFinish, parentFinish]
+    }
+
+    def "Operations started before the delta only have a finish event"() {
+        setup:
+        OperationDescriptor descriptor = Mock(OperationDescriptor)
+        FinishEvent finishEvent = event(FinishEvent, descriptor)
+        ExecutionPageDelta delta = new ExecutionPageDelta()
+
+        expect:
+        delta.empty
+
+        when:
+        delta.add(finishEvent)
+
+        then:
+        delta.startEvents.empty
+        delta.finishEvents == [finishEvent]
+    }
+
+    def "Delta containing a whole test suite builds the complete tree"() {
+        setup:
+        TaskOperationDescriptor task = Mock(TaskOperationDescriptor)
+        JvmTestOperationDescriptor testRun = testDescriptor(task, JvmTestKind.SUITE, 'Gradle Test Run :test', null, null)
+        JvmTestOperationDescriptor executor = testDescriptor(testRun, JvmTestKind.SUITE, 'Gradle Test Executor 1', null, null)
+        JvmTestOperationDescriptor suite = testDescriptor(executor, JvmTestKind.SUITE, 'FooTest', 'FooTest', null)
+        JvmTestOperationDescriptor test = testDescriptor(suite, JvmTestKind.ATOMIC, null, 'FooTest', 'foo')
+        ExecutionPage page = new ExecutionPage(Mock(ProcessDescription), Mock(LongRunningOperation), new ExecutionViewState())
+        ExecutionPageDelta delta = new ExecutionPageDelta()
+        [task, testRun, executor, suite, test].each { delta.add(event(StartEvent, it)) }
+        [test, suite, executor, testRun, task].each { delta.add(finishEvent(it)) }
+
+        when:
+        page.applyDelta(delta)
+
+        then:
+        page.root.children*.descriptor == [task]
+        page.root.children[0].children*.descriptor == [suite]
+        page.root.children[0].children[0].children*.descriptor == [test]
+        page.root.children[0].children[0].children[0].finished
+    }
+
+    private JvmTestOperationDescriptor testDescriptor(OperationDescriptor parent, JvmTestKind kind, String suiteName, String className, String methodName) {
+        JvmTestOperationDescriptor descriptor = Mock(JvmTestOperationDescriptor)
+        descriptor.parent >> parent
+        descriptor.jvmTestKind >> kind
+        descriptor.suiteName >> suiteName
+        descriptor.className >> className
+        descriptor.methodName >> methodName
+        descriptor
+    }
+
+    private FinishEvent finishEvent(OperationDescriptor descriptor) {
+        FinishEvent event = event(FinishEvent, descriptor)
+        event.result >> Mock(SuccessResult)
+        event
+    }
+
+    private <T extends ProgressEvent> T event(Class<T> type, OperationDescriptor descriptor) {
+        T event = Mock(type)
+        event.descriptor >> descriptor
+        event
+    }
+}
@@ -0,0 +1,137 @@
+package org.eclipse.buildship.ui.internal.view.execution
+
+import spock.lang.Specification
+
+import org.gradle.tooling.events.FailureResult
+import org.gradle.tooling.events.FinishEvent
+import org.gradle.tooling.events.OperationDescriptor
+import org.gradle.tooling.events.StartEvent
+import org.gradle.tooling.events.task.TaskSuccessResult
+
+class OperationItemTest extends Specification {
+
+    def "Children can be appended and removed"() {
+        setup:
+        OperationItem root = new OperationItem()
+        OperationItem first = operationItem('first')
+        OperationItem second = operationItem('second')
+        OperationItem third = operationItem('third')
+
+        when:
+        root.addChild(first)
+        root.addChild(second)
+        root.addChild(third)
+        root.addChild(second)
+
+        then:
+        root.children == [first, second, third]
+        root.childCount == 3
+        second.parent == root
+
+        when:
+        root.removeChild(second)
+
+        then:
+        root.childCount == 2
+        root.children == [first, third]
+        root.getChild(1) == third
+
+        when:
+        root.removeChild(first)
+        root.addChild(first)
+
+        then:
+        root.children == [first, third]
+    }
+
+    def "Child is moved to the new parent"() {
+        setup:
+        OperationItem root = new OperationItem()
+        OperationItem parent = operationItem('parent')
+        OperationItem child = operationItem('child')
+        root.addChild(child)
+
+        when:
+        parent.addChild(child)
+
+        then:
+        !root.hasChildren()
+        root.children == []
+        parent.children == [child]
+        child.parent == parent
+    }
+
+    def "Child moved back to its former parent is listed once"() {
+        setup:
+        OperationItem root = new OperationItem()
+        OperationItem parent = operationItem('parent')
+        OperationItem first = operationItem('first')
+        OperationItem second = operationItem('second')
+        root.addChild(first)
+        root.addChild(second)
+
+        when:
+        parent.addChild(first)
+        root.addChild(first)
+
+        then:
+        root.childCount == 2
+        root.children == [second, first]
+        !parent.hasChildren()
+        parent.children == []
+    }
+
+    def "Many children can be appended"() {
+        setup:
+        OperationItem root = new OperationItem()
+        List<OperationItem> children = (1..50000).collect { operationItem("test $it") }
+
+        when:
+        children.each { root.addChild(it) }
+        children.eachWithIndex { OperationItem child, int index -> if (index % 2 == 0) root.removeChild(child) }
+
+        then:
+        root.childCount == 25000
+        root.getChild(0) == children[1]
+    }
+
+    def "Only the finish event of failed operations is retained"() {
+        setup:
+        OperationItem successful = operationItem('successful')
+        OperationItem upToDate = operationItem('up-to-date')
+        OperationItem failed = operationItem('failed')
+        FinishEvent failure = finishEvent(Mock(FailureResult))
+
+        when:
+        successful.finishEvent = finishEvent(Mock(TaskSuccessResult))
+        upToDate.finishEvent = finishEvent(Mock(TaskSuccessResult) { isUpToDate() >> true })
+        failed.finishEvent = failure
+
+        then:
+        successful.finished
+        successful.outcome == OperationItem.Outcome.SUCCESS
+        successful.failureEvent == null
+        upToDate.outcome == OperationItem.Outcome.UP_TO_DATE
+        failed.outcome == OperationItem.Outcome.FAILURE
+        failed.failureEvent == failure
+        failed.startTime == 100
+        failed.endTime == 200
+    }
+
+    private OperationItem operationItem(String name) {
+        OperationDescriptor descriptor = Mock(OperationDescriptor)
+        descriptor.displayName >> name
+        StartEvent startEvent = Mock(StartEvent)
+        startEvent.descriptor >> descriptor
+        startEvent.eventTime >> 100
+        new OperationItem(startEvent)
+    }
+
+    private FinishEvent finishEvent(def result) {
+        result.startTime >> 100
+        result.endTime >> 200
+        FinishEvent finishEvent = Mock(FinishEvent)
+        finishEvent.result >> result
+        finishEvent
+    }
+}
@@ -0,0 +1,149 @@
+package org.eclipse.buildship.ui.internal.view.execution
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import org.gradle.tooling.Failure
+import org.gradle.tooling.events.OperationResult
+import org.gradle.tooling.events.test.JvmTestKind
+import org.gradle.tooling.events.test.JvmTestOperationDescriptor
+import org.gradle.tooling.events.test.TestFailureResult
+import org.gradle.tooling.events.test.TestFinishEvent
+import org.gradle.tooling.events.test.TestSkippedResult
+import org.gradle.tooling.events.test.TestSuccessResult
+
+class TestHistoryTest extends Specification {
+
+    @Rule
+    TemporaryFolder tempFolder
+
+    def "Test results of a run are stored and loaded"() {
+        setup:
+        TestHistory history = new TestHistory(tempFolder.newFolder('history'))
+        File rootProjectDirectory = tempFolder.newFolder('project')
+        TestHistoryWriter writer = history.startRun('test run', rootProjectDirectory)
+
+        when:
+        writer.statusChanged(testFinished('org.example.FooTest', null, JvmTestKind.SUITE, Mock(TestSuccessResult)))
+        writer.statusChanged(testFinished('org.example.FooTest', 'passes', JvmTestKind.ATOMIC, result(TestSuccessResult, 100, 350)))
+        writer.statusChanged(testFinished('org.example.FooTest', 'fails', JvmTestKind.ATOMIC, failure('expected: 1\nbut was: 2')))
+        writer.statusChanged(testFinished('org.example.BarTest', 'ignored', JvmTestKind.ATOMIC, Mock(TestSkippedResult)))
+        writer.finish()
+        List<TestRunSummary> runs = history.loadRuns()
+        List<TestResult> results = history.loadResults(runs[0])
+
+        then:
+        runs.size() == 1
+        runs[0].processName == 'test run'
+        runs[0].rootProjectDirectory == rootProjectDirectory
+        runs[0].testCount == 3
+        runs[0].failedTestCount == 1
+        results.collect { it.className } == ['org.example.FooTest', 'org.example.FooTest', 'org.example.BarTest']
+        results.collect { it.methodName } == ['passes', 'fails', 'ignored']
+        results.collect { it.outcome } == [OperationItem.Outcome.SUCCESS, OperationItem.Outcome.FAILURE, OperationItem.Outcome.SKIPPED]
+        results[0].duration == 250
+        results[0].failureDigest == null
+        results[1].failureDigest == 'expected: 1'
+    }
+
+    def "Runs without tests are not stored"() {
+        setup:
+        File directory = tempFolder.newFolder('history')
+        TestHistory history = new TestHistory(directory)
+        TestHistoryWriter writer = history.startRun('build run', tempFolder.newFolder('project'))
+
+        when:
+        writer.finish()
+
+        then:
+        history.loadRuns().empty
+        directory.listFiles().length == 0
+    }
+
+    def "Only the most recent runs are kept"() {
+        setup:
+        File directory = tempFolder.newFolder('history')
+        TestHistory history = new TestHistory(directory)
+        File rootProjectDirectory = tempFolder.newFolder('project')
+
+        when:
+        (1..55).each {
+            TestHistoryWriter writer = history.startRun("run $it", rootProjectDirectory)
+            writer.statusChanged(testFinished('org.example.FooTest', 'passes', JvmTestKind.ATOMIC, Mock(TestSuccessResult)))
+            writer.finish()
+        }
+        List<TestRunSummary> runs = history.loadRuns()
+
+        then:
+        runs.size() == 50
+        runs[0].processName == 'run 55'
+        runs[49].processName == 'run 6'
+        directory.listFiles().findAll { it.name.endsWith('.tests') }.size() == 50
+    }
+
+    def "Run files missing from the index are deleted"() {
+        setup:
+        File directory = tempFolder.newFolder('history')
+        TestHistory history = new TestHistory(directory)
+        File orphanedFile = new File(directory, 'run-1.tests')
+        orphanedFile.bytes = [0, 1, 2, 3] as byte[]
+        TestHistoryWriter writer = history.startRun('test run', tempFolder.newFolder('project'))
+        writer.statusChanged(testFinished('org.example.FooTest', 'passes', JvmTestKind.ATOMIC, Mock(TestSuccessResult)))
+
+        when:
+        history.deleteUnindexedRunFiles()
+
+        then:
+        !orphanedFile.exists()
+        directory.listFiles().findAll { it.name.endsWith('.tests') }.size() == 1
+
+        when:
+        writer.finish()
+        history.deleteUnindexedRunFiles()
+
+        then:
+        history.loadRuns().size() == 1
+        history.loadResults(history.loadRuns()[0]).size() == 1
+    }
+
+    def "Tests are rerun by their method name only if it is a Java identifier"() {
+        expect:
+        new TestResult('org.example.FooTest', methodName, 'display name', 0, OperationItem.Outcome.FAILURE, null).toTestName().qualifiedName == qualifiedName
+
+        where:
+        methodName        | qualifiedName
+        'fails'           | 'org.example.FooTest#fails'
+        'foo[0]'          | 'org.example.FooTest'
+        'foo [x: 1, #0]'  | 'org.example.FooTest'
+        'foo(int)[1]'     | 'org.example.FooTest'
+        null              | 'org.example.FooTest'
+    }
+
+    private TestFinishEvent testFinished(String className, String methodName, JvmTestKind kind, OperationResult result) {
+        JvmTestOperationDescriptor descriptor = Mock(JvmTestOperationDescriptor)
+        descriptor.className >> className
+        descriptor.methodName >> methodName
+        descriptor.displayName >> (methodName ?: className)
+        descriptor.jvmTestKind >> kind
+        TestFinishEvent event = Mock(TestFinishEvent)
+        event.descriptor >> descriptor
+        event.result >> result
+        event
+    }
+
+    private <T extends OperationResult> T result(Class<T> type, long startTime, long endTime) {
+        T result = Mock(type)
+        result.startTime >> startTime
+        result.endTime >> endTime
+        result
+    }
+
+    private TestFailureResult failure(String message) {
+        Failure failure = Mock(Failure)
+        failure.message >> message
+        TestFailureResult result = Mock(TestFailureResult)
+        result.failures >> [failure]
+        result
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.console;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.google.common.base.Preconditions;
+
+import org.eclipse.buildship.ui.internal.UiPlugin;
+
+/**
+ * Append-only file holding the complete output of a {@link GradleConsole}.
+ * <p/>
+ * The console only keeps the tail of the output in memory, so the output streams of the console
+ * are teed into this file. The file is opened on the first write and is kept open until the
+ * console streams are closed. The file is deleted when the console is removed; the files left
+ * behind by a previous session are deleted when the first log file is created.
+ */
+final class ConsoleLogFile {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static boolean staleFilesDeleted;
+
+    private final File file;
+    private OutputStream output;
+    private boolean deleted;
+
+    ConsoleLogFile(File file) {
+        this.file = Preconditions.checkNotNull(file);
+    }
+
+    static ConsoleLogFile create() {
+        File directory = UiPlugin.getInstance().getStateLocation().append("consoles").toFile();
+        try {
+            deleteStaleFiles(directory);
+            directory.mkdirs();
+            return new ConsoleLogFile(File.createTempFile("console-", ".log", directory));
+        } catch (IOException e) {
+            UiPlugin.logger().warn("Cannot create console log file", e);
+            return null;
+        }
+    }
+
+    private static synchronized void deleteStaleFiles(File directory) {
+        if (!staleFilesDeleted) {
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            staleFilesDeleted = true;
+        }
+    }
+
+    /**
+     * Returns a stream writing to both the target stream and this file.
+     *
+     * @param stream the stream to tee
+     * @return the new stream
+     */
+    OutputStream tee(OutputStream stream) {
+        return new TeeOutputStream(stream);
+    }
+
+    /**
+     * Returns the log file with all the output written so far.
+     *
+     * @return the log file
+     */
+    synchronized File getFile() {
+        flush();
+        return this.file;
+    }
+
+    synchronized void write(byte[] bytes, int offset, int length) {
+        if (this.deleted) {
+            return;
+        }
+
+        try {
+            if (this.output == null) {
+                this.output = new BufferedOutputStream(new FileOutputStream(this.file, true), BUFFER_SIZE);
+            }
+            this.output.write(bytes, offset, length);
+        } catch (IOException e) {
+            // the console output is still displayed, only the log file is abandoned
+            UiPlugin.logger().warn(String.format("Cannot write console log file %s", this.file), e);
+            delete();
+        }
+    }
+
+    synchronized void flush() {
+        if (this.output != null) {
+            try {
+                this.output.flush();
+            } catch (IOException e) {
+                UiPlugin.logger().warn(String.format("Cannot write console log file %s", this.file), e);
+            }
+        }
+    }
+
+    /**
+     * Releases the file handle. The file is reopened if more output is written.
+     */
+    synchronized void close() {
+        if (this.output != null) {
+            try {
+                this.output.close();
+            } catch (IOException e) {
+                UiPlugin.logger().warn(String.format("Cannot close console log file %s", this.file), e);
+            }
+            this.output = null;
+        }
+    }
+
+    synchronized void delete() {
+        close();
+        this.deleted = true;
+        this.file.delete();
+    }
+
+    /**
+     * Stream writing the output both to the console and to the log file.
+     */
+    private final class TeeOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+
+        private TeeOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            this.delegate.write(bytes, offset, length);
+            ConsoleLogFile.this.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.delegate.flush();
+            ConsoleLogFile.this.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.delegate.close();
+        }
+    }
+}
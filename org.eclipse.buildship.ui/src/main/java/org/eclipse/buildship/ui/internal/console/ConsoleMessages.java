@@ -24,6 +24,7 @@ public final class ConsoleMessages extends NLS {
 
     public static String Action_RemoveTerminatedConsole_Tooltip;
     public static String Action_RemoveAllTerminatedConsoles_Tooltip;
+    public static String Action_OpenConsoleLogFile_Tooltip;
 
     static {
         // initialize resource bundle
@@ -11,6 +11,7 @@
 
 package org.eclipse.buildship.ui.internal.console;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -31,6 +32,7 @@ import org.eclipse.ui.console.IOConsoleInputStream;
 import org.eclipse.ui.console.IOConsoleOutputStream;
 
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.configuration.AdvancedPreferences;
 import org.eclipse.buildship.core.internal.console.ProcessDescription;
 import org.eclipse.buildship.core.internal.console.ProcessStreams;
 import org.eclipse.buildship.ui.internal.PluginImages;
@@ -41,6 +43,11 @@ import org.eclipse.buildship.ui.internal.UiPlugin;
  *
  * Note that once a console is removed, all open streams managed by the console will be closed
  * automatically, thus there is no need for us to close these streams explicitly here.
+ * <p/>
+ * The console only keeps the last {@link AdvancedPreferences#getConsoleBufferSize()} characters in
+ * memory. The complete output of a build is written to a {@link ConsoleLogFile} that can be opened
+ * from the console toolbar. The shared background console has no log file; its older output is
+ * discarded.
  */
 public final class GradleConsole extends IOConsole implements ProcessStreams {
 
@@ -49,6 +56,10 @@ public final class GradleConsole extends IOConsole implements ProcessStreams {
     private final IOConsoleOutputStream outputStream;
     private final IOConsoleOutputStream errorStream;
     private final IOConsoleInputStream inputStream;
+    private final Optional<ConsoleLogFile> logFile;
+    private final OutputStream teedConfigurationStream;
+    private final OutputStream teedOutputStream;
+    private final OutputStream teedErrorStream;
 
     public GradleConsole(String name) {
         this(name, Optional.<ProcessDescription>absent());
@@ -67,11 +78,18 @@ public final class GradleConsole extends IOConsole implements ProcessStreams {
         this.errorStream = newOutputStream();
         this.inputStream = super.getInputStream();
 
-        // decorate console output such that URLs are presented as clickable links
-        addPatternMatchListener(new UrlPatternMatchListener());
+        // keep a bounded tail of the output in the document and the complete output of the builds in a file
+        int bufferSize = AdvancedPreferences.getConsoleBufferSize();
+        if (bufferSize > 0) {
+            setWaterMarks(bufferSize * 4 / 5, bufferSize);
+        }
+        this.logFile = bufferSize > 0 && processDescription.isPresent() ? Optional.fromNullable(ConsoleLogFile.create()) : Optional.<ConsoleLogFile>absent();
+        this.teedConfigurationStream = tee(this.configurationStream);
+        this.teedOutputStream = tee(this.outputStream);
+        this.teedErrorStream = tee(this.errorStream);
 
-        // collect build scan URL
-        addPatternMatchListener(new BuildScanPatternMatchListener());
+        // decorate console output such that URLs are presented as clickable links and collect build scan URL
+        addPatternMatchListener(new UrlPatternMatchListener());
 
         // set proper colors on output/error streams (needs to happen in the UI thread)
         PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
@@ -101,6 +119,10 @@ public final class GradleConsole extends IOConsole implements ProcessStreams {
         });
     }
 
+    private OutputStream tee(OutputStream stream) {
+        return this.logFile.isPresent() ? this.logFile.get().tee(stream) : stream;
+    }
+
     public Optional<ProcessDescription> getProcessDescription() {
         return this.processDescription;
     }
@@ -113,19 +135,28 @@ public final class GradleConsole extends IOConsole implements ProcessStreams {
         return this.processDescription.isPresent();
     }
 
+    /**
+     * Returns the file containing the complete output of the console.
+     *
+     * @return the log file or absent if the console keeps all output in memory
+     */
+    public Optional<File> getLogFile() {
+        return this.logFile.isPresent() ? Optional.of(this.logFile.get().getFile()) : Optional.<File>absent();
+    }
+
     @Override
     public OutputStream getConfiguration() {
-        return this.configurationStream;
+        return this.teedConfigurationStream;
     }
 
     @Override
     public OutputStream getOutput() {
-        return this.outputStream;
+        return this.teedOutputStream;
     }
 
     @Override
     public OutputStream getError() {
-        return this.errorStream;
+        return this.teedErrorStream;
     }
 
     @Override
@@ -160,6 +191,9 @@ public final class GradleConsole extends IOConsole implements ProcessStreams {
         } catch (IOException ioe) {
             e = ioe;
         }
+        if (this.logFile.isPresent()) {
+            this.logFile.get().close();
+        }
 
         if (e != null) {
             String message = String.format("Cannot close streams of console %s.", getName()); //$NON-NLS-1$
@@ -167,4 +201,12 @@ public final class GradleConsole extends IOConsole implements ProcessStreams {
             throw new GradlePluginsRuntimeException(message, e);
         }
     }
+
+    @Override
+    protected void dispose() {
+        super.dispose();
+        if (this.logFile.isPresent()) {
+            this.logFile.get().delete();
+        }
+    }
 }
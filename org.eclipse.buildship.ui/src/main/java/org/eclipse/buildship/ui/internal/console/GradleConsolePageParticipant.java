@@ -27,6 +27,7 @@ public final class GradleConsolePageParticipant implements IConsolePageParticipa
     private RerunBuildExecutionAction rerunBuildExecutionAction;
     private RemoveTerminatedGradleConsoleAction removeConsoleAction;
     private RemoveAllTerminatedGradleConsolesAction removeAllConsolesAction;
+    private OpenConsoleLogFileAction openLogFileAction;
 
     /**
      * {@inheritDoc}
@@ -48,11 +49,13 @@ public final class GradleConsolePageParticipant implements IConsolePageParticipa
         this.rerunBuildExecutionAction = new RerunBuildExecutionAction(gradleConsole);
         this.removeConsoleAction = new RemoveTerminatedGradleConsoleAction(gradleConsole);
         this.removeAllConsolesAction = new RemoveAllTerminatedGradleConsolesAction(gradleConsole);
+        this.openLogFileAction = new OpenConsoleLogFileAction(gradleConsole);
 
         toolBarManager.appendToGroup(IConsoleConstants.LAUNCH_GROUP, this.cancelBuildExecutionAction);
         toolBarManager.appendToGroup(IConsoleConstants.LAUNCH_GROUP, this.rerunBuildExecutionAction);
         toolBarManager.appendToGroup(IConsoleConstants.LAUNCH_GROUP, this.removeConsoleAction);
         toolBarManager.appendToGroup(IConsoleConstants.LAUNCH_GROUP, this.removeAllConsolesAction);
+        toolBarManager.appendToGroup(IConsoleConstants.OUTPUT_GROUP, this.openLogFileAction);
     }
 
     @SuppressWarnings("rawtypes")
@@ -89,6 +92,10 @@ public final class GradleConsolePageParticipant implements IConsolePageParticipa
             this.removeAllConsolesAction.dispose();
             this.removeAllConsolesAction = null;
         }
+        if (this.openLogFileAction != null) {
+            this.openLogFileAction.dispose();
+            this.openLogFileAction = null;
+        }
     }
 
 }
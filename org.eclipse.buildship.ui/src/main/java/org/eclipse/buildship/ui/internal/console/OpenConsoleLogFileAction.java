@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.console;
+
+import java.io.File;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.ui.ISharedImages;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.buildship.ui.internal.util.editor.EditorUtils;
+
+/**
+ * Opens the file containing the complete output of the given {@link GradleConsole} instance in a
+ * text editor. The action is only enabled if the console has a log file.
+ */
+public final class OpenConsoleLogFileAction extends Action {
+
+    private final GradleConsole gradleConsole;
+
+    public OpenConsoleLogFileAction(GradleConsole gradleConsole) {
+        this.gradleConsole = Preconditions.checkNotNull(gradleConsole);
+
+        setToolTipText(ConsoleMessages.Action_OpenConsoleLogFile_Tooltip);
+        setImageDescriptor(PlatformUI.getWorkbench().getSharedImages().getImageDescriptor(ISharedImages.IMG_OBJ_FILE));
+        setEnabled(gradleConsole.getLogFile().isPresent());
+    }
+
+    @Override
+    public void run() {
+        Optional<File> logFile = this.gradleConsole.getLogFile();
+        if (logFile.isPresent() && logFile.get().exists()) {
+            EditorUtils.openInInternalEditor(logFile.get(), true);
+        }
+    }
+
+    public void dispose() {
+    }
+
+}
@@ -8,8 +8,12 @@
 package org.eclipse.buildship.ui.internal.console;
 
 import java.net.URL;
+import java.util.regex.Pattern;
+
+import com.google.common.base.Optional;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.console.IHyperlink;
 import org.eclipse.ui.console.IPatternMatchListener;
@@ -17,17 +21,27 @@ import org.eclipse.ui.console.PatternMatchEvent;
 import org.eclipse.ui.console.TextConsole;
 
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.console.ProcessDescription;
+import org.eclipse.buildship.core.internal.scan.BuildScanCreatedEvent;
 import org.eclipse.buildship.core.internal.util.string.PatternUtils;
 
 /**
- * Transforms all URLs to clickable links in the target console.
+ * Transforms all URLs to clickable links in the target console and collects the build scan URLs
+ * printed in a {@link GradleConsole}.
  * <p/>
  * When clicked, the URLs are opened in the external browser.
+ * <p/>
+ * This is the only pattern matcher of the Gradle consoles, so the console output is scanned once.
+ * The line qualifier limits the URL pattern to the lines containing {@code ://}; the rest of the
+ * lines are skipped after a literal search. A URL is a build scan URL if it is printed on the same
+ * or on the next line after the {@code Publishing build scan...} message.
  *
  * @author Donat Csikos
  */
 public final class UrlPatternMatchListener implements IPatternMatchListener {
 
+    private static final Pattern BUILD_SCAN_MESSAGE = Pattern.compile("Publishing build (?:information|scan).*\\s+$");
+
     private TextConsole console;
 
     @Override
@@ -45,12 +59,38 @@ public final class UrlPatternMatchListener implements IPatternMatchListener {
         try {
             int offset = event.getOffset();
             int length = event.getLength();
-            final String url = this.console.getDocument().get(offset, length);
+            IDocument document = this.console.getDocument();
+            String url = document.get(offset, length);
             this.console.addHyperlink(new Hyperlink(url), offset, length);
+
+            if (this.console instanceof GradleConsole) {
+                int previousLine = Math.max(document.getLineOfOffset(offset) - 1, 0);
+                int previousLineOffset = document.getLineOffset(previousLine);
+                if (isBuildScanUrl(document.get(previousLineOffset, offset - previousLineOffset))) {
+                    publishBuildScan(url);
+                }
+            }
         } catch (BadLocationException e) {
         }
     }
 
+    private void publishBuildScan(String buildScanUrl) {
+        Optional<ProcessDescription> description = ((GradleConsole) this.console).getProcessDescription();
+        if (description.isPresent()) {
+            CorePlugin.listenerRegistry().dispatch(new BuildScanCreatedEvent(buildScanUrl, description.get()));
+        }
+    }
+
+    /**
+     * Decides whether a URL is a build scan URL.
+     *
+     * @param precedingText the text from the beginning of the previous line until the URL
+     * @return {@code true} if the text ends with the message announcing a build scan
+     */
+    static boolean isBuildScanUrl(CharSequence precedingText) {
+        return BUILD_SCAN_MESSAGE.matcher(precedingText).find();
+    }
+
     @Override
     public String getPattern() {
         return PatternUtils.WEB_URL_PATTERN;
@@ -63,7 +103,7 @@ public final class UrlPatternMatchListener implements IPatternMatchListener {
 
     @Override
     public String getLineQualifier() {
-        return null;
+        return PatternUtils.WEB_URL_LINE_QUALIFIER;
     }
 
     /**
@@ -36,6 +36,12 @@ public final class LaunchMessages extends NLS {
     public static String Button_Label_BrowseWorkspace;
     public static String Button_Label_SelectVariables;
 
+    public static String Group_Label_ProgressDetail;
+    public static String ProgressDetail_Label_None;
+    public static String ProgressDetail_Label_Tasks;
+    public static String ProgressDetail_Label_TasksAndTests;
+    public static String ProgressDetail_Label_Full;
+
     public static String ErrorMessage_CannotResolveExpression_0;
 
     static {
@@ -36,6 +36,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Text;
@@ -44,6 +45,7 @@ import org.eclipse.ui.model.WorkbenchLabelProvider;
 
 import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
+import org.eclipse.buildship.core.internal.gradle.ProgressDetail;
 import org.eclipse.buildship.core.internal.i18n.CoreMessages;
 import org.eclipse.buildship.core.internal.launch.GradleRunConfigurationAttributes;
 import org.eclipse.buildship.core.internal.util.binding.Validator;
@@ -64,6 +66,7 @@ public final class ProjectTab extends AbstractLaunchConfigurationTab {
 
     private Text tasksText;
     private Text workingDirectoryText;
+    private Combo progressDetailCombo;
 
     public ProjectTab() {
         this.workingDirValidator = Validators.requiredDirectoryValidator(CoreMessages.RunConfiguration_Label_WorkingDirectory);
@@ -91,6 +94,9 @@ public final class ProjectTab extends AbstractLaunchConfigurationTab {
 
         Group workingDirectoryGroup = createGroup(parent, CoreMessages.RunConfiguration_Label_WorkingDirectory + ":"); //$NON-NLS-1$
         createWorkingDirectorySelectionControl(workingDirectoryGroup);
+
+        Group progressDetailGroup = createGroup(parent, LaunchMessages.Group_Label_ProgressDetail + ":"); //$NON-NLS-1$
+        createProgressDetailSelectionControl(progressDetailGroup);
     }
 
     private Group createGroup(Composite parent, String groupName) {
@@ -174,6 +180,15 @@ public final class ProjectTab extends AbstractLaunchConfigurationTab {
         });
     }
 
+    private void createProgressDetailSelectionControl(Composite container) {
+        // the items are in the order of the ProgressDetail constants
+        this.progressDetailCombo = new Combo(container, SWT.READ_ONLY | SWT.BORDER);
+        this.progressDetailCombo.setItems(new String[] { LaunchMessages.ProgressDetail_Label_None, LaunchMessages.ProgressDetail_Label_Tasks,
+                LaunchMessages.ProgressDetail_Label_TasksAndTests, LaunchMessages.ProgressDetail_Label_Full });
+        this.progressDetailCombo.setLayoutData(new GridData(SWT.LEFT, SWT.CENTER, false, false, 1, 1));
+        this.progressDetailCombo.addSelectionListener(new DialogUpdater());
+    }
+
     private IProject[] findAllGradleProjects() {
         return FluentIterable.from(CorePlugin.workspaceOperations().getAllProjects()).filter(new Predicate<IProject>() {
 
@@ -189,12 +204,15 @@ public final class ProjectTab extends AbstractLaunchConfigurationTab {
         GradleRunConfigurationAttributes configurationAttributes = GradleRunConfigurationAttributes.from(configuration);
         this.tasksText.setText(CollectionsUtils.joinWithSpace(configurationAttributes.getTasks()));
         this.workingDirectoryText.setText(Strings.nullToEmpty(configurationAttributes.getWorkingDirExpression()));
+        this.progressDetailCombo.select(configurationAttributes.getProgressDetail().ordinal());
     }
 
     @Override
     public void performApply(ILaunchConfigurationWorkingCopy configuration) {
         GradleRunConfigurationAttributes.applyTasks(CollectionsUtils.splitBySpace(this.tasksText.getText()), configuration);
         GradleRunConfigurationAttributes.applyWorkingDirExpression(this.workingDirectoryText.getText(), configuration);
+        int progressDetailIndex = this.progressDetailCombo.getSelectionIndex();
+        GradleRunConfigurationAttributes.applyProgressDetail(progressDetailIndex < 0 ? ProgressDetail.FULL : ProgressDetail.values()[progressDetailIndex], configuration);
     }
 
     @SuppressWarnings("Contract")
@@ -11,15 +11,19 @@
 
 package org.eclipse.buildship.ui.internal.view.execution;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.gradle.tooling.LongRunningOperation;
-import org.gradle.tooling.events.FailureResult;
 import org.gradle.tooling.events.FinishEvent;
 import org.gradle.tooling.events.OperationDescriptor;
-import org.gradle.tooling.events.ProgressEvent;
+import org.gradle.tooling.events.OperationType;
 import org.gradle.tooling.events.StartEvent;
 import org.gradle.tooling.events.task.TaskOperationDescriptor;
 import org.gradle.tooling.events.test.JvmTestKind;
@@ -29,11 +33,12 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.google.common.collect.TreeTraverser;
 
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.jface.action.IToolBarManager;
 import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.action.Separator;
@@ -48,9 +53,12 @@ import org.eclipse.jface.viewers.TreeViewerColumn;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.ControlAdapter;
 import org.eclipse.swt.events.ControlEvent;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.TreeColumn;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.ui.IActionBars;
 
 import org.eclipse.buildship.core.internal.console.ProcessDescription;
@@ -77,9 +85,11 @@ public final class ExecutionPage extends BasePage<FilteredTree> implements NodeS
     private final ProcessDescription processDescription;
     private final LongRunningOperation operation;
     private final ExecutionViewState state;
-    private final Map<OperationDescriptor, OperationItem> allItems;
-    private final Set<OperationItem> activeItems;
-    private final Set<OperationItem> removedItems;
+    private final OperationItem root;
+    private final Map<OperationDescriptor, OperationItem> runningItems;
+    private final Set<OperationItem> addedItems;
+    private final Set<OperationItem> finishedItems;
+    private final List<OperationItem> removedItems;
 
     private FilteredTree filteredTree;
     private SelectionHistoryManager selectionHistoryManager;
@@ -93,9 +103,12 @@ public final class ExecutionPage extends BasePage<FilteredTree> implements NodeS
         this.processDescription = processDescription;
         this.operation = operation;
         this.state = state;
-        this.allItems = Maps.newHashMap();
-        this.activeItems = Sets.newHashSet();
-        this.removedItems = Sets.newHashSet();
+        this.root = new OperationItem();
+        this.runningItems = Maps.newHashMap();
+        this.runningItems.put(null, this.root);
+        this.addedItems = new LinkedHashSet<>();
+        this.finishedItems = new LinkedHashSet<>();
+        this.removedItems = new ArrayList<>();
     }
 
     public ProcessDescription getProcessDescription() {
@@ -110,7 +123,8 @@ public final class ExecutionPage extends BasePage<FilteredTree> implements NodeS
     @Override
     public FilteredTree createPageWithResult(Composite parent) {
         // configure tree
-        this.filteredTree = new FilteredTree(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL, new PatternFilter(true));
+        // the tree items are only materialized when they become visible
+        this.filteredTree = new FilteredTree(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | SWT.VIRTUAL, new PatternFilter(true));
         this.filteredTree.setShowFilterControls(false);
         this.filteredTree.getViewer().getTree().setHeaderVisible(true);
         this.filteredTree.getViewer().setContentProvider(new ExecutionPageContentProvider());
@@ -169,43 +183,92 @@ public final class ExecutionPage extends BasePage<FilteredTree> implements NodeS
         this.selectionHistoryManager = new SelectionHistoryManager(this.filteredTree.getViewer());
 
         // set tree root node
-        OperationItem root = new OperationItem();
-        this.filteredTree.getViewer().setInput(root);
-        this.allItems.put(null, root);
+        this.filteredTree.getViewer().setInput(this.root);
 
         this.progressListener = new ExecutionProgressListener(this, this.processDescription.getJob());
-        this.operation.addProgressListener(this.progressListener);
+        // only subscribe to the event types requested by the run configuration
+        Set<OperationType> operationTypes = this.processDescription.getRunConfig().getProgressDetail().getOperationTypes();
+        if (!operationTypes.isEmpty()) {
+            this.operation.addProgressListener(this.progressListener, operationTypes);
+        }
+
+        // record the test results in the history while the build is running
+        if (operationTypes.contains(OperationType.TEST)) {
+            File rootProjectDirectory = this.processDescription.getRunConfig().getProjectConfiguration().getBuildConfiguration().getRootProjectDirectory();
+            final TestHistoryWriter testHistoryWriter = TestHistory.getDefault().startRun(this.processDescription.getName(), rootProjectDirectory);
+            this.operation.addProgressListener(testHistoryWriter, EnumSet.of(OperationType.TEST));
+            this.processDescription.getJob().addJobChangeListener(new JobChangeAdapter() {
+
+                @Override
+                public void done(IJobChangeEvent event) {
+                    testHistoryWriter.finish();
+                }
+            });
+        }
 
         // return the tree as the outermost page control
         return this.filteredTree;
     }
 
-    public void onProgress(ProgressEvent progressEvent) {
-        OperationDescriptor descriptor = progressEvent.getDescriptor();
+    /**
+     * Applies the progress events of a delta and updates the viewer. Must be called in the UI
+     * thread.
+     *
+     * @param delta the progress events received since the last update
+     */
+    public void update(ExecutionPageDelta delta) {
+        applyDelta(delta);
+        refreshChangedItems();
+    }
+
+    void applyDelta(ExecutionPageDelta delta) {
+        // the children have to be attached before the finish events of their parents are processed
+        for (StartEvent startEvent : delta.getStartEvents()) {
+            onStart(startEvent);
+        }
+        for (FinishEvent finishEvent : delta.getFinishEvents()) {
+            onFinish(finishEvent);
+        }
+    }
+
+    private void onStart(StartEvent startEvent) {
+        OperationDescriptor descriptor = startEvent.getDescriptor();
         if (isExcluded(descriptor)) {
             return;
         }
-        OperationItem operationItem = this.allItems.get(descriptor);
-        if (null == operationItem) {
-            operationItem = new OperationItem((StartEvent) progressEvent);
-            this.allItems.put(descriptor, operationItem);
-            this.activeItems.add(operationItem);
-        } else {
-            operationItem.setFinishEvent((FinishEvent) progressEvent);
-            this.removedItems.add(operationItem);
-            if (isJvmTestSuite(descriptor) && operationItem.getChildren().isEmpty()) {
-                // do not display test suite nodes that have no children (unwanted artifacts from Gradle)
-                OperationItem parentOperationItem = this.allItems.get(findFirstNonExcludedParent(descriptor));
-                parentOperationItem.removeChild(operationItem);
-                return;
-            }
-        }
 
-        // attach to (first non-excluded) parent, if this is a new operation (in case of StartEvent)
-        OperationItem parentExecutionItem = this.allItems.get(findFirstNonExcludedParent(descriptor));
+        // only the running operations are tracked; their descriptors are needed to attach the children and the finish events
+        OperationItem operationItem = new OperationItem(startEvent);
+        this.runningItems.put(descriptor, operationItem);
+        this.addedItems.add(operationItem);
+
+        // attach to (first non-excluded) parent
+        OperationItem parentExecutionItem = this.runningItems.get(findFirstNonExcludedParent(descriptor));
+        if (parentExecutionItem == null) {
+            parentExecutionItem = this.runningItems.get(null);
+        }
         parentExecutionItem.addChild(operationItem);
     }
 
+    private void onFinish(FinishEvent finishEvent) {
+        OperationDescriptor descriptor = finishEvent.getDescriptor();
+        OperationItem operationItem = isExcluded(descriptor) ? null : this.runningItems.remove(descriptor);
+        if (operationItem == null) {
+            return;
+        }
+
+        operationItem.setFinishEvent(finishEvent);
+        if (isJvmTestSuite(descriptor) && !operationItem.hasChildren() && operationItem.getParent() != null) {
+            // do not display test suite nodes that have no children (unwanted artifacts from Gradle)
+            operationItem.getParent().removeChild(operationItem);
+            if (!this.addedItems.remove(operationItem)) {
+                this.removedItems.add(operationItem);
+            }
+        } else {
+            this.finishedItems.add(operationItem);
+        }
+    }
+
     private boolean isExcluded(OperationDescriptor descriptor) {
         // ignore the 'artificial' events issued for the root test event and for each forked test
         // process event
@@ -224,20 +287,68 @@ public final class ExecutionPage extends BasePage<FilteredTree> implements NodeS
         return descriptor.getParent();
     }
 
+    /**
+     * Updates the viewer with the changes since the last refresh. Only the new items are inserted
+     * and only the labels of the finished items and of the visible running items are updated; the
+     * viewer ignores the items under collapsed nodes until they are expanded.
+     */
     public void refreshChangedItems() {
         TreeViewer viewer = this.filteredTree.getViewer();
-        for (OperationItem item : Sets.union(this.activeItems, this.removedItems)) {
-            viewer.update(item, null);
+
+        // insert the new items, grouped by parent; the parents are always inserted before their children
+        Map<OperationItem, List<OperationItem>> addedItemsByParent = new LinkedHashMap<>();
+        for (OperationItem item : this.addedItems) {
+            List<OperationItem> siblings = addedItemsByParent.get(item.getParent());
+            if (siblings == null) {
+                siblings = new ArrayList<>();
+                addedItemsByParent.put(item.getParent(), siblings);
+            }
+            siblings.add(item);
+        }
+        for (Map.Entry<OperationItem, List<OperationItem>> entry : addedItemsByParent.entrySet()) {
+            viewer.add(entry.getKey(), entry.getValue().toArray());
+        }
+
+        if (!this.removedItems.isEmpty()) {
+            viewer.remove(this.removedItems.toArray());
+        }
+        if (!this.finishedItems.isEmpty()) {
+            viewer.update(this.finishedItems.toArray(), null);
+        }
+
+        for (OperationItem item : this.addedItems) {
             if (shouldBeVisible(item)) {
                 viewer.expandToLevel(item, 0);
             }
         }
-        viewer.refresh(false);
+        for (OperationItem item : this.finishedItems) {
+            if (isFailedOperation(item)) {
+                viewer.expandToLevel(item, 0);
+            }
+        }
+
+        // the duration of the running operations changes constantly
+        for (OperationItem item : this.runningItems.values()) {
+            if (item.getDescriptor() != null && !this.addedItems.contains(item) && isVisible(viewer, item)) {
+                viewer.update(item, null);
+            }
+        }
 
-        this.activeItems.removeAll(this.removedItems);
+        this.addedItems.clear();
+        this.finishedItems.clear();
         this.removedItems.clear();
     }
 
+    private static boolean isVisible(TreeViewer viewer, OperationItem item) {
+        // only the materialized items in the visible area of the tree need to be repainted
+        Widget widget = viewer.testFindItem(item);
+        if (widget instanceof TreeItem) {
+            Rectangle bounds = ((TreeItem) widget).getBounds();
+            return !bounds.isEmpty() && bounds.intersects(viewer.getTree().getClientArea());
+        }
+        return false;
+    }
+
     private boolean shouldBeVisible(OperationItem item) {
         return isOnMax2ndLevel(item) || isTaskOperation(item) || isFailedOperation(item);
     }
@@ -256,12 +367,11 @@ public final class ExecutionPage extends BasePage<FilteredTree> implements NodeS
     }
 
     private boolean isTaskOperation(OperationItem item) {
-        return item.getStartEvent().getDescriptor() instanceof TaskOperationDescriptor;
+        return item.getDescriptor() instanceof TaskOperationDescriptor;
     }
 
     private boolean isFailedOperation(OperationItem item) {
-        FinishEvent finishEvent = item.getFinishEvent();
-        return finishEvent != null ? finishEvent.getResult() instanceof FailureResult : false;
+        return item.getOutcome() == OperationItem.Outcome.FAILURE;
     }
 
     private boolean isJvmTestSuite(OperationDescriptor descriptor) {
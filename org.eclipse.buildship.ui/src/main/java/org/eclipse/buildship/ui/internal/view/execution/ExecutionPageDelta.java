@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.view.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gradle.tooling.events.FinishEvent;
+import org.gradle.tooling.events.ProgressEvent;
+import org.gradle.tooling.events.StartEvent;
+
+/**
+ * The start and finish events received between two updates of an {@link ExecutionPage}.
+ * <p/>
+ * Both kinds of events are kept in the order they were received. The page applies all start
+ * events before the finish events: a delta can contain a whole operation subtree, and a parent
+ * must have its children attached by the time its finish event is processed. The deltas are
+ * assembled in the {@link UpdateExecutionPageJob} and are applied in the UI thread.
+ */
+final class ExecutionPageDelta {
+
+    private final List<StartEvent> startEvents = new ArrayList<>();
+    private final List<FinishEvent> finishEvents = new ArrayList<>();
+
+    void add(ProgressEvent event) {
+        if (event instanceof StartEvent) {
+            this.startEvents.add((StartEvent) event);
+        } else if (event instanceof FinishEvent) {
+            this.finishEvents.add((FinishEvent) event);
+        }
+    }
+
+    boolean isEmpty() {
+        return this.startEvents.isEmpty() && this.finishEvents.isEmpty();
+    }
+
+    /**
+     * @return the start events in the order they were received; the parents precede their children
+     */
+    List<StartEvent> getStartEvents() {
+        return this.startEvents;
+    }
+
+    /**
+     * @return the finish events in the order they were received; the children precede their parents
+     */
+    List<FinishEvent> getFinishEvents() {
+        return this.finishEvents;
+    }
+}
@@ -10,8 +10,6 @@ package org.eclipse.buildship.ui.internal.view.execution;
 
 import java.text.DecimalFormat;
 
-import org.gradle.tooling.events.OperationResult;
-
 import org.eclipse.jface.viewers.DelegatingStyledCellLabelProvider.IStyledLabelProvider;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.StyledString;
@@ -31,12 +29,11 @@ public final class ExecutionPageDurationLabelProvider extends LabelProvider impl
     }
 
     private String calculateDuration(OperationItem operationItem) {
-        if (operationItem.getFinishEvent() != null) {
-            OperationResult result = operationItem.getFinishEvent().getResult();
-            String duration = formatDuration(result.getStartTime(), result.getEndTime());
+        if (operationItem.isFinished()) {
+            String duration = formatDuration(operationItem.getStartTime(), operationItem.getEndTime());
             return NLS.bind(ExecutionViewMessages.Tree_Item_Operation_Finished_In_0_Sec_Text, duration);
-        } else if (operationItem.getStartEvent() != null) {
-            String duration = formatDuration(operationItem.getStartEvent().getEventTime(), System.currentTimeMillis());
+        } else if (operationItem.getDescriptor() != null) {
+            String duration = formatDuration(operationItem.getStartTime(), System.currentTimeMillis());
             return NLS.bind(ExecutionViewMessages.Tree_Item_Operation_Running_For_0_Sec_Text, duration);
         } else {
             return "";
@@ -8,15 +8,9 @@
 
 package org.eclipse.buildship.ui.internal.view.execution;
 
-import org.gradle.tooling.events.FailureResult;
 import org.gradle.tooling.events.FinishEvent;
 import org.gradle.tooling.events.OperationDescriptor;
-import org.gradle.tooling.events.OperationResult;
-import org.gradle.tooling.events.SkippedResult;
-import org.gradle.tooling.events.SuccessResult;
-import org.gradle.tooling.events.task.TaskFinishEvent;
 import org.gradle.tooling.events.task.TaskOperationDescriptor;
-import org.gradle.tooling.events.task.TaskSuccessResult;
 import org.gradle.tooling.events.test.TestOperationDescriptor;
 
 import com.google.common.collect.ImmutableMap;
@@ -71,18 +65,16 @@ public final class ExecutionPageNameLabelProvider extends LabelProvider implemen
 
     public static String renderVerbose(FinishEvent finishEvent) {
         OperationDescriptor descriptor = finishEvent.getDescriptor();
-        return render(descriptor, finishEvent, true);
+        return render(descriptor, OperationItem.Outcome.from(finishEvent.getResult()), true);
     }
 
     public static String renderCompact(OperationItem operationItem) {
-        OperationDescriptor descriptor = operationItem.getStartEvent().getDescriptor();
-        FinishEvent finishEvent = operationItem.getFinishEvent();
-        return render(descriptor, finishEvent, false);
+        return render(operationItem.getDescriptor(), operationItem.getOutcome(), false);
     }
 
-    private static String render(OperationDescriptor descriptor, FinishEvent finishEvent, boolean verbose) {
+    private static String render(OperationDescriptor descriptor, OperationItem.Outcome outcome, boolean verbose) {
         if (descriptor instanceof TaskOperationDescriptor) {
-            return renderTask(finishEvent, ((TaskOperationDescriptor) descriptor), verbose);
+            return renderTask(outcome, ((TaskOperationDescriptor) descriptor), verbose);
         } else if (descriptor instanceof TestOperationDescriptor) {
             return renderTest(descriptor, verbose);
         } else {
@@ -90,7 +82,7 @@ public final class ExecutionPageNameLabelProvider extends LabelProvider implemen
         }
     }
 
-    private static String renderTask(FinishEvent finishEvent, TaskOperationDescriptor descriptor, boolean verbose) {
+    private static String renderTask(OperationItem.Outcome outcome, TaskOperationDescriptor descriptor, boolean verbose) {
         StringBuilder task = new StringBuilder();
 
         if (verbose) {
@@ -99,15 +91,10 @@ public final class ExecutionPageNameLabelProvider extends LabelProvider implemen
 
         task.append(descriptor.getTaskPath());
 
-        if (finishEvent instanceof TaskFinishEvent) {
-            if (finishEvent.getResult() instanceof TaskSuccessResult) {
-                TaskSuccessResult taskResult = (TaskSuccessResult) finishEvent.getResult();
-                if (taskResult.isFromCache()) {
-                    task.append(" FROM-CACHE");
-                } else if (taskResult.isUpToDate()) {
-                    task.append(" UP-TO-DATE");
-                }
-            }
+        if (outcome == OperationItem.Outcome.FROM_CACHE) {
+            task.append(" FROM-CACHE");
+        } else if (outcome == OperationItem.Outcome.UP_TO_DATE) {
+            task.append(" UP-TO-DATE");
         }
         return task.toString();
     }
@@ -145,16 +132,18 @@ public final class ExecutionPageNameLabelProvider extends LabelProvider implemen
     }
 
     private Image calculateImage(OperationItem operationItem) {
-        if (operationItem.getFinishEvent() != null) {
-            OperationResult result = operationItem.getFinishEvent().getResult();
-            if (result instanceof FailureResult) {
-                return PluginImages.OPERATION_FAILURE.withState(PluginImage.ImageState.ENABLED).getImage();
-            } else if (result instanceof SkippedResult) {
-                return PluginImages.OPERATION_SKIPPED.withState(PluginImage.ImageState.ENABLED).getImage();
-            } else if (result instanceof SuccessResult) {
-                return PluginImages.OPERATION_SUCCESS.withState(PluginImage.ImageState.ENABLED).getImage();
-            } else {
-                return null;
+        if (operationItem.isFinished()) {
+            switch (operationItem.getOutcome()) {
+                case FAILURE:
+                    return PluginImages.OPERATION_FAILURE.withState(PluginImage.ImageState.ENABLED).getImage();
+                case SKIPPED:
+                    return PluginImages.OPERATION_SKIPPED.withState(PluginImage.ImageState.ENABLED).getImage();
+                case SUCCESS:
+                case UP_TO_DATE:
+                case FROM_CACHE:
+                    return PluginImages.OPERATION_SUCCESS.withState(PluginImage.ImageState.ENABLED).getImage();
+                default:
+                    return null;
             }
         } else {
             return PluginImages.OPERATION_IN_PROGRESS.withState(PluginImage.ImageState.ENABLED).getImage();
@@ -28,14 +28,22 @@ public final class ExecutionViewMessages extends NLS {
     public static String Tree_Item_Operation_Running_For_0_Sec_Text;
     public static String Tree_Item_Operation_Finished_In_0_Sec_Text;
 
+    public static String Table_Column_Test_Text;
+    public static String Table_Column_Failure_Text;
+
+    public static String Menu_TestHistory_Text;
+    public static String Menu_TestHistory_Empty_Text;
+
     public static String Action_RunTest_Text;
     public static String Action_ShowFailure_Text;
     public static String Action_OpenTestSourceFile_Text;
+    public static String Action_OpenTestHistoryPage_Text;
 
     public static String Action_SwitchExecutionPage_Tooltip;
     public static String Action_RemoveExecutionPage_Tooltip;
     public static String Action_RemoveAllExecutionPages_Tooltip;
     public static String Action_SwitchToConsole_Tooltip;
+    public static String Action_RemoveTestHistoryPage_Tooltip;
 
     public static String Dialog_Failure_Title;
     public static String Dialog_Failure_Back_Tooltip;
@@ -11,11 +11,19 @@
 
 package org.eclipse.buildship.ui.internal.view.execution;
 
+import java.util.List;
+
 import org.gradle.tooling.LongRunningOperation;
 
+import com.google.common.collect.FluentIterable;
+
+import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.ActionContributionItem;
 import org.eclipse.jface.action.IContributionItem;
+import org.eclipse.jface.action.IMenuListener;
+import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.action.MenuManager;
 import org.eclipse.ui.IViewSite;
 import org.eclipse.ui.PartInitException;
 
@@ -51,6 +59,33 @@ public final class ExecutionsView extends MultiPageView {
         // add actions to the global toolbar of the executions view
         IToolBarManager toolBarManager = site.getActionBars().getToolBarManager();
         toolBarManager.appendToGroup(PART_GROUP, this.switchPagesAction);
+
+        // add the past test runs to the view menu, the history is read each time the menu is shown
+        MenuManager testHistoryMenu = new MenuManager(ExecutionViewMessages.Menu_TestHistory_Text);
+        testHistoryMenu.setRemoveAllWhenShown(true);
+        testHistoryMenu.addMenuListener(new IMenuListener() {
+
+            @Override
+            public void menuAboutToShow(IMenuManager manager) {
+                fillTestHistoryMenu(manager);
+            }
+        });
+        fillTestHistoryMenu(testHistoryMenu);
+        site.getActionBars().getMenuManager().add(testHistoryMenu);
+    }
+
+    private void fillTestHistoryMenu(IMenuManager manager) {
+        List<TestRunSummary> runs = TestHistory.getDefault().loadRuns();
+        if (runs.isEmpty()) {
+            Action placeholder = new Action(ExecutionViewMessages.Menu_TestHistory_Empty_Text) {
+            };
+            placeholder.setEnabled(false);
+            manager.add(placeholder);
+        } else {
+            for (TestRunSummary run : runs) {
+                manager.add(new OpenTestHistoryPageAction(this, run));
+            }
+        }
     }
 
     @Override
@@ -70,6 +105,19 @@ public final class ExecutionsView extends MultiPageView {
         switchToPage(executionPage);
     }
 
+    public void showTestHistoryPage(TestRunSummary run) {
+        for (TestHistoryPage page : FluentIterable.from(getPages()).filter(TestHistoryPage.class)) {
+            if (page.getRun().getFileName().equals(run.getFileName())) {
+                switchToPage(page);
+                return;
+            }
+        }
+
+        TestHistoryPage testHistoryPage = new TestHistoryPage(TestHistory.getDefault(), run, this.state);
+        addPage(testHistoryPage);
+        switchToPage(testHistoryPage);
+    }
+
     @Override
     public void dispose() {
         if (this.state != null) {
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.view.execution;
+
+import java.text.DecimalFormat;
+
+import com.google.common.base.Preconditions;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Shows the test results of a past build execution in a {@link TestHistoryPage}.
+ */
+public final class OpenTestHistoryPageAction extends Action {
+
+    private final ExecutionsView view;
+    private final TestRunSummary run;
+
+    public OpenTestHistoryPageAction(ExecutionsView view, TestRunSummary run) {
+        this.view = Preconditions.checkNotNull(view);
+        this.run = Preconditions.checkNotNull(run);
+
+        String duration = new DecimalFormat("#0.000").format((run.getEndTime() - run.getStartTime()) / 1000.0);
+        setText(NLS.bind(ExecutionViewMessages.Action_OpenTestHistoryPage_Text, new Object[] { run.getProcessName(), run.getTestCount(), run.getFailedTestCount(), duration }));
+    }
+
+    @Override
+    public void run() {
+        this.view.showTestHistoryPage(this.run);
+    }
+
+}
@@ -11,15 +11,23 @@
 
 package org.eclipse.buildship.ui.internal.view.execution;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
+import org.gradle.tooling.events.FailureResult;
 import org.gradle.tooling.events.FinishEvent;
 import org.gradle.tooling.events.OperationDescriptor;
+import org.gradle.tooling.events.OperationResult;
+import org.gradle.tooling.events.SkippedResult;
 import org.gradle.tooling.events.StartEvent;
+import org.gradle.tooling.events.SuccessResult;
+import org.gradle.tooling.events.task.TaskSuccessResult;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.Platform;
@@ -31,6 +39,13 @@ import org.eclipse.buildship.ui.internal.view.ObservableItem;
  * {@code OperationItem} instances are the nodes added to the trees of the
  * {@link org.eclipse.buildship.ui.internal.view.execution.ExecutionsView}.
  * </p>
+ * <p>
+ * A build can emit tens of thousands of operations, so the items only keep the data presented in
+ * the view: the descriptor, the start and end time and the outcome of the operation. The finish
+ * event is only retained for failed operations, as the failure details are shown on demand. The
+ * children are appended and removed in constant time; the removed children are dropped from the
+ * list the next time the children are accessed.
+ * </p>
  * <pre>
  * ISelection selection = HandlerUtil.getCurrentSelection(event);
  * if (selection instanceof IStructuredSelection) {
@@ -46,78 +61,171 @@ import org.eclipse.buildship.ui.internal.view.ObservableItem;
  */
 public final class OperationItem extends ObservableItem implements IAdaptable {
 
-    private final StartEvent startEvent;
-    private FinishEvent finishEvent;
-    private String name;
+    /**
+     * The outcome of a finished operation.
+     */
+    public enum Outcome {
+        SUCCESS, UP_TO_DATE, FROM_CACHE, SKIPPED, FAILURE, UNKNOWN;
+
+        public static Outcome from(OperationResult result) {
+            if (result instanceof FailureResult) {
+                return FAILURE;
+            } else if (result instanceof SkippedResult) {
+                return SKIPPED;
+            } else if (result instanceof TaskSuccessResult) {
+                TaskSuccessResult taskResult = (TaskSuccessResult) result;
+                if (taskResult.isFromCache()) {
+                    return FROM_CACHE;
+                } else if (taskResult.isUpToDate()) {
+                    return UP_TO_DATE;
+                } else {
+                    return SUCCESS;
+                }
+            } else if (result instanceof SuccessResult) {
+                return SUCCESS;
+            } else {
+                return UNKNOWN;
+            }
+        }
+    }
+
+    private final OperationDescriptor descriptor;
+    private long startTime;
+    private long endTime;
+    private Outcome outcome;
+    private FinishEvent failureEvent;
     private OperationItem parent;
+    private boolean removed;
     private List<OperationItem> children;
+    private int removedChildCount;
 
     public OperationItem() {
-        this.startEvent = null;
-        this.finishEvent = null;
-        this.name = null;
-        this.children = Lists.newArrayList();
+        this.descriptor = null;
     }
 
     public OperationItem(StartEvent startEvent) {
-        this.startEvent = Preconditions.checkNotNull(startEvent);
-        this.finishEvent = null;
-        this.name = startEvent.getDescriptor().getDisplayName();
-        this.children = Lists.newArrayList();
+        Preconditions.checkNotNull(startEvent);
+        this.descriptor = startEvent.getDescriptor();
+        this.startTime = startEvent.getEventTime();
     }
 
-    public StartEvent getStartEvent() {
-        return this.startEvent;
+    /**
+     * @return the descriptor of the operation or {@code null} for the root item
+     */
+    public OperationDescriptor getDescriptor() {
+        return this.descriptor;
     }
 
-    public FinishEvent getFinishEvent() {
-        return this.finishEvent;
+    public long getStartTime() {
+        return this.startTime;
     }
 
-    public void setFinishEvent(FinishEvent finishEvent) {
-        this.finishEvent = finishEvent;
+    public long getEndTime() {
+        return this.endTime;
     }
 
-    public String getName() {
-        return this.name;
+    public boolean isFinished() {
+        return this.outcome != null;
     }
 
-    public List<OperationItem> getChildren() {
-        return ImmutableList.copyOf(this.children);
+    /**
+     * @return the outcome of the operation or {@code null} if the operation is still running
+     */
+    public Outcome getOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * @return the finish event of the operation if it failed, {@code null} otherwise
+     */
+    public FinishEvent getFailureEvent() {
+        return this.failureEvent;
+    }
+
+    public void setFinishEvent(FinishEvent finishEvent) {
+        OperationResult result = finishEvent.getResult();
+        this.startTime = result.getStartTime();
+        this.endTime = result.getEndTime();
+        this.outcome = Outcome.from(result);
+        this.failureEvent = this.outcome == Outcome.FAILURE ? finishEvent : null;
+    }
+
+    public String getName() {
+        return this.descriptor != null ? this.descriptor.getDisplayName() : null;
     }
 
     public OperationItem getParent() {
         return this.parent;
     }
 
+    public boolean hasChildren() {
+        return getChildCount() > 0;
+    }
+
+    public int getChildCount() {
+        return this.children == null ? 0 : this.children.size() - this.removedChildCount;
+    }
+
+    public OperationItem getChild(int index) {
+        compactChildren();
+        return this.children.get(index);
+    }
+
+    public List<OperationItem> getChildren() {
+        compactChildren();
+        return this.children == null ? ImmutableList.<OperationItem>of() : ImmutableList.copyOf(this.children);
+    }
+
     public void addChild(OperationItem operationItem) {
-        if (!this.children.contains(operationItem)) {
-            List<OperationItem> children = Lists.newArrayList(this.children);
-            children.add(operationItem);
-            setChildren(children);
+        if (operationItem.parent == this) {
+            // a removed child is still in the list until the next compaction
+            if (operationItem.removed) {
+                operationItem.removed = false;
+                this.removedChildCount--;
+            }
+            return;
+        }
+
+        if (operationItem.parent != null) {
+            operationItem.parent.removeChild(operationItem);
+        }
+        if (this.children == null) {
+            this.children = new ArrayList<>();
         }
+        this.children.add(operationItem);
+        operationItem.parent = this;
+        operationItem.removed = false;
     }
 
     public void removeChild(OperationItem operationItem) {
-        if (this.children.contains(operationItem)) {
-            List<OperationItem> children = Lists.newArrayList(this.children);
-            children.remove(operationItem);
-            setChildren(children);
+        if (operationItem.parent == this && !operationItem.removed) {
+            operationItem.removed = true;
+            this.removedChildCount++;
         }
     }
 
-    private void setChildren(List<OperationItem> children) {
-        for (OperationItem child : children) {
-            child.parent = this;
+    private void compactChildren() {
+        if (this.removedChildCount > 0) {
+            // a child moved away and added back has a stale entry before its current one; only the last entry is kept
+            Set<OperationItem> retained = Sets.newIdentityHashSet();
+            List<OperationItem> compacted = new ArrayList<>(this.children.size() - this.removedChildCount);
+            for (int i = this.children.size() - 1; i >= 0; i--) {
+                OperationItem child = this.children.get(i);
+                if (child.parent == this && !child.removed && retained.add(child)) {
+                    compacted.add(child);
+                }
+            }
+            Collections.reverse(compacted);
+            this.children = compacted;
+            this.removedChildCount = 0;
         }
-        this.children = children;
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     @Override
     public Object getAdapter(Class adapter) {
         if (OperationDescriptor.class.equals(adapter)) {
-            return this.startEvent.getDescriptor();
+            return this.descriptor;
         } else {
             return Platform.getAdapterManager().getAdapter(this, adapter);
         }
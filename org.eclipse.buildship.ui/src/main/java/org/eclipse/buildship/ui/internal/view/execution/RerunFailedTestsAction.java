@@ -11,7 +11,9 @@
 
 package org.eclipse.buildship.ui.internal.view.execution;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.gradle.tooling.events.test.JvmTestKind;
 import org.gradle.tooling.events.test.JvmTestOperationDescriptor;
@@ -29,10 +31,16 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.jface.action.Action;
 
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
 import org.eclipse.buildship.core.internal.configuration.RunConfiguration;
+import org.eclipse.buildship.core.internal.launch.RunGradleJvmTestLaunchRequestJob;
 import org.eclipse.buildship.core.internal.launch.RunGradleTestLaunchRequestJob;
+import org.eclipse.buildship.core.internal.launch.TestName;
+import org.eclipse.buildship.core.internal.launch.TestTarget;
 import org.eclipse.buildship.ui.internal.PluginImage.ImageState;
 import org.eclipse.buildship.ui.internal.PluginImages;
+import org.eclipse.buildship.ui.internal.UiPlugin;
 import org.eclipse.buildship.ui.internal.i18n.UiMessages;
 import org.eclipse.buildship.ui.internal.util.gradle.GradleUtils;
 
@@ -42,19 +50,36 @@ import org.eclipse.buildship.ui.internal.util.gradle.GradleUtils;
  * Note: we listen for removals of {@code ILaunchConfiguration} instances even though not every {@code ProcessDescription} implementation
  * is necessarily backed by a launch configuration. This means that in the worst case, {@code ProcessDescription#isRerunnable()} is invoked
  * unnecessarily (which does no harm).
+ * <p/>
+ * The failed tests of a past run shown in a {@link TestHistoryPage} are rerun by their class and
+ * method names with the default run configuration of the build, as neither the test operation
+ * descriptors nor the original run configuration are stored in the {@link TestHistory}.
  */
 public final class RerunFailedTestsAction extends Action {
 
     private final ExecutionPage page;
+    private final TestHistoryPage testHistoryPage;
 
     public RerunFailedTestsAction(ExecutionPage executionPage) {
         this.page = Preconditions.checkNotNull(executionPage);
+        this.testHistoryPage = null;
+
+        initAppearance();
+        registerJobChangeListener();
+    }
+
+    public RerunFailedTestsAction(TestHistoryPage testHistoryPage) {
+        this.page = null;
+        this.testHistoryPage = Preconditions.checkNotNull(testHistoryPage);
 
+        initAppearance();
+        setEnabled(testHistoryPage.getRun().getRootProjectDirectory().exists() && !collectFailedTestNames().isEmpty());
+    }
+
+    private void initAppearance() {
         setToolTipText(UiMessages.Action_RerunFailedTests_Tooltip);
         setImageDescriptor(PluginImages.RERUN_FAILED_TESTS.withState(ImageState.ENABLED).getImageDescriptor());
         setDisabledImageDescriptor(PluginImages.RERUN_FAILED_TESTS.withState(ImageState.DISABLED).getImageDescriptor());
-
-        registerJobChangeListener();
     }
 
     private void registerJobChangeListener() {
@@ -75,6 +100,14 @@ public final class RerunFailedTestsAction extends Action {
 
     @Override
     public void run() {
+        if (this.testHistoryPage != null) {
+            rerunFailedTestsOfPastRun();
+        } else {
+            rerunFailedTests();
+        }
+    }
+
+    private void rerunFailedTests() {
         List<TestOperationDescriptor> failedTests = collectFailedTests();
         List<TestOperationDescriptor> filteredFailedTests = GradleUtils.filterChildren(failedTests);
         RunConfiguration runConfig = this.page.getProcessDescription().getRunConfig();
@@ -91,14 +124,38 @@ public final class RerunFailedTestsAction extends Action {
         }).transform(new Function<OperationItem, TestOperationDescriptor>() {
             @Override
             public TestOperationDescriptor apply(OperationItem operationItem) {
-                return (JvmTestOperationDescriptor) operationItem.getFinishEvent().getDescriptor();
+                return (JvmTestOperationDescriptor) operationItem.getDescriptor();
             }
         }).toList();
     }
 
+    private void rerunFailedTestsOfPastRun() {
+        TestRunSummary run = this.testHistoryPage.getRun();
+        try {
+            BuildConfiguration buildConfig = CorePlugin.configurationManager().loadBuildConfiguration(run.getRootProjectDirectory());
+            RunConfiguration runConfig = CorePlugin.configurationManager().createDefaultRunConfiguration(buildConfig);
+            RunGradleJvmTestLaunchRequestJob job = new RunGradleJvmTestLaunchRequestJob(collectFailedTestNames(), runConfig);
+            job.schedule();
+        } catch (RuntimeException e) {
+            UiPlugin.logger().warn(String.format("Cannot rerun the failed tests of %s", run.getProcessName()), e);
+        }
+    }
+
+    private ImmutableList<TestTarget> collectFailedTestNames() {
+        // a parameterized test method can fail several times, but it has to be rerun only once
+        Map<String, TestTarget> failedTests = new LinkedHashMap<>();
+        for (TestResult result : this.testHistoryPage.getResults()) {
+            if (result.getOutcome() == OperationItem.Outcome.FAILURE) {
+                TestName testName = result.toTestName();
+                failedTests.put(testName.getQualifiedName(), testName);
+            }
+        }
+        return ImmutableList.copyOf(failedTests.values());
+    }
+
     private boolean isFailedJvmTest(OperationItem operationItem) {
-        if (operationItem.getFinishEvent() instanceof TestFinishEvent) {
-            TestFinishEvent testFinishEvent = (TestFinishEvent) operationItem.getFinishEvent();
+        if (operationItem.getFailureEvent() instanceof TestFinishEvent) {
+            TestFinishEvent testFinishEvent = (TestFinishEvent) operationItem.getFailureEvent();
             if (testFinishEvent.getResult() instanceof TestFailureResult && testFinishEvent.getDescriptor() instanceof JvmTestOperationDescriptor) {
                 JvmTestOperationDescriptor descriptor = (JvmTestOperationDescriptor) testFinishEvent.getDescriptor();
                 if (descriptor.getJvmTestKind() == JvmTestKind.ATOMIC || descriptor.getJvmTestKind() == JvmTestKind.UNKNOWN) {
@@ -22,7 +22,6 @@ import org.eclipse.buildship.ui.internal.util.nodeselection.SelectionSpecificAct
 import org.eclipse.jface.action.Action;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.PlatformUI;
-import org.gradle.tooling.events.FailureResult;
 import org.gradle.tooling.events.FinishEvent;
 
 import java.util.List;
@@ -58,8 +57,8 @@ public final class ShowFailureAction extends Action implements SelectionSpecific
         List<FinishEvent> result = Lists.newArrayList();
         ImmutableList<OperationItem> operationItems = selection.toList(OperationItem.class);
         for (OperationItem operationItem : operationItems) {
-            FinishEvent finishEvent = operationItem.getFinishEvent();
-            if (finishEvent != null && finishEvent.getResult() instanceof FailureResult) {
+            FinishEvent finishEvent = operationItem.getFailureEvent();
+            if (finishEvent != null) {
                 result.add(finishEvent);
             }
         }
@@ -81,8 +80,7 @@ public final class ShowFailureAction extends Action implements SelectionSpecific
         return FluentIterable.from(operationItems).anyMatch(new Predicate<OperationItem>() {
             @Override
             public boolean apply(OperationItem operationItem) {
-                FinishEvent finishEvent = operationItem.getFinishEvent();
-                return finishEvent != null && finishEvent.getResult() instanceof FailureResult;
+                return operationItem.getFailureEvent() != null;
             }
         });
     }
@@ -102,8 +100,7 @@ public final class ShowFailureAction extends Action implements SelectionSpecific
         return FluentIterable.from(operationItems).allMatch(new Predicate<OperationItem>() {
             @Override
             public boolean apply(OperationItem operationItem) {
-                FinishEvent finishEvent = operationItem.getFinishEvent();
-                return finishEvent != null && finishEvent.getResult() instanceof FailureResult;
+                return operationItem.getFailureEvent() != null;
             }
         });
     }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.view.execution;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import org.eclipse.buildship.ui.internal.UiPlugin;
+
+/**
+ * Stores the test results of the build executions under the state location of the UI plugin, so
+ * the results of the past runs are available without keeping their execution pages open.
+ * <p/>
+ * Each run has its own append-only file written by a {@link TestHistoryWriter} while the build is
+ * running. A test is stored as a fixed sequence of fields; the class, method and display names are
+ * written once per run and are referenced by their index afterwards. When the build finishes, its
+ * {@link TestRunSummary} is appended to the index file; listing the past runs only reads the index.
+ * The history keeps the last {@value #MAX_RUNS} runs. The run files missing from the index, left
+ * behind by builds that were interrupted by a crash or an exit, are deleted when the history is
+ * opened and when the old runs are removed.
+ */
+public final class TestHistory {
+
+    static final int MAGIC = 0x47544831;
+    static final int NULL_STRING = -1;
+    static final int NEW_STRING = -2;
+
+    private static final int MAX_RUNS = 50;
+    private static final String INDEX_FILE_NAME = "runs.index";
+    private static final String RUN_FILE_SUFFIX = ".tests";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_STRING_LENGTH = 4096;
+
+    private static TestHistory instance;
+
+    private final File directory;
+    private final Set<String> recordedRunFiles = new HashSet<>();
+
+    TestHistory(File directory) {
+        this.directory = Preconditions.checkNotNull(directory);
+    }
+
+    /**
+     * Returns the history stored under the state location of the UI plugin.
+     *
+     * @return the test history
+     */
+    public static synchronized TestHistory getDefault() {
+        if (instance == null) {
+            instance = new TestHistory(UiPlugin.getInstance().getStateLocation().append("test-history").toFile());
+            instance.deleteUnindexedRunFiles();
+        }
+        return instance;
+    }
+
+    /**
+     * Creates a writer recording the test results of a new run. Nothing is stored unless the
+     * build executes tests.
+     *
+     * @param processName the name of the build execution
+     * @param rootProjectDirectory the root project directory of the build
+     * @return the new writer
+     */
+    public TestHistoryWriter startRun(String processName, File rootProjectDirectory) {
+        return new TestHistoryWriter(this, processName, rootProjectDirectory, System.currentTimeMillis());
+    }
+
+    synchronized File createRunFile() throws IOException {
+        this.directory.mkdirs();
+        File file = File.createTempFile("run-", RUN_FILE_SUFFIX, this.directory);
+        this.recordedRunFiles.add(file.getName());
+        return file;
+    }
+
+    synchronized void releaseRunFile(File file) {
+        this.recordedRunFiles.remove(file.getName());
+    }
+
+    /**
+     * Deletes the run files that are neither in the index nor being recorded.
+     */
+    synchronized void deleteUnindexedRunFiles() {
+        Set<String> keptFiles = new HashSet<>(this.recordedRunFiles);
+        for (TestRunSummary run : loadRuns()) {
+            keptFiles.add(run.getFileName());
+        }
+        File[] files = this.directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().endsWith(RUN_FILE_SUFFIX) && !keptFiles.contains(file.getName())) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the completed runs, the most recent run first.
+     *
+     * @return the summaries of the stored runs
+     */
+    public synchronized List<TestRunSummary> loadRuns() {
+        File indexFile = new File(this.directory, INDEX_FILE_NAME);
+        if (!indexFile.exists()) {
+            return ImmutableList.of();
+        }
+
+        List<TestRunSummary> runs = new ArrayList<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            while (true) {
+                runs.add(new TestRunSummary(input.readUTF(), input.readUTF(), new File(input.readUTF()), input.readLong(), input.readLong(), input.readInt(), input.readInt()));
+            }
+        } catch (EOFException e) {
+            // end of the index; a run interrupted while being recorded is dropped
+        } catch (IOException e) {
+            UiPlugin.logger().warn(String.format("Cannot read test history index %s", indexFile), e);
+        }
+        return Lists.reverse(runs);
+    }
+
+    /**
+     * Loads the test results of a run.
+     *
+     * @param run the run to load
+     * @return the test results in the order in which the tests finished
+     */
+    public List<TestResult> loadResults(TestRunSummary run) {
+        File file = new File(this.directory, run.getFileName());
+        List<TestResult> results = new ArrayList<>(run.getTestCount());
+        List<String> strings = new ArrayList<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE))) {
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Unknown test history format");
+            }
+            while (true) {
+                String className = readString(input, strings);
+                String methodName = readString(input, strings);
+                String displayName = readString(input, strings);
+                long duration = input.readLong();
+                OperationItem.Outcome outcome = OperationItem.Outcome.values()[input.readByte()];
+                String failureDigest = readString(input, strings);
+                results.add(new TestResult(className, methodName, displayName, duration, outcome, failureDigest));
+            }
+        } catch (EOFException e) {
+            // end of the run
+        } catch (IOException | RuntimeException e) {
+            UiPlugin.logger().warn(String.format("Cannot read test history file %s", file), e);
+        }
+        return results;
+    }
+
+    private static String readString(DataInputStream input, List<String> strings) throws IOException {
+        int index = input.readInt();
+        if (index == NULL_STRING) {
+            return null;
+        } else if (index == NEW_STRING) {
+            String string = input.readUTF();
+            strings.add(string);
+            return string;
+        } else {
+            return strings.get(index);
+        }
+    }
+
+    synchronized void addRun(TestRunSummary run) {
+        File indexFile = new File(this.directory, INDEX_FILE_NAME);
+        try {
+            writeIndex(indexFile, ImmutableList.of(run), true);
+            List<TestRunSummary> runs = loadRuns();
+            if (runs.size() > MAX_RUNS) {
+                removeRuns(indexFile, runs);
+            }
+        } catch (IOException e) {
+            UiPlugin.logger().warn(String.format("Cannot write test history index %s", indexFile), e);
+        }
+    }
+
+    private void removeRuns(File indexFile, List<TestRunSummary> runs) throws IOException {
+        File newIndexFile = new File(this.directory, INDEX_FILE_NAME + ".new");
+        writeIndex(newIndexFile, Lists.reverse(runs.subList(0, MAX_RUNS)), false);
+        if (!indexFile.delete() || !newIndexFile.renameTo(indexFile)) {
+            throw new IOException("Cannot replace " + indexFile);
+        }
+        deleteUnindexedRunFiles();
+    }
+
+    private static void writeIndex(File indexFile, List<TestRunSummary> runs, boolean append) throws IOException {
+        indexFile.getParentFile().mkdirs();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile, append)))) {
+            for (TestRunSummary run : runs) {
+                output.writeUTF(run.getFileName());
+                output.writeUTF(truncate(run.getProcessName()));
+                output.writeUTF(run.getRootProjectDirectory().getAbsolutePath());
+                output.writeLong(run.getStartTime());
+                output.writeLong(run.getEndTime());
+                output.writeInt(run.getTestCount());
+                output.writeInt(run.getFailedTestCount());
+            }
+        }
+    }
+
+    static String truncate(String string) {
+        // keep the strings well below the 64k limit of the modified UTF-8 encoding
+        return string.length() > MAX_STRING_LENGTH ? string.substring(0, MAX_STRING_LENGTH) : string;
+    }
+
+}
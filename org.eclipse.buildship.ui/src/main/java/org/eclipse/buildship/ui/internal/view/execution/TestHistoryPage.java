@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.view.execution;
+
+import java.text.DecimalFormat;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.action.Separator;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+
+import org.eclipse.buildship.ui.internal.PluginImage;
+import org.eclipse.buildship.ui.internal.PluginImages;
+import org.eclipse.buildship.ui.internal.view.BasePage;
+import org.eclipse.buildship.ui.internal.view.MultiPageView;
+import org.eclipse.buildship.ui.internal.view.PageSite;
+import org.eclipse.buildship.ui.internal.view.RemovePageAction;
+
+/**
+ * Displays the test results of a past build execution stored in the {@link TestHistory}.
+ * <p/>
+ * The results are loaded when the page is created and are released when the page is removed.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class TestHistoryPage extends BasePage<Table> {
+
+    private final TestHistory history;
+    private final TestRunSummary run;
+    private final ExecutionViewState state;
+
+    private TableViewer viewer;
+    private List<TestResult> results;
+
+    public TestHistoryPage(TestHistory history, TestRunSummary run, ExecutionViewState state) {
+        this.history = Preconditions.checkNotNull(history);
+        this.run = Preconditions.checkNotNull(run);
+        this.state = Preconditions.checkNotNull(state);
+        this.results = ImmutableList.of();
+    }
+
+    public TestRunSummary getRun() {
+        return this.run;
+    }
+
+    /**
+     * @return the results of the test methods executed in the run
+     */
+    public List<TestResult> getResults() {
+        return this.results;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return this.run.getProcessName();
+    }
+
+    @Override
+    public Table createPageWithResult(Composite parent) {
+        this.results = this.history.loadResults(this.run);
+
+        // the table items are only materialized when they become visible
+        this.viewer = new TableViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION | SWT.VIRTUAL);
+        this.viewer.getTable().setHeaderVisible(true);
+        this.viewer.setContentProvider(ArrayContentProvider.getInstance());
+        this.viewer.setLabelProvider(new TestResultLabelProvider());
+
+        createColumn(ExecutionViewMessages.Table_Column_Test_Text, SWT.NONE, this.state.getHeaderNameColumnWidth());
+        createColumn(ExecutionViewMessages.Tree_Column_Operation_Duration_Text, SWT.RIGHT, this.state.getHeaderDurationColumnWidth());
+        createColumn(ExecutionViewMessages.Table_Column_Failure_Text, SWT.NONE, this.state.getHeaderNameColumnWidth());
+
+        this.viewer.setInput(this.results);
+        return this.viewer.getTable();
+    }
+
+    private void createColumn(String text, int style, int width) {
+        TableViewerColumn column = new TableViewerColumn(this.viewer, style);
+        column.getColumn().setText(text);
+        column.getColumn().setWidth(width);
+    }
+
+    @Override
+    public void init(PageSite pageSite) {
+        super.init(pageSite);
+
+        IToolBarManager toolbarManager = getSite().getActionBars().getToolBarManager();
+        toolbarManager.appendToGroup(MultiPageView.PAGE_GROUP, new RerunFailedTestsAction(this));
+        toolbarManager.appendToGroup(MultiPageView.PAGE_GROUP, new Separator());
+        toolbarManager.appendToGroup(MultiPageView.PAGE_GROUP, new RemovePageAction(this, ExecutionViewMessages.Action_RemoveTestHistoryPage_Tooltip));
+        toolbarManager.update(true);
+    }
+
+    @Override
+    public Object getAdapter(Class adapter) {
+        if (adapter.isAssignableFrom(TableViewer.class)) {
+            // isAssignableFrom also applies for the ISelectionProvider interface
+            return this.viewer;
+        }
+        return Platform.getAdapterManager().getAdapter(this, adapter);
+    }
+
+    @Override
+    public void dispose() {
+        this.results = ImmutableList.of();
+        super.dispose();
+    }
+
+    /**
+     * Label provider for the test, duration and failure columns.
+     */
+    private static final class TestResultLabelProvider extends LabelProvider implements ITableLabelProvider {
+
+        private final DecimalFormat durationFormat = new DecimalFormat("#0.000");
+
+        @Override
+        public Image getColumnImage(Object element, int columnIndex) {
+            if (columnIndex != 0) {
+                return null;
+            }
+
+            switch (((TestResult) element).getOutcome()) {
+                case FAILURE:
+                    return PluginImages.OPERATION_FAILURE.withState(PluginImage.ImageState.ENABLED).getImage();
+                case SKIPPED:
+                    return PluginImages.OPERATION_SKIPPED.withState(PluginImage.ImageState.ENABLED).getImage();
+                default:
+                    return PluginImages.OPERATION_SUCCESS.withState(PluginImage.ImageState.ENABLED).getImage();
+            }
+        }
+
+        @Override
+        public String getColumnText(Object element, int columnIndex) {
+            TestResult result = (TestResult) element;
+            switch (columnIndex) {
+                case 0:
+                    return result.getClassName() + " > " + result.getDisplayName();
+                case 1:
+                    return NLS.bind(ExecutionViewMessages.Tree_Item_Operation_Finished_In_0_Sec_Text, this.durationFormat.format(result.getDuration() / 1000.0));
+                default:
+                    return result.getFailureDigest() != null ? result.getFailureDigest() : "";
+            }
+        }
+
+    }
+
+}
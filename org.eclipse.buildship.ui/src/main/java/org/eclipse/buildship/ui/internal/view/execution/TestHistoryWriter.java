@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.view.execution;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gradle.tooling.Failure;
+import org.gradle.tooling.events.OperationResult;
+import org.gradle.tooling.events.ProgressEvent;
+import org.gradle.tooling.events.ProgressListener;
+import org.gradle.tooling.events.test.JvmTestKind;
+import org.gradle.tooling.events.test.JvmTestOperationDescriptor;
+import org.gradle.tooling.events.test.TestFailureResult;
+import org.gradle.tooling.events.test.TestFinishEvent;
+
+import com.google.common.base.Preconditions;
+
+import org.eclipse.buildship.ui.internal.UiPlugin;
+
+/**
+ * Appends the results of the finished test methods of a build to the {@link TestHistory}.
+ * <p/>
+ * The results are written in the thread delivering the progress events; the file is only created
+ * when the first test finishes. The run is added to the history when {@link #finish()} is called.
+ */
+public final class TestHistoryWriter implements ProgressListener {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TestHistory history;
+    private final String processName;
+    private final File rootProjectDirectory;
+    private final long startTime;
+    private final Map<String, Integer> strings;
+
+    private File file;
+    private DataOutputStream output;
+    private int testCount;
+    private int failedTestCount;
+    private boolean finished;
+
+    TestHistoryWriter(TestHistory history, String processName, File rootProjectDirectory, long startTime) {
+        this.history = Preconditions.checkNotNull(history);
+        this.processName = Preconditions.checkNotNull(processName);
+        this.rootProjectDirectory = Preconditions.checkNotNull(rootProjectDirectory);
+        this.startTime = startTime;
+        this.strings = new HashMap<>();
+    }
+
+    @Override
+    public synchronized void statusChanged(ProgressEvent event) {
+        if (this.finished || !(event instanceof TestFinishEvent) || !(event.getDescriptor() instanceof JvmTestOperationDescriptor)) {
+            return;
+        }
+
+        // only the test methods are recorded, the suites are aggregates of their children
+        JvmTestOperationDescriptor descriptor = (JvmTestOperationDescriptor) event.getDescriptor();
+        if (descriptor.getClassName() == null || descriptor.getJvmTestKind() == JvmTestKind.SUITE) {
+            return;
+        }
+
+        OperationResult result = ((TestFinishEvent) event).getResult();
+        OperationItem.Outcome outcome = OperationItem.Outcome.from(result);
+        try {
+            if (this.output == null) {
+                this.file = this.history.createRunFile();
+                this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file), BUFFER_SIZE));
+                this.output.writeInt(TestHistory.MAGIC);
+            }
+            writeString(descriptor.getClassName());
+            writeString(descriptor.getMethodName());
+            writeString(descriptor.getDisplayName());
+            this.output.writeLong(result.getEndTime() - result.getStartTime());
+            this.output.writeByte(outcome.ordinal());
+            writeString(outcome == OperationItem.Outcome.FAILURE ? failureDigest(result) : null);
+        } catch (IOException e) {
+            // the build is not affected, only the history of this run is abandoned
+            UiPlugin.logger().warn(String.format("Cannot write test history file %s", this.file), e);
+            abandon();
+            return;
+        }
+
+        this.testCount++;
+        if (outcome == OperationItem.Outcome.FAILURE) {
+            this.failedTestCount++;
+        }
+    }
+
+    private void writeString(String string) throws IOException {
+        if (string == null) {
+            this.output.writeInt(TestHistory.NULL_STRING);
+            return;
+        }
+
+        Integer index = this.strings.get(string);
+        if (index != null) {
+            this.output.writeInt(index);
+        } else {
+            this.strings.put(string, this.strings.size());
+            this.output.writeInt(TestHistory.NEW_STRING);
+            this.output.writeUTF(TestHistory.truncate(string));
+        }
+    }
+
+    private static String failureDigest(OperationResult result) {
+        List<? extends Failure> failures = result instanceof TestFailureResult ? ((TestFailureResult) result).getFailures() : null;
+        String message = failures != null && !failures.isEmpty() ? failures.get(0).getMessage() : null;
+        if (message == null) {
+            return "";
+        }
+        int endOfLine = message.indexOf('\n');
+        return (endOfLine >= 0 ? message.substring(0, endOfLine) : message).trim();
+    }
+
+    /**
+     * Closes the file of the run and adds the run to the history if it executed any tests.
+     */
+    public synchronized void finish() {
+        if (this.finished) {
+            return;
+        }
+
+        this.finished = true;
+        if (this.output != null) {
+            try {
+                this.output.close();
+            } catch (IOException e) {
+                UiPlugin.logger().warn(String.format("Cannot write test history file %s", this.file), e);
+                abandon();
+                return;
+            }
+            this.history.addRun(new TestRunSummary(this.file.getName(), this.processName, this.rootProjectDirectory, this.startTime, System.currentTimeMillis(),
+                    this.testCount, this.failedTestCount));
+            this.history.releaseRunFile(this.file);
+        }
+    }
+
+    private void abandon() {
+        this.finished = true;
+        if (this.output != null) {
+            try {
+                this.output.close();
+            } catch (IOException ignore) {
+            }
+        }
+        if (this.file != null) {
+            this.file.delete();
+            this.history.releaseRunFile(this.file);
+        }
+    }
+
+}
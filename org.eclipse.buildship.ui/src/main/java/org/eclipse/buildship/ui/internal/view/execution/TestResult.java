@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.view.execution;
+
+import com.google.common.base.Preconditions;
+
+import org.eclipse.buildship.core.internal.launch.TestName;
+
+/**
+ * The result of a single test method stored in the {@link TestHistory}.
+ */
+public final class TestResult {
+
+    private final String className;
+    private final String methodName;
+    private final String displayName;
+    private final long duration;
+    private final OperationItem.Outcome outcome;
+    private final String failureDigest;
+
+    public TestResult(String className, String methodName, String displayName, long duration, OperationItem.Outcome outcome, String failureDigest) {
+        this.className = Preconditions.checkNotNull(className);
+        this.methodName = methodName;
+        this.displayName = Preconditions.checkNotNull(displayName);
+        this.duration = duration;
+        this.outcome = Preconditions.checkNotNull(outcome);
+        this.failureDigest = failureDigest;
+    }
+
+    public String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * @return the name of the test method or {@code null} if the test framework did not report it
+     */
+    public String getMethodName() {
+        return this.methodName;
+    }
+
+    public String getDisplayName() {
+        return this.displayName;
+    }
+
+    /**
+     * @return the duration of the test in milliseconds
+     */
+    public long getDuration() {
+        return this.duration;
+    }
+
+    public OperationItem.Outcome getOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * @return the first line of the failure message or {@code null} if the test did not fail
+     */
+    public String getFailureDigest() {
+        return this.failureDigest;
+    }
+
+    /**
+     * Returns the target to rerun the test with. The recorded method name is the name of the test
+     * execution, which for parameterized and unrolled tests (for example {@code foo[0]} or
+     * {@code foo [x: 1, #0]}) doesn't match any method of the test class. Therefore only the tests
+     * whose name is a Java identifier are rerun individually, the others rerun their whole class.
+     *
+     * @return the test target
+     */
+    public TestName toTestName() {
+        return TestName.from(this.className, isJavaIdentifier(this.methodName) ? this.methodName : null);
+    }
+
+    private static boolean isJavaIdentifier(String name) {
+        if (name == null || name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
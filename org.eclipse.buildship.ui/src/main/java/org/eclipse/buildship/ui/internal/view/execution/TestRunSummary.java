@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2019 the original author or authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.buildship.ui.internal.view.execution;
+
+import java.io.File;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Describes a build execution stored in the {@link TestHistory}. The test results themselves are
+ * only loaded on demand.
+ */
+public final class TestRunSummary {
+
+    private final String fileName;
+    private final String processName;
+    private final File rootProjectDirectory;
+    private final long startTime;
+    private final long endTime;
+    private final int testCount;
+    private final int failedTestCount;
+
+    public TestRunSummary(String fileName, String processName, File rootProjectDirectory, long startTime, long endTime, int testCount, int failedTestCount) {
+        this.fileName = Preconditions.checkNotNull(fileName);
+        this.processName = Preconditions.checkNotNull(processName);
+        this.rootProjectDirectory = Preconditions.checkNotNull(rootProjectDirectory);
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.testCount = testCount;
+        this.failedTestCount = failedTestCount;
+    }
+
+    /**
+     * @return the name of the file holding the test results, relative to the history directory
+     */
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    public String getProcessName() {
+        return this.processName;
+    }
+
+    public File getRootProjectDirectory() {
+        return this.rootProjectDirectory;
+    }
+
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    public long getEndTime() {
+        return this.endTime;
+    }
+
+    public int getTestCount() {
+        return this.testCount;
+    }
+
+    public int getFailedTestCount() {
+        return this.failedTestCount;
+    }
+
+}
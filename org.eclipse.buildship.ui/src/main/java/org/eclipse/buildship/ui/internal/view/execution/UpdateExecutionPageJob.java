@@ -11,14 +11,13 @@
 
 package org.eclipse.buildship.ui.internal.view.execution;
 
-import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.gradle.tooling.events.ProgressEvent;
 
-import com.google.common.collect.Lists;
-import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -28,12 +27,21 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 
 /**
- * Updates the duration of the registered {@link OperationItem} instances in the
- * {@link ExecutionsView} in regular intervals.
+ * Applies the received progress events to the {@link ExecutionPage} and updates the duration of the
+ * running operations in regular intervals.
+ * <p/>
+ * The events are collected into an {@link ExecutionPageDelta} in this job, and the delta is applied
+ * asynchronously in the UI thread. At most one update is pending at any time; the events received
+ * in the meantime are merged into the next delta. The interval between the updates adapts to the
+ * time the UI thread needs to apply them, so a busy UI thread receives fewer, larger updates.
  */
 public final class UpdateExecutionPageJob extends Job {
 
-    private static final double MAX_UPDATES_PER_SECOND = 10.0;
+    private static final long MIN_UPDATE_INTERVAL_MILLIS = 100;
+    private static final long MAX_UPDATE_INTERVAL_MILLIS = 1000;
+
+    // the updates should take at most a fraction of the UI thread's time
+    private static final int UI_LOAD_FACTOR = 5;
 
     private final ExecutionPage page;
     private final BlockingQueue<ProgressEvent> queue = new LinkedBlockingQueue<>();
@@ -52,46 +60,89 @@ public final class UpdateExecutionPageJob extends Job {
 
     @Override
     protected IStatus run(IProgressMonitor monitor) {
-        RateLimiter rateLimiter = RateLimiter.create(MAX_UPDATES_PER_SECOND);
-        while(this.running || !this.queue.isEmpty()) {
-            rateLimiter.acquire();
-
-            List<ProgressEvent> events = Lists.newArrayList();
-            this.queue.drainTo(events);
+        Display display = PlatformUI.getWorkbench().getDisplay();
+        ExecutionPageDelta delta = new ExecutionPageDelta();
+        UpdateExecutionPageContent pendingUpdate = null;
+        long interval = MIN_UPDATE_INTERVAL_MILLIS;
+
+        while (!display.isDisposed()) {
+            // read the flag before draining the queue so that no event is left behind
+            boolean finished = !this.running;
+            ProgressEvent event;
+            while ((event = this.queue.poll()) != null) {
+                delta.add(event);
+            }
 
-            Display display = PlatformUI.getWorkbench().getDisplay();
-            if (!display.isDisposed()) {
-                display.syncExec(new UpdateExecutionPageContent(this.page, events));
+            if (pendingUpdate == null || pendingUpdate.isDone()) {
+                if (pendingUpdate != null) {
+                    interval = pendingUpdate.nextInterval();
+                }
+                pendingUpdate = new UpdateExecutionPageContent(this.page, delta);
+                delta = new ExecutionPageDelta();
+                display.asyncExec(pendingUpdate);
+                if (finished) {
+                    awaitUpdate(display, pendingUpdate);
+                    break;
+                }
             }
+
+            Uninterruptibles.sleepUninterruptibly(finished ? MIN_UPDATE_INTERVAL_MILLIS : interval, TimeUnit.MILLISECONDS);
         }
 
         return Status.OK_STATUS;
     }
 
+    private static void awaitUpdate(Display display, UpdateExecutionPageContent update) {
+        // the job only finishes when the page shows all operations
+        while (!update.isDone() && !display.isDisposed()) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+    }
+
     public void stop() {
         this.running = false;
     }
 
     /**
-     * UI job to refresh active items in the viewer.
+     * UI job to apply a delta and to refresh the running items in the viewer.
      */
     private static class UpdateExecutionPageContent implements Runnable {
         private final ExecutionPage page;
-        private final List<ProgressEvent> events;
+        private final ExecutionPageDelta delta;
+        private final long scheduledAt;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+        private volatile boolean done;
 
-        public UpdateExecutionPageContent(ExecutionPage page, List<ProgressEvent> events) {
+        public UpdateExecutionPageContent(ExecutionPage page, ExecutionPageDelta delta) {
             this.page = page;
-            this.events = events;
+            this.delta = delta;
+            this.scheduledAt = System.nanoTime();
         }
 
         @Override
         public void run() {
-            if (!this.page.getPageControl().isDisposed()) {
-                for(ProgressEvent event : this.events) {
-                    this.page.onProgress(event);
+            this.startedAt = System.nanoTime();
+            try {
+                if (!this.page.getPageControl().isDisposed()) {
+                    this.page.update(this.delta);
                 }
-                this.page.refreshChangedItems();
+            } finally {
+                this.finishedAt = System.nanoTime();
+                this.done = true;
             }
         }
+
+        boolean isDone() {
+            return this.done;
+        }
+
+        long nextInterval() {
+            // the time spent in the UI thread queue is also a sign of a busy UI thread
+            long waitingMillis = TimeUnit.NANOSECONDS.toMillis(this.startedAt - this.scheduledAt);
+            long executionMillis = TimeUnit.NANOSECONDS.toMillis(this.finishedAt - this.startedAt);
+            long interval = waitingMillis + UI_LOAD_FACTOR * executionMillis;
+            return Math.max(MIN_UPDATE_INTERVAL_MILLIS, Math.min(MAX_UPDATE_INTERVAL_MILLIS, interval));
+        }
     }
-}
\ No newline at end of file
+}
@@ -26,6 +26,7 @@ import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.GradleCore;
 import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
 import org.eclipse.buildship.core.internal.util.collections.AdapterFunction;
+import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
 import org.eclipse.buildship.core.internal.workspace.NewProjectHandler;
 import org.eclipse.buildship.core.internal.workspace.SynchronizationJob;
 
@@ -75,6 +76,6 @@ public class AddBuildshipNatureHandler extends AbstractHandler {
             gradleBuilds.add(GradleCore.getWorkspace().createBuild(buildConfig));
         }
 
-        new SynchronizationJob(NewProjectHandler.IMPORT_AND_MERGE, gradleBuilds).schedule();
+        new SynchronizationJob(NewProjectHandler.IMPORT_AND_MERGE, FetchStrategy.FORCE_RELOAD, gradleBuilds).schedule();
     }
 }
@@ -33,6 +33,7 @@ import org.eclipse.ui.part.FileEditorInput;
 import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.GradleCore;
 import org.eclipse.buildship.core.internal.util.collections.AdapterFunction;
+import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
 import org.eclipse.buildship.core.internal.workspace.NewProjectHandler;
 import org.eclipse.buildship.core.internal.workspace.SynchronizationJob;
 
@@ -55,7 +56,7 @@ public final class ProjectSynchronizer {
             GradleCore.getWorkspace().getBuild(project).ifPresent(gradleBuild -> gradleBuilds.add(gradleBuild));
         }
 
-        new SynchronizationJob(NewProjectHandler.IMPORT_AND_MERGE, gradleBuilds).schedule();
+        new SynchronizationJob(NewProjectHandler.IMPORT_AND_MERGE, FetchStrategy.FORCE_RELOAD, gradleBuilds).schedule();
     }
 
     private static Set<IProject> collectSelectedProjects(ExecutionEvent event) {